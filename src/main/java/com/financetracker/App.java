@@ -1,5 +1,7 @@
 package com.financetracker;
 
+import com.financetracker.service.TransactionService;
+import com.financetracker.ui.LoadingWindow;
 import com.financetracker.ui.MainFrame;
 
 import javax.swing.*;
@@ -20,9 +22,15 @@ public class App {
             dataDir.mkdir();
         }
 
+        // Transaksi dimuat di thread main; progresnya ditampilkan di EDT
+        LoadingWindow loadingWindow = new LoadingWindow();
+        loadingWindow.show();
+        TransactionService transactionService = new TransactionService(loadingWindow);
+
         // Jalankan GUI di Event Dispatch Thread (EDT)
         SwingUtilities.invokeLater(() -> {
-            MainFrame frame = new MainFrame();
+            loadingWindow.close();
+            MainFrame frame = new MainFrame(transactionService);
             frame.setVisible(true);
         });
     }
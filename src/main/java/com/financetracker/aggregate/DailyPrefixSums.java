@@ -0,0 +1,119 @@
+package com.financetracker.aggregate;
+
+import com.financetracker.aggregate.RollupCube.Granularity;
+import com.financetracker.model.Category;
+import com.financetracker.model.TransactionType;
+
+/**
+ * Jumlah kumulatif per hari untuk setiap kategori × tipe, total per tipe, dan banyaknya
+ * transaksi, dari hari transaksi pertama sampai terakhir.
+ *
+ * Total rentang [fromDay, toDay] = prefix(toDay) - prefix(fromDay - 1), jadi O(1) berapa pun
+ * panjang rentangnya; jendela bergulir untuk setiap hari di satu rentang dihitung linear
+ * ({@link #rolling}). Dibangun sekali dari level hari {@link RollupCube} dalam
+ * O(hari × sel) dan tidak diubah lagi; {@link com.financetracker.model.TransactionStore}
+ * membangunnya ulang bila {@link PeriodVersions} sudah berubah.
+ */
+public final class DailyPrefixSums {
+
+    private static final int CATEGORIES = Category.values().length;
+    private static final int TYPES = TransactionType.values().length;
+    private static final int CELLS = CATEGORIES * TYPES;
+    /** Kolom per hari: sel kategori × tipe, total per tipe, lalu banyaknya transaksi */
+    private static final int WIDTH = CELLS + TYPES + 1;
+    private static final int COUNT = CELLS + TYPES;
+
+    private final int firstDay;
+    private final int days;
+    private final long version;
+    /** Baris 0 = nol; baris i = kumulatif sampai hari firstDay + i - 1 */
+    private final long[] prefix;
+
+    private DailyPrefixSums(int firstDay, int days, long version) {
+        this.firstDay = firstDay;
+        this.days = days;
+        this.version = version;
+        this.prefix = new long[(days + 1) * WIDTH];
+    }
+
+    /**
+     * @param version versi data ({@link PeriodVersions#current()}) yang diwakili
+     */
+    public static DailyPrefixSums build(RollupCube cube, int firstDay, int lastDay, long version) {
+        DailyPrefixSums sums = new DailyPrefixSums(firstDay, lastDay - firstDay + 1, version);
+        long[] prefix = sums.prefix;
+        for (int i = 1; i <= sums.days; i++) {
+            int row = i * WIDTH;
+            System.arraycopy(prefix, row - WIDTH, prefix, row, WIDTH);
+            long[] block = cube.block(Granularity.DAY, firstDay + i - 1);
+            if (block == null) continue;
+            for (int cell = 0; cell < CELLS; cell++) {
+                prefix[row + cell] += block[cell];
+                prefix[row + CELLS + cell % TYPES] += block[cell];
+                prefix[row + COUNT] += block[CELLS + cell];
+            }
+        }
+        return sums;
+    }
+
+    public static DailyPrefixSums empty(long version) {
+        return new DailyPrefixSums(0, 0, version);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /** Banyaknya baris kumulatif sampai akhir epochDay (0..days) */
+    private int rowAfter(long epochDay) {
+        return (int) Math.max(0, Math.min(days, epochDay - firstDay + 1));
+    }
+
+    private long range(int fromDay, int toDay, int column) {
+        int end = rowAfter(toDay);
+        int start = rowAfter((long) fromDay - 1);
+        return end <= start ? 0 : prefix[end * WIDTH + column] - prefix[start * WIDTH + column];
+    }
+
+    // ============================================================
+    //                      PEMBACAAN
+    // ============================================================
+
+    /** Total (sen) satu tipe di [fromDay, toDay] */
+    public long sum(int fromDay, int toDay, TransactionType type) {
+        return range(fromDay, toDay, CELLS + type.ordinal());
+    }
+
+    public long sum(int fromDay, int toDay, Category category, TransactionType type) {
+        return range(fromDay, toDay, category.ordinal() * TYPES + type.ordinal());
+    }
+
+    /** Total (sen) per kategori (indeks = ordinal) untuk satu tipe di [fromDay, toDay] */
+    public long[] sumByCategory(int fromDay, int toDay, TransactionType type) {
+        long[] totals = new long[CATEGORIES];
+        for (int c = 0; c < CATEGORIES; c++) {
+            totals[c] = range(fromDay, toDay, c * TYPES + type.ordinal());
+        }
+        return totals;
+    }
+
+    public long count(int fromDay, int toDay) {
+        return range(fromDay, toDay, COUNT);
+    }
+
+    /**
+     * Total bergulir: elemen ke-i = total satu tipe pada {@code window} hari yang berakhir
+     * di fromDay + i, untuk setiap hari di [fromDay, toDay]. Linear dalam panjang rentang.
+     */
+    public long[] rolling(int fromDay, int toDay, int window, TransactionType type) {
+        if (window < 1) {
+            throw new IllegalArgumentException("Panjang jendela harus positif: " + window);
+        }
+        long[] totals = new long[Math.max(0, toDay - fromDay + 1)];
+        for (int i = 0; i < totals.length; i++) {
+            int day = fromDay + i;
+            totals[i] = sum(day - window + 1, day, type);
+        }
+        return totals;
+    }
+}
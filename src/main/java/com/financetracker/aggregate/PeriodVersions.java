@@ -0,0 +1,120 @@
+package com.financetracker.aggregate;
+
+/**
+ * Versi data per hari: penghitung global yang naik setiap mutasi, plus versi terakhir
+ * setiap hari yang pernah berubah. Hasil turunan (misalnya laporan yang di-cache) cukup
+ * menyimpan {@link #current()} saat dibuat, lalu {@link #changedSince} menjawab apakah
+ * rentang tanggalnya tersentuh sejak itu; mutasi di luar rentang tidak membatalkannya.
+ *
+ * Versi per hari disimpan dalam halaman {@code long[]} berisi {@value #PAGE_SIZE} hari
+ * (tanpa boxing), dialokasikan hanya untuk halaman yang pernah berubah; setiap halaman
+ * juga mencatat versi terbesarnya sehingga rentang panjang cukup dicek per halaman.
+ * Memori sebanding rentang tanggal yang tersentuh, bukan jumlah mutasi, dan dilepas
+ * oleh {@link #clear()}.
+ *
+ * Tidak thread-safe; dipelihara oleh {@link com.financetracker.model.TransactionStore}.
+ */
+public class PeriodVersions {
+
+    private static final int PAGE_SHIFT = 6;
+    static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private long version;
+    /** Versi saat seluruh data terakhir dikosongkan */
+    private long clearedAt;
+    /** Nomor halaman (epochDay >> PAGE_SHIFT) yang diwakili pages[0] */
+    private int firstPage;
+    /** Versi mutasi terakhir per hari; null = tidak ada hari di halaman itu yang pernah berubah */
+    private long[][] pages = new long[0][];
+    /** Versi terbesar per halaman */
+    private long[] pageMax = new long[0];
+
+    public long current() {
+        return version;
+    }
+
+    /** Mencatat satu mutasi (tambah atau hapus) pada hari tertentu */
+    public void touch(int epochDay) {
+        version++;
+        mark(epochDay);
+    }
+
+    /**
+     * Mencatat satu mutasi massal (misal pemuatan atau impor) yang menyentuh hari-hari
+     * {@code epochDays[0..count)}: versi hanya naik sekali untuk seluruh batch.
+     */
+    public void touchAll(int[] epochDays, int count) {
+        if (count == 0) return;
+        version++;
+        for (int i = 0; i < count; i++) {
+            mark(epochDays[i]);
+        }
+    }
+
+    public void clear() {
+        version++;
+        clearedAt = version;
+        firstPage = 0;
+        pages = new long[0][];
+        pageMax = new long[0];
+    }
+
+    /**
+     * @return true bila ada mutasi di [fromDay, toDay] setelah versi {@code since}
+     */
+    public boolean changedSince(long since, int fromDay, int toDay) {
+        if (since == version) return false;
+        if (clearedAt > since) return true;
+        if (pages.length == 0 || fromDay > toDay) return false;
+
+        int fromPage = Math.max(fromDay >> PAGE_SHIFT, firstPage);
+        int toPage = Math.min(toDay >> PAGE_SHIFT, firstPage + pages.length - 1);
+        for (int page = fromPage; page <= toPage; page++) {
+            int p = page - firstPage;
+            if (pageMax[p] <= since) continue;
+            int pageStart = page << PAGE_SHIFT;
+            int first = Math.max(fromDay, pageStart);
+            int last = Math.min(toDay, pageStart + PAGE_MASK);
+            if (first == pageStart && last == pageStart + PAGE_MASK) return true;
+            for (int day = first; day <= last; day++) {
+                if (pages[p][day & PAGE_MASK] > since) return true;
+            }
+        }
+        return false;
+    }
+
+    private void mark(int epochDay) {
+        int p = pageIndex(epochDay >> PAGE_SHIFT);
+        if (pages[p] == null) pages[p] = new long[PAGE_SIZE];
+        pages[p][epochDay & PAGE_MASK] = version;
+        pageMax[p] = version;
+    }
+
+    /** Posisi halaman di {@link #pages}, memperbesar array (paling sedikit dua kali lipat) bila perlu */
+    private int pageIndex(int page) {
+        if (pages.length == 0) {
+            firstPage = page;
+            pages = new long[1][];
+            pageMax = new long[1];
+        } else if (page < firstPage) {
+            int grow = Math.max(firstPage - page, pages.length);
+            resize(firstPage - grow, pages.length + grow);
+        } else if (page >= firstPage + pages.length) {
+            int grow = Math.max(page - firstPage - pages.length + 1, pages.length);
+            resize(firstPage, pages.length + grow);
+        }
+        return page - firstPage;
+    }
+
+    private void resize(int newFirstPage, int length) {
+        long[][] grownPages = new long[length][];
+        long[] grownMax = new long[length];
+        int offset = firstPage - newFirstPage;
+        System.arraycopy(pages, 0, grownPages, offset, pages.length);
+        System.arraycopy(pageMax, 0, grownMax, offset, pageMax.length);
+        pages = grownPages;
+        pageMax = grownMax;
+        firstPage = newFirstPage;
+    }
+}
@@ -0,0 +1,205 @@
+package com.financetracker.aggregate;
+
+import com.financetracker.aggregate.RollupCube.Granularity;
+import com.financetracker.model.TransactionStore;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Mesin agregasi laporan: menghasilkan {@link ReportSummary} untuk rentang tanggal.
+ *
+ * Dua sumber dengan hasil identik:
+ * - {@link #scan}: satu lintasan atas kolom segmen store; filter tanggal, tombstone,
+ *   total per kategori × tipe dan rincian sub-periode dihitung sekaligus per baris.
+ * - {@link #fromRollup}: rentang dipecah menjadi potongan tahun/bulan/hari penuh dan
+ *   setiap potongan dibaca sebagai satu blok sel {@link RollupCube}.
+ * {@link #summarize} memilih yang lebih murah: jumlah potongan kubus dibandingkan
+ * jumlah baris di rentang (dihitung lewat indeks tanggal).
+ *
+ * Lintasan bisa dipecah per rentang segmen ({@link #parallelScan}): setiap potongan
+ * mengisi ringkasannya sendiri lalu digabung dengan {@link ReportSummary#merge}.
+ * {@link #summarize} memakainya bila dipanggil dari dalam {@link ForkJoinPool} dengan
+ * paralelisme &gt; 1; store di bawah {@value #PARALLEL_THRESHOLD} baris tetap dilintasi sekuensial.
+ */
+public final class ReportAggregator {
+
+    /** Di bawah jumlah baris ini lintasan tetap sekuensial (biaya fork/merge lebih besar dari hasilnya) */
+    public static final int PARALLEL_THRESHOLD = 1 << 18;
+    /** Ukuran potongan terkecil tugas paralel, dalam segmen store */
+    static final int SEGMENTS_PER_TASK = 16;
+
+    private ReportAggregator() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * @param breakdown granularitas rincian sub-periode, atau null tanpa rincian
+     */
+    public static ReportSummary summarize(TransactionStore store, int fromDay, int toDay, Granularity breakdown) {
+        long[] tiles = tiles(fromDay, toDay, breakdown);
+        if (tiles.length < store.countRows(fromDay, toDay)) {
+            return fromRollup(store.rollup(), fromDay, toDay, breakdown, tiles);
+        }
+        // Lintasan membaca seluruh store, jadi ikut mode eksekusi pemanggil
+        if (ForkJoinTask.inForkJoinPool() && ForkJoinTask.getPool().getParallelism() > 1) {
+            return parallelScan(store, fromDay, toDay, breakdown);
+        }
+        return scan(store, fromDay, toDay, breakdown);
+    }
+
+    // ============================================================
+    //                      SATU LINTASAN
+    // ============================================================
+
+    public static ReportSummary scan(TransactionStore store, int fromDay, int toDay, Granularity breakdown) {
+        ReportSummary summary = new ReportSummary(fromDay, toDay, breakdown);
+        scanSegments(store, 0, store.segmentCount(), summary, bucketTable(summary));
+        return summary;
+    }
+
+    /**
+     * Lintasan yang sama, dipecah per rentang segmen menjadi tugas fork-join. Tugas berjalan
+     * di pool pemanggil (atau common pool bila dipanggil dari luar pool); store tidak boleh
+     * diubah selama lintasan. Store di bawah {@value #PARALLEL_THRESHOLD} baris dilintasi sekuensial.
+     */
+    public static ReportSummary parallelScan(TransactionStore store, int fromDay, int toDay, Granularity breakdown) {
+        if (store.size() < PARALLEL_THRESHOLD) {
+            return scan(store, fromDay, toDay, breakdown);
+        }
+        ReportSummary template = new ReportSummary(fromDay, toDay, breakdown);
+        return new ScanTask(store, 0, store.segmentCount(), template, bucketTable(template)).invoke();
+    }
+
+    /** Membelah rentang segmen sampai {@link #SEGMENTS_PER_TASK}, lalu menggabung ringkasan kedua belahan */
+    private static final class ScanTask extends RecursiveTask<ReportSummary> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient TransactionStore store;
+        private final int fromSegment;
+        private final int toSegment;
+        private final transient ReportSummary template;
+        /** Dibagikan read-only ke semua potongan */
+        private final int[] bucketTable;
+
+        ScanTask(TransactionStore store, int fromSegment, int toSegment, ReportSummary template, int[] bucketTable) {
+            this.store = store;
+            this.fromSegment = fromSegment;
+            this.toSegment = toSegment;
+            this.template = template;
+            this.bucketTable = bucketTable;
+        }
+
+        @Override
+        protected ReportSummary compute() {
+            if (toSegment - fromSegment <= SEGMENTS_PER_TASK) {
+                ReportSummary summary = new ReportSummary(template.getFromDay(), template.getToDay(),
+                        template.getBreakdown());
+                scanSegments(store, fromSegment, toSegment, summary, bucketTable);
+                return summary;
+            }
+            int middle = (fromSegment + toSegment) >>> 1;
+            ScanTask left = new ScanTask(store, fromSegment, middle, template, bucketTable);
+            left.fork();
+            ReportSummary right = new ScanTask(store, middle, toSegment, template, bucketTable).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * Sub-periode setiap hari di rentang (indeks = hari - fromDay), agar lintasan tidak
+     * menghitung tanggal kalender per baris; null tanpa rincian.
+     */
+    static int[] bucketTable(ReportSummary summary) {
+        if (summary.getBreakdown() == null) return null;
+        int fromDay = summary.getFromDay();
+        int[] table = new int[summary.getToDay() - fromDay + 1];
+        for (int i = 0; i < table.length; i++) {
+            table[i] = summary.bucketIndex(fromDay + i);
+        }
+        return table;
+    }
+
+    /**
+     * Menambahkan baris hidup di segmen [fromSegment, toSegment) yang tanggalnya ada di rentang ringkasan.
+     */
+    static void scanSegments(TransactionStore store, int fromSegment, int toSegment, ReportSummary summary,
+                             int[] bucketTable) {
+        int fromDay = summary.getFromDay();
+        int toDay = summary.getToDay();
+        for (int s = fromSegment; s < toSegment; s++) {
+            TransactionStore.Segment segment = store.segmentAt(s);
+            int[] days = segment.epochDays();
+            long[] amounts = segment.amounts();
+            byte[] types = segment.types();
+            byte[] categories = segment.categories();
+            boolean checkDeletes = segment.hasDeletes();
+            int length = segment.length();
+            for (int i = 0; i < length; i++) {
+                int day = days[i];
+                if (day < fromDay || day > toDay || (checkDeletes && segment.isDeleted(i))) continue;
+                summary.accept(categories[i], types[i], amounts[i], bucketTable == null ? 0 : bucketTable[day - fromDay]);
+            }
+        }
+    }
+
+    // ============================================================
+    //                      DARI KUBUS ROLLUP
+    // ============================================================
+
+    public static ReportSummary fromRollup(RollupCube cube, int fromDay, int toDay, Granularity breakdown) {
+        return fromRollup(cube, fromDay, toDay, breakdown, tiles(fromDay, toDay, breakdown));
+    }
+
+    private static ReportSummary fromRollup(RollupCube cube, int fromDay, int toDay, Granularity breakdown,
+                                            long[] tiles) {
+        ReportSummary summary = new ReportSummary(fromDay, toDay, breakdown);
+        Granularity[] granularities = Granularity.values();
+        for (long tile : tiles) {
+            int firstDay = (int) (tile >> 34);
+            Granularity granularity = granularities[(int) (tile >>> 32) & 3];
+            long[] block = cube.block(granularity, (int) tile);
+            if (block != null) {
+                summary.acceptBlock(block, summary.bucketIndex(firstDay));
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * Memecah rentang menjadi potongan periode penuh, sekasar mungkin tanpa melewati batas
+     * sub-periode rincian. Setiap potongan dikemas: hari pertama (30 bit atas), ordinal
+     * granularitas (2 bit), kunci periode (32 bit bawah).
+     */
+    static long[] tiles(int fromDay, int toDay, Granularity breakdown) {
+        boolean months = breakdown == null || breakdown != Granularity.DAY;
+        boolean years = breakdown == null || breakdown == Granularity.YEAR;
+        long[] tiles = new long[16];
+        int n = 0;
+        int day = fromDay;
+        while (day <= toDay) {
+            LocalDate date = LocalDate.ofEpochDay(day);
+            Granularity granularity = Granularity.DAY;
+            int next = day + 1;
+            if (date.getDayOfMonth() == 1) {
+                int yearEnd = (int) date.withDayOfYear(date.lengthOfYear()).toEpochDay();
+                int monthEnd = (int) date.withDayOfMonth(date.lengthOfMonth()).toEpochDay();
+                if (years && date.getDayOfYear() == 1 && yearEnd <= toDay) {
+                    granularity = Granularity.YEAR;
+                    next = yearEnd + 1;
+                } else if (months && monthEnd <= toDay) {
+                    granularity = Granularity.MONTH;
+                    next = monthEnd + 1;
+                }
+            }
+            if (n == tiles.length) tiles = Arrays.copyOf(tiles, n * 2);
+            tiles[n++] = ((long) day << 34) | ((long) granularity.ordinal() << 32)
+                    | (granularity.bucketOf(date) & 0xFFFFFFFFL);
+            day = next;
+        }
+        return Arrays.copyOf(tiles, n);
+    }
+}
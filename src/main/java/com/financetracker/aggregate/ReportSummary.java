@@ -0,0 +1,158 @@
+package com.financetracker.aggregate;
+
+import com.financetracker.aggregate.RollupCube.Granularity;
+import com.financetracker.model.Category;
+import com.financetracker.model.TransactionType;
+
+import java.time.LocalDate;
+
+/**
+ * Semua angka yang dibutuhkan laporan untuk rentang [fromDay, toDay], dalam akumulator
+ * primitif yang diindeks ordinal enum: jumlah (sen) dan banyaknya transaksi per
+ * kategori × tipe, plus rincian per sub-periode (hari/bulan/tahun) × tipe bila diminta.
+ *
+ * Diisi oleh {@link ReportAggregator}, baik dari satu lintasan atas kolom store maupun
+ * dari sel {@link RollupCube}; dua ringkasan rentang yang sama bisa digabung dengan
+ * {@link #merge(ReportSummary)}. Tidak thread-safe.
+ */
+public final class ReportSummary {
+
+    private static final int CATEGORIES = Category.values().length;
+    private static final int TYPES = TransactionType.values().length;
+    private static final int CELLS = CATEGORIES * TYPES;
+
+    private final int fromDay;
+    private final int toDay;
+    private final Granularity breakdown;
+    private final int firstBucket;
+    private final long[] sums = new long[CELLS];
+    private final long[] counts = new long[CELLS];
+    /** [sub-periode × TYPES + tipe]; kosong bila tanpa rincian */
+    private final long[] bucketSums;
+
+    /**
+     * @param breakdown granularitas rincian sub-periode, atau null tanpa rincian
+     */
+    public ReportSummary(int fromDay, int toDay, Granularity breakdown) {
+        if (toDay < fromDay) {
+            throw new IllegalArgumentException("Rentang tanggal terbalik: " + fromDay + " > " + toDay);
+        }
+        this.fromDay = fromDay;
+        this.toDay = toDay;
+        this.breakdown = breakdown;
+        if (breakdown == null) {
+            this.firstBucket = 0;
+            this.bucketSums = new long[0];
+        } else {
+            this.firstBucket = breakdown.bucketOf(LocalDate.ofEpochDay(fromDay));
+            int last = breakdown.bucketOf(LocalDate.ofEpochDay(toDay));
+            this.bucketSums = new long[(last - firstBucket + 1) * TYPES];
+        }
+    }
+
+    // ============================================================
+    //                      AKUMULASI
+    // ============================================================
+
+    /**
+     * Menambahkan satu transaksi; pemanggil memastikan tanggal ada di dalam rentang.
+     *
+     * @param bucket indeks sub-periode relatif (lihat {@link #bucketIndex(int)}); diabaikan tanpa rincian
+     */
+    void accept(int category, int type, long amountMinor, int bucket) {
+        int cell = category * TYPES + type;
+        sums[cell] += amountMinor;
+        counts[cell]++;
+        if (breakdown != null) {
+            bucketSums[bucket * TYPES + type] += amountMinor;
+        }
+    }
+
+    /** Menambahkan satu blok sel kubus (kategori × tipe, lalu hitungan) untuk satu sub-periode */
+    void acceptBlock(long[] block, int bucket) {
+        for (int cell = 0; cell < CELLS; cell++) {
+            sums[cell] += block[cell];
+            counts[cell] += block[CELLS + cell];
+            if (breakdown != null) {
+                bucketSums[bucket * TYPES + cell % TYPES] += block[cell];
+            }
+        }
+    }
+
+    /** Indeks sub-periode relatif terhadap awal rentang */
+    int bucketIndex(int epochDay) {
+        return breakdown == null ? 0 : breakdown.bucketOf(LocalDate.ofEpochDay(epochDay)) - firstBucket;
+    }
+
+    /**
+     * Menggabungkan ringkasan lain untuk rentang dan rincian yang sama (misalnya hasil
+     * potongan data yang diproses terpisah).
+     */
+    public ReportSummary merge(ReportSummary other) {
+        if (other.fromDay != fromDay || other.toDay != toDay || other.breakdown != breakdown) {
+            throw new IllegalArgumentException("Ringkasan dengan rentang atau rincian berbeda tidak bisa digabung.");
+        }
+        for (int cell = 0; cell < CELLS; cell++) {
+            sums[cell] += other.sums[cell];
+            counts[cell] += other.counts[cell];
+        }
+        for (int i = 0; i < bucketSums.length; i++) {
+            bucketSums[i] += other.bucketSums[i];
+        }
+        return this;
+    }
+
+    // ============================================================
+    //                      PEMBACAAN
+    // ============================================================
+
+    public int getFromDay() { return fromDay; }
+    public int getToDay() { return toDay; }
+    public Granularity getBreakdown() { return breakdown; }
+
+    /** Total (sen) satu tipe */
+    public long sum(TransactionType type) {
+        long total = 0;
+        for (int c = 0; c < CATEGORIES; c++) {
+            total += sums[c * TYPES + type.ordinal()];
+        }
+        return total;
+    }
+
+    public long sum(Category category, TransactionType type) {
+        return sums[category.ordinal() * TYPES + type.ordinal()];
+    }
+
+    /** Total (sen) per kategori (indeks = ordinal) untuk satu tipe */
+    public long[] sumByCategory(TransactionType type) {
+        long[] totals = new long[CATEGORIES];
+        for (int c = 0; c < CATEGORIES; c++) {
+            totals[c] = sums[c * TYPES + type.ordinal()];
+        }
+        return totals;
+    }
+
+    public long count() {
+        long total = 0;
+        for (long count : counts) total += count;
+        return total;
+    }
+
+    public long count(Category category, TransactionType type) {
+        return counts[category.ordinal() * TYPES + type.ordinal()];
+    }
+
+    public boolean isEmpty() {
+        return count() == 0;
+    }
+
+    /** Banyaknya sub-periode rincian (0 tanpa rincian) */
+    public int bucketCount() {
+        return bucketSums.length / TYPES;
+    }
+
+    /** Total (sen) satu tipe pada sub-periode ke-i (0 = sub-periode yang memuat fromDay) */
+    public long bucketSum(int bucket, TransactionType type) {
+        return bucketSums[bucket * TYPES + type.ordinal()];
+    }
+}
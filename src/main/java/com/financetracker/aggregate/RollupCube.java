@@ -0,0 +1,142 @@
+package com.financetracker.aggregate;
+
+import com.financetracker.model.Category;
+import com.financetracker.model.TransactionType;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Kubus rollup: total berjalan per (periode, kategori, tipe) pada granularitas hari,
+ * bulan dan tahun, berisi jumlah dalam sen dan banyaknya transaksi.
+ *
+ * Diperbarui O(1) setiap kali baris ditambah atau dihapus (satu sel di setiap level),
+ * sehingga laporan cukup membaca sel: laporan tahunan membaca 12 bulan × kategori,
+ * bukan men-scan riwayat. Setiap periode punya satu blok {@code long[]} berisi sel
+ * kategori × tipe. Tidak thread-safe; dipelihara oleh
+ * {@link com.financetracker.model.TransactionStore}.
+ */
+public class RollupCube {
+
+    /**
+     * Granularitas periode. Kunci periode: DAY = epoch day, MONTH = tahun × 12 + bulan - 1,
+     * YEAR = tahun.
+     */
+    public enum Granularity {
+        DAY, MONTH, YEAR;
+
+        public int bucketOf(LocalDate date) {
+            switch (this) {
+                case DAY: return (int) date.toEpochDay();
+                case MONTH: return date.getYear() * 12 + date.getMonthValue() - 1;
+                default: return date.getYear();
+            }
+        }
+    }
+
+    private static final int CATEGORIES = Category.values().length;
+    private static final int TYPES = TransactionType.values().length;
+    private static final int CELLS = CATEGORIES * TYPES;
+
+    /** Per granularitas: kunci periode → [jumlah per sel..., banyak transaksi per sel...] */
+    private final Map<Granularity, Map<Integer, long[]>> levels = new EnumMap<>(Granularity.class);
+
+    public RollupCube() {
+        for (Granularity granularity : Granularity.values()) {
+            levels.put(granularity, new HashMap<>());
+        }
+    }
+
+    private static int cell(int category, int type) {
+        return category * TYPES + type;
+    }
+
+    /** Blok sel satu periode (lihat {@link ReportSummary#acceptBlock}), null bila kosong; jangan diubah */
+    long[] block(Granularity granularity, int bucket) {
+        return levels.get(granularity).get(bucket);
+    }
+
+    // ============================================================
+    //                      MUTASI
+    // ============================================================
+
+    /**
+     * @param category ordinal {@link Category}
+     * @param type     ordinal {@link TransactionType}
+     */
+    public void add(int epochDay, int category, int type, long amountMinor) {
+        update(epochDay, cell(category, type), amountMinor, 1);
+    }
+
+    public void remove(int epochDay, int category, int type, long amountMinor) {
+        update(epochDay, cell(category, type), -amountMinor, -1);
+    }
+
+    private void update(int epochDay, int cell, long amountMinor, int count) {
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        for (Granularity granularity : Granularity.values()) {
+            long[] block = levels.get(granularity)
+                    .computeIfAbsent(granularity.bucketOf(date), b -> new long[CELLS * 2]);
+            block[cell] += amountMinor;
+            block[CELLS + cell] += count;
+        }
+    }
+
+    public void clear() {
+        for (Map<Integer, long[]> level : levels.values()) {
+            level.clear();
+        }
+    }
+
+    // ============================================================
+    //                      PEMBACAAN
+    // ============================================================
+
+    /** Total (sen) satu tipe dalam satu periode, seluruh kategori */
+    public long sum(Granularity granularity, int bucket, TransactionType type) {
+        long[] block = block(granularity, bucket);
+        if (block == null) return 0;
+        long total = 0;
+        for (int c = 0; c < CATEGORIES; c++) {
+            total += block[cell(c, type.ordinal())];
+        }
+        return total;
+    }
+
+    /** Total (sen) satu kategori dan tipe dalam satu periode */
+    public long sum(Granularity granularity, int bucket, Category category, TransactionType type) {
+        long[] block = block(granularity, bucket);
+        return block == null ? 0 : block[cell(category.ordinal(), type.ordinal())];
+    }
+
+    /** Total (sen) per kategori (indeks = ordinal) untuk satu tipe dalam satu periode */
+    public long[] sumByCategory(Granularity granularity, int bucket, TransactionType type) {
+        long[] totals = new long[CATEGORIES];
+        long[] block = block(granularity, bucket);
+        if (block != null) {
+            for (int c = 0; c < CATEGORIES; c++) {
+                totals[c] = block[cell(c, type.ordinal())];
+            }
+        }
+        return totals;
+    }
+
+    /** Banyaknya transaksi dalam satu periode */
+    public long count(Granularity granularity, int bucket) {
+        long[] block = block(granularity, bucket);
+        if (block == null) return 0;
+        long total = 0;
+        for (int cell = 0; cell < CELLS; cell++) {
+            total += block[CELLS + cell];
+        }
+        return total;
+    }
+
+    /** Banyaknya transaksi satu kategori dan tipe dalam satu periode */
+    public long count(Granularity granularity, int bucket, Category category, TransactionType type) {
+        long[] block = block(granularity, bucket);
+        return block == null ? 0 : block[CELLS + cell(category.ordinal(), type.ordinal())];
+    }
+}
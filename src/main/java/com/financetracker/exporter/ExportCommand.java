@@ -0,0 +1,74 @@
+package com.financetracker.exporter;
+
+import com.financetracker.model.Category;
+import com.financetracker.storage.StorageManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Ekspor transaksi tanpa UI.
+ *
+ * Penggunaan baris perintah (dari direktori aplikasi, yang memuat folder {@code data}):
+ * <pre>
+ * java -cp financetracker.jar com.financetracker.exporter.ExportCommand export.csv --from 2025-01-01 --to 2025-03-31
+ * java -cp financetracker.jar com.financetracker.exporter.ExportCommand - --format jsonl --category MAKANAN
+ * </pre>
+ * Tujuan {@code -} berarti stdout. Tanpa {@code --format}, format ditentukan dari ekstensi file.
+ */
+public class ExportCommand {
+
+    private static final Logger logger = Logger.getLogger(ExportCommand.class.getName());
+
+    private static final String USAGE = "Penggunaan: ExportCommand <file|-> [--format csv|jsonl] "
+            + "[--from yyyy-MM-dd] [--to yyyy-MM-dd] [--category NAMA]";
+
+    private ExportCommand() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static void main(String[] args) {
+        if (args.length == 0 || args.length % 2 == 0) {
+            logger.severe(USAGE);
+            System.exit(1);
+        }
+        try {
+            String target = args[0];
+            ExportFormat format = "-".equals(target) ? ExportFormat.CSV : ExportFormat.fromFileName(Paths.get(target));
+            Category category = null;
+            LocalDate from = null;
+            LocalDate to = null;
+            for (int i = 1; i < args.length; i += 2) {
+                String value = args[i + 1];
+                switch (args[i]) {
+                    case "--format" -> format = ExportFormat.parse(value);
+                    case "--from" -> from = LocalDate.parse(value);
+                    case "--to" -> to = LocalDate.parse(value);
+                    case "--category" -> category = Category.valueOf(value.toUpperCase(Locale.ROOT));
+                    default -> throw new IllegalArgumentException("Opsi tidak dikenal: " + args[i]);
+                }
+            }
+
+            TransactionExporter exporter = new TransactionExporter(format, category, from, to);
+            TransactionExporter.Source source = StorageManager.getInstance()::streamTransactions;
+            long count;
+            if ("-".equals(target)) {
+                count = exporter.export(source, System.out);
+            } else {
+                Path file = Paths.get(target);
+                count = exporter.export(source, file);
+            }
+            logger.log(Level.INFO, "{0} transaksi diekspor ke {1}", new Object[] {count, target});
+        } catch (IOException | IllegalArgumentException | DateTimeParseException e) {
+            logger.log(Level.SEVERE, "Ekspor gagal: " + e.getMessage(), e);
+            logger.severe(USAGE);
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.financetracker.exporter;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Format file ekspor transaksi.
+ */
+public enum ExportFormat {
+    /** Header {@code date,description,amount,type,category}; bisa diimpor kembali lewat TransactionImporter. */
+    CSV("csv"),
+    /** Satu objek JSON transaksi per baris. */
+    JSONL("jsonl");
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Membaca nama format ("csv", "jsonl"/"ndjson"), tidak peka huruf besar/kecil.
+     */
+    public static ExportFormat parse(String value) {
+        String name = value.trim().toLowerCase(Locale.ROOT);
+        if (name.equals("jsonl") || name.equals("ndjson")) return JSONL;
+        if (name.equals("csv")) return CSV;
+        throw new IllegalArgumentException("Format ekspor tidak dikenal: " + value);
+    }
+
+    /**
+     * Format berdasarkan ekstensi file; selain .jsonl/.ndjson dianggap CSV.
+     */
+    public static ExportFormat fromFileName(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        return name.endsWith(".jsonl") || name.endsWith(".ndjson") ? JSONL : CSV;
+    }
+}
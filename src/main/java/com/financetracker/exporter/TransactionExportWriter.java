@@ -0,0 +1,86 @@
+package com.financetracker.exporter;
+
+import com.financetracker.model.Transaction;
+import com.financetracker.storage.LocalDateAdapter;
+import com.financetracker.storage.TransactionSink;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Sink yang menulis setiap transaksi langsung ke {@link Writer} (tanpa list perantara).
+ *
+ * Kesalahan tulis dibungkus {@link UncheckedIOException} karena {@link TransactionSink}
+ * tidak boleh melempar checked exception; {@link TransactionExporter} membukanya kembali.
+ */
+public class TransactionExportWriter implements TransactionSink {
+
+    static final String CSV_HEADER = "date,description,amount,type,category";
+
+    private final Writer out;
+    private final ExportFormat format;
+    private final Gson gson;
+    private long count;
+
+    public TransactionExportWriter(Writer out, ExportFormat format) throws IOException {
+        this.out = out;
+        this.format = format;
+        this.gson = new GsonBuilder().registerTypeAdapter(LocalDate.class, new LocalDateAdapter()).create();
+        if (format == ExportFormat.CSV) {
+            out.write(CSV_HEADER);
+            out.write('\n');
+        }
+    }
+
+    @Override
+    public boolean accept(Transaction tx) {
+        try {
+            if (format == ExportFormat.CSV) {
+                writeCsv(tx);
+            } else {
+                gson.toJson(tx, Transaction.class, out);
+                out.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        count++;
+        return true;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    private void writeCsv(Transaction tx) throws IOException {
+        out.write(tx.getDate().toString());
+        out.write(',');
+        writeCsvField(tx.getDescription());
+        out.write(',');
+        // toPlainString: hindari notasi ilmiah seperti 1.0E7 dari Double.toString
+        out.write(BigDecimal.valueOf(tx.getAmount()).stripTrailingZeros().toPlainString());
+        out.write(',');
+        out.write(tx.getType().name());
+        out.write(',');
+        out.write(tx.getCategory().name());
+        out.write('\n');
+    }
+
+    private void writeCsvField(String value) throws IOException {
+        if (value == null) return;
+        boolean needsQuotes = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needsQuotes) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
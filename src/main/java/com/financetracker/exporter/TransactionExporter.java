@@ -0,0 +1,106 @@
+package com.financetracker.exporter;
+
+import com.financetracker.model.Category;
+import com.financetracker.model.Transaction;
+import com.financetracker.storage.AtomicFileWriter;
+import com.financetracker.storage.StorageManager;
+import com.financetracker.storage.TransactionSink;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Ekspor transaksi yang cocok dengan filter (kategori dan/atau rentang tanggal,
+ * sama seperti {@code TransactionService.filterTransactions}) secara streaming.
+ *
+ * Transaksi dibaca dari {@link Source} dan ditulis satu per satu, sehingga memori tidak
+ * bertambah sebesar hasil ekspor. Aplikasi memakai {@code TransactionService.exportSource},
+ * yang membaca bulan yang sudah dimuat dari snapshot store dan hanya bulan lainnya dari disk;
+ * {@link #export(Path)} (baris perintah) membaca snapshot + journal langsung. Keduanya
+ * aman dijalankan di thread latar belakang.
+ */
+public class TransactionExporter {
+
+    /**
+     * Sumber transaksi untuk rentang bulan [from, to] (batas null = terbuka).
+     */
+    @FunctionalInterface
+    public interface Source {
+        long stream(YearMonth from, YearMonth to, TransactionSink sink) throws IOException;
+    }
+
+    private final ExportFormat format;
+    private final Category category;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    /**
+     * @param category  null = semua kategori
+     * @param startDate null = tanpa batas bawah
+     * @param endDate   null = tanpa batas atas
+     */
+    public TransactionExporter(ExportFormat format, Category category, LocalDate startDate, LocalDate endDate) {
+        this.format = format;
+        this.category = category;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    public ExportFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Ekspor dari penyimpanan aplikasi ke file; file lama hanya diganti bila ekspor selesai.
+     *
+     * @return Jumlah transaksi yang diekspor
+     */
+    public long export(Path file) throws IOException {
+        return export(StorageManager.getInstance()::streamTransactions, file);
+    }
+
+    public long export(Source source, Path file) throws IOException {
+        long[] count = {0};
+        AtomicFileWriter.write(file, out -> count[0] = export(source, out));
+        return count[0];
+    }
+
+    /**
+     * Menulis ke stream sebagai UTF-8. Stream tidak ditutup.
+     */
+    public long export(Source source, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16);
+        long count = export(source, writer);
+        writer.flush();
+        return count;
+    }
+
+    /**
+     * Menulis ke writer. Writer tidak ditutup atau di-flush.
+     */
+    public long export(Source source, Writer out) throws IOException {
+        TransactionExportWriter writer = new TransactionExportWriter(out, format);
+        YearMonth from = startDate == null ? null : YearMonth.from(startDate);
+        YearMonth to = endDate == null ? null : YearMonth.from(endDate);
+        try {
+            source.stream(from, to, tx -> !matches(tx) || writer.accept(tx));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return writer.getCount();
+    }
+
+    private boolean matches(Transaction tx) {
+        return (category == null || tx.getCategory() == category)
+                && (startDate == null || !tx.getDate().isBefore(startDate))
+                && (endDate == null || !tx.getDate().isAfter(endDate));
+    }
+}
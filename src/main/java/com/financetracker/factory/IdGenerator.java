@@ -0,0 +1,30 @@
+package com.financetracker.factory;
+
+import java.util.UUID;
+
+/**
+ * Strategi pembuat id transaksi yang dipakai {@link TransactionFactory}.
+ *
+ * Implementasi harus thread-safe dan sebaiknya menghasilkan UUID berformat kanonik
+ * (huruf kecil), agar storage bisa menyimpannya sebagai dua long.
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    String nextId();
+
+    /**
+     * UUID acak versi 4 (perilaku lama). Memakai SecureRandom bersama, sehingga
+     * lambat dan saling berebut saat banyak thread membuat transaksi.
+     */
+    static IdGenerator randomUuid() {
+        return () -> UUID.randomUUID().toString();
+    }
+
+    /**
+     * Id urut waktu, lihat {@link TimeOrderedIdGenerator}.
+     */
+    static IdGenerator timeOrdered() {
+        return new TimeOrderedIdGenerator();
+    }
+}
@@ -0,0 +1,97 @@
+package com.financetracker.factory;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Pembuat id urut waktu bergaya ULID, dikodekan sebagai UUID versi 7 (RFC 9562):
+ * <pre>
+ * 48 bit  milidetik Unix
+ *  4 bit  versi (7)
+ * 30 bit  counter per thread (12 bit di bagian atas, 18 bit di bagian bawah)
+ *  2 bit  varian
+ * 44 bit  node acak per thread
+ * </pre>
+ *
+ * Setiap thread punya state sendiri (timestamp terakhir, counter, node), jadi tidak ada
+ * lock atau SecureRandom di jalur panas dan impor massal bisa berjalan paralel. Dalam satu
+ * thread id selalu naik, juga bila jam mundur; antar thread id urut per milidetik.
+ * Karena formatnya heksadesimal huruf kecil dengan lebar tetap, urutan String sama
+ * dengan urutan pembuatan, sehingga id bisa dipakai untuk scan rentang dan indeks terurut.
+ */
+public class TimeOrderedIdGenerator implements IdGenerator {
+
+    private static final int COUNTER_BITS = 30;
+    private static final int COUNTER_LOW_BITS = 18;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long NODE_MASK = (1L << 44) - 1;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC = 0x8000_0000_0000_0000L;
+
+    /** Hanya untuk seed node per thread, dipanggil sekali per thread */
+    private static final SecureRandom SEED = new SecureRandom();
+
+    private final Clock clock;
+    private final ThreadLocal<State> state = ThreadLocal.withInitial(
+            () -> new State(SEED.nextLong() & NODE_MASK));
+
+    public TimeOrderedIdGenerator() {
+        this(Clock.systemUTC());
+    }
+
+    TimeOrderedIdGenerator(Clock clock) {
+        this.clock = clock;
+    }
+
+    private static final class State {
+        private final long node;
+        private long lastMillis = Long.MIN_VALUE;
+        private long counter;
+
+        State(long node) {
+            this.node = node;
+        }
+    }
+
+    @Override
+    public String nextId() {
+        return next().toString();
+    }
+
+    /**
+     * Id berikutnya sebagai UUID (tanpa membuat String).
+     */
+    public UUID next() {
+        State s = state.get();
+        long millis = clock.millis();
+        if (millis > s.lastMillis) {
+            s.lastMillis = millis;
+            s.counter = 0;
+        } else if (++s.counter > COUNTER_MASK) {
+            // Counter habis dalam satu milidetik (atau jam mundur lama): majukan jam logis
+            s.lastMillis++;
+            s.counter = 0;
+        }
+
+        long counterHigh = s.counter >>> COUNTER_LOW_BITS;
+        long counterLow = s.counter & ((1L << COUNTER_LOW_BITS) - 1);
+        long high = (s.lastMillis << 16) | VERSION_7 | counterHigh;
+        long low = VARIANT_RFC | (counterLow << 44) | s.node;
+        return new UUID(high, low);
+    }
+
+    /**
+     * Waktu pembuatan id buatan generator ini.
+     *
+     * @throws IllegalArgumentException bila id bukan UUID versi 7
+     */
+    public static Instant timestampOf(String id) {
+        UUID uuid = UUID.fromString(id);
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Bukan id urut waktu: " + id);
+        }
+        return Instant.ofEpochMilli(uuid.getMostSignificantBits() >>> 16);
+    }
+}
@@ -1,24 +1,41 @@
 package com.financetracker.factory;
 
 import com.financetracker.model.Category;
+import com.financetracker.model.DescriptionDictionary;
 import com.financetracker.model.Transaction;
 import com.financetracker.model.TransactionType;
 
 import java.time.LocalDate;
-import java.util.UUID;
 
 /**
  * Factory Pattern.
  * Bertanggung jawab untuk membuat instance Transaction baru
- * dengan ID unik.
+ * dengan ID unik. Id dibuat oleh {@link IdGenerator} yang bisa diganti;
+ * default-nya {@link TimeOrderedIdGenerator} (urut waktu, tanpa lock).
  */
 public class TransactionFactory {
 
+    private static volatile IdGenerator idGenerator = IdGenerator.timeOrdered();
+
     private TransactionFactory() {
         throw new IllegalStateException("Utility class");
     }
     // ----------------------------
 
+    public static IdGenerator getIdGenerator() {
+        return idGenerator;
+    }
+
+    /**
+     * Mengganti pembuat id untuk transaksi berikutnya.
+     */
+    public static void setIdGenerator(IdGenerator generator) {
+        if (generator == null) {
+            throw new IllegalArgumentException("IdGenerator tidak boleh null.");
+        }
+        idGenerator = generator;
+    }
+
     /**
      * Membuat objek Transaction baru.
      *
@@ -34,7 +51,7 @@ public class TransactionFactory {
             throw new IllegalArgumentException("Input untuk transaksi tidak valid.");
         }
 
-        String id = UUID.randomUUID().toString();
-        return new Transaction(id, date, description, amount, type, category);
+        String id = idGenerator.nextId();
+        return new Transaction(id, date, DescriptionDictionary.getInstance().intern(description), amount, type, category);
     }
 }
\ No newline at end of file
@@ -0,0 +1,121 @@
+package com.financetracker.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pembaca CSV streaming (RFC 4180): field bertanda kutip boleh memuat
+ * pemisah, baris baru, dan kutip ganda ({@code ""}).
+ *
+ * Tidak thread-safe; satu record dibaca per panggilan {@link #next()}.
+ */
+public class CsvRecordReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Reader reader;
+    private final char delimiter;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private long line = 1;
+    private long recordLine;
+
+    public CsvRecordReader(Reader reader, char delimiter) {
+        this.reader = reader;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Nomor baris (mulai dari 1) tempat record terakhir dimulai.
+     */
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    /**
+     * Membaca record berikutnya; baris kosong dilewati.
+     *
+     * @return field-field record, atau null di akhir input
+     */
+    public String[] next() throws IOException {
+        while (true) {
+            int c = read();
+            if (c < 0) return null;
+            if (c == '\n') {
+                line++;
+                continue;
+            }
+            if (c == '\r') continue;
+            recordLine = line;
+            return readRecord(c);
+        }
+    }
+
+    private String[] readRecord(int first) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int c = first;
+
+        while (c >= 0) {
+            if (quoted) {
+                if (c == '"') {
+                    int peek = read();
+                    if (peek == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = peek;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') line++;
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                line++;
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = read();
+        }
+        fields.add(field.toString());
+        return fields.toArray(new String[0]);
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Menebak pemisah dari baris header: ';' bila lebih banyak dari ',' (ekspor bank lokal).
+     */
+    static char detectDelimiter(String headerLine) {
+        long commas = headerLine.chars().filter(ch -> ch == ',').count();
+        long semicolons = headerLine.chars().filter(ch -> ch == ';').count();
+        return semicolons > commas ? ';' : ',';
+    }
+}
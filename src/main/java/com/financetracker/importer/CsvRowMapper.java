@@ -0,0 +1,180 @@
+package com.financetracker.importer;
+
+import com.financetracker.factory.TransactionFactory;
+import com.financetracker.model.Category;
+import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionType;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Memetakan satu record CSV ke {@link Transaction} lewat {@link TransactionFactory}.
+ *
+ * Kolom dikenali dari header (tidak peka huruf besar/kecil, nama Indonesia atau Inggris):
+ * - wajib: tanggal, deskripsi, dan jumlah — atau pasangan debit/kredit seperti mutasi rekening;
+ * - opsional: tipe (tanpa tipe, jumlah negatif = pengeluaran) dan kategori (default LAINNYA).
+ *
+ * Immutable, aman dipakai bersamaan oleh beberapa thread parsing.
+ */
+public class CsvRowMapper {
+
+    private static final List<String> DATE_NAMES = List.of("date", "tanggal", "tgl", "transaction date");
+    private static final List<String> DESCRIPTION_NAMES = List.of("description", "deskripsi", "keterangan", "uraian");
+    private static final List<String> AMOUNT_NAMES = List.of("amount", "jumlah", "nominal", "nilai");
+    private static final List<String> TYPE_NAMES = List.of("type", "tipe", "jenis");
+    private static final List<String> CATEGORY_NAMES = List.of("category", "kategori");
+    private static final List<String> DEBIT_NAMES = List.of("debit", "debet");
+    private static final List<String> CREDIT_NAMES = List.of("credit", "kredit");
+
+    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ofPattern("dd/MM/yyyy"),
+            DateTimeFormatter.ofPattern("dd-MM-yyyy"));
+
+    private final int dateIndex;
+    private final int descriptionIndex;
+    private final int amountIndex;
+    private final int typeIndex;
+    private final int categoryIndex;
+    private final int debitIndex;
+    private final int creditIndex;
+
+    /**
+     * @throws IllegalArgumentException bila kolom wajib tidak ada di header
+     */
+    public CsvRowMapper(String[] header) {
+        this.dateIndex = indexOf(header, DATE_NAMES);
+        this.descriptionIndex = indexOf(header, DESCRIPTION_NAMES);
+        this.amountIndex = indexOf(header, AMOUNT_NAMES);
+        this.typeIndex = indexOf(header, TYPE_NAMES);
+        this.categoryIndex = indexOf(header, CATEGORY_NAMES);
+        this.debitIndex = indexOf(header, DEBIT_NAMES);
+        this.creditIndex = indexOf(header, CREDIT_NAMES);
+
+        if (dateIndex < 0 || descriptionIndex < 0) {
+            throw new IllegalArgumentException("Header CSV harus memuat kolom tanggal dan deskripsi.");
+        }
+        if (amountIndex < 0 && (debitIndex < 0 || creditIndex < 0)) {
+            throw new IllegalArgumentException("Header CSV harus memuat kolom jumlah atau debit dan kredit.");
+        }
+    }
+
+    private static int indexOf(String[] header, List<String> names) {
+        for (int i = 0; i < header.length; i++) {
+            String name = header[i].replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            if (names.contains(name)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * @throws IllegalArgumentException dengan pesan yang bisa ditampilkan bila baris tidak valid
+     */
+    public Transaction map(String[] fields) {
+        LocalDate date = parseDate(field(fields, dateIndex));
+        String description = field(fields, descriptionIndex);
+        if (description.isEmpty()) {
+            throw new IllegalArgumentException("Deskripsi kosong.");
+        }
+
+        double amount;
+        if (amountIndex >= 0) {
+            amount = parseAmount(field(fields, amountIndex));
+        } else {
+            String debit = field(fields, debitIndex);
+            String credit = field(fields, creditIndex);
+            double debitAmount = debit.isEmpty() ? 0 : Math.abs(parseAmount(debit));
+            double creditAmount = credit.isEmpty() ? 0 : Math.abs(parseAmount(credit));
+            amount = creditAmount - debitAmount;
+        }
+
+        String typeText = field(fields, typeIndex);
+        TransactionType type = typeText.isEmpty()
+                ? (amount < 0 ? TransactionType.EXPENSE : TransactionType.INCOME)
+                : parseType(typeText);
+        if (amount == 0) {
+            throw new IllegalArgumentException("Jumlah harus lebih dari 0.");
+        }
+
+        String categoryText = field(fields, categoryIndex);
+        Category category = categoryText.isEmpty() ? Category.LAINNYA : parseCategory(categoryText);
+
+        return TransactionFactory.createTransaction(date, description, Math.abs(amount), type, category);
+    }
+
+    private static String field(String[] fields, int index) {
+        if (index < 0 || index >= fields.length) return "";
+        return fields[index].trim();
+    }
+
+    // ============================================================
+    //                      PARSING NILAI
+    // ============================================================
+
+    static LocalDate parseDate(String text) {
+        for (DateTimeFormatter format : DATE_FORMATS) {
+            try {
+                return LocalDate.parse(text, format);
+            } catch (DateTimeParseException e) {
+                // coba format berikutnya
+            }
+        }
+        throw new IllegalArgumentException("Tanggal tidak dikenali: '" + text + "'");
+    }
+
+    /**
+     * Menerima "150000", "-150000.50", "Rp 1.250.000,00", "1,250,000.00", "Rp 50.000", "12,50".
+     * Bila titik dan koma muncul bersamaan, yang terakhir dianggap pemisah desimal. Bila
+     * hanya satu jenis, ia pemisah ribuan jika muncul lebih dari sekali atau diikuti tepat
+     * tiga digit; selain itu pemisah desimal.
+     */
+    static double parseAmount(String text) {
+        String cleaned = text.replaceAll("(?i)rp|idr|\\s", "");
+        boolean negative = cleaned.startsWith("-") || (cleaned.startsWith("(") && cleaned.endsWith(")"));
+        cleaned = cleaned.replaceAll("[-()+]", "");
+
+        int lastDot = cleaned.lastIndexOf('.');
+        int lastComma = cleaned.lastIndexOf(',');
+        if (lastDot >= 0 && lastComma >= 0) {
+            char decimal = lastDot > lastComma ? '.' : ',';
+            char grouping = decimal == '.' ? ',' : '.';
+            cleaned = cleaned.replace(String.valueOf(grouping), "").replace(decimal, '.');
+        } else if (lastDot >= 0 || lastComma >= 0) {
+            char separator = lastDot >= 0 ? '.' : ',';
+            int last = Math.max(lastDot, lastComma);
+            boolean grouping = cleaned.indexOf(separator) != last || cleaned.length() - last - 1 == 3;
+            cleaned = grouping
+                    ? cleaned.replace(String.valueOf(separator), "")
+                    : cleaned.replace(separator, '.');
+        }
+
+        try {
+            double value = Double.parseDouble(cleaned);
+            return negative ? -value : value;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Jumlah tidak valid: '" + text + "'");
+        }
+    }
+
+    static TransactionType parseType(String text) {
+        switch (text.trim().toLowerCase(Locale.ROOT)) {
+            case "income", "pemasukan", "masuk", "cr", "kredit", "credit": return TransactionType.INCOME;
+            case "expense", "pengeluaran", "keluar", "db", "debit", "debet": return TransactionType.EXPENSE;
+            default: throw new IllegalArgumentException("Tipe tidak dikenali: '" + text + "'");
+        }
+    }
+
+    static Category parseCategory(String text) {
+        String trimmed = text.trim();
+        for (Category category : Category.values()) {
+            if (category.name().equalsIgnoreCase(trimmed) || category.toString().equalsIgnoreCase(trimmed)) {
+                return category;
+            }
+        }
+        throw new IllegalArgumentException("Kategori tidak dikenali: '" + text + "'");
+    }
+}
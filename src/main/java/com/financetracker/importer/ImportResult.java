@@ -0,0 +1,83 @@
+package com.financetracker.importer;
+
+import com.financetracker.model.Transaction;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Hasil satu impor: transaksi yang valid, kesalahan per baris, dan throughput.
+ */
+public class ImportResult {
+
+    /**
+     * Kesalahan pada satu baris input.
+     */
+    public static final class RowError {
+        private final long line;
+        private final String message;
+
+        public RowError(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        public long getLine() { return line; }
+        public String getMessage() { return message; }
+
+        @Override
+        public String toString() {
+            return "Baris " + line + ": " + message;
+        }
+    }
+
+    private final List<Transaction> transactions;
+    private final List<RowError> errors;
+    private final long rowsRead;
+    private final long parseNanos;
+    private long commitNanos;
+    private boolean committed;
+
+    ImportResult(List<Transaction> transactions, List<RowError> errors, long rowsRead, long parseNanos) {
+        this.transactions = Collections.unmodifiableList(transactions);
+        this.errors = Collections.unmodifiableList(errors);
+        this.rowsRead = rowsRead;
+        this.parseNanos = parseNanos;
+    }
+
+    void markCommitted(boolean committed, long commitNanos) {
+        this.committed = committed;
+        this.commitNanos = commitNanos;
+    }
+
+    /** Transaksi valid, urut sesuai baris input */
+    public List<Transaction> getTransactions() { return transactions; }
+
+    /** Kesalahan per baris, urut sesuai baris input */
+    public List<RowError> getErrors() { return errors; }
+
+    /** Jumlah record data yang dibaca (tanpa header) */
+    public long getRowsRead() { return rowsRead; }
+
+    /** True bila transaksi sudah tersimpan */
+    public boolean isCommitted() { return committed; }
+
+    public long getParseNanos() { return parseNanos; }
+
+    public long getCommitNanos() { return commitNanos; }
+
+    /** Baris per detik untuk parsing + penyimpanan */
+    public double getRowsPerSecond() {
+        long total = parseNanos + commitNanos;
+        return total == 0 ? 0 : rowsRead * 1e9 / total;
+    }
+
+    /**
+     * Ringkasan satu baris untuk ditampilkan ke pengguna.
+     */
+    public String getSummary() {
+        return String.format("%,d baris dibaca, %,d diimpor, %,d gagal (%.0f ms parsing, %.0f ms simpan, %,.0f baris/detik)",
+                rowsRead, committed ? transactions.size() : 0, errors.size(),
+                parseNanos / 1e6, commitNanos / 1e6, getRowsPerSecond());
+    }
+}
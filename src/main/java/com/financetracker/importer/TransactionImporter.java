@@ -0,0 +1,204 @@
+package com.financetracker.importer;
+
+import com.financetracker.model.Transaction;
+import com.financetracker.service.TransactionService;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Pipeline impor CSV / mutasi rekening.
+ *
+ * 1. File dibaca streaming oleh satu thread ({@link CsvRecordReader}) dan dipotong per {@value #CHUNK_ROWS} baris.
+ * 2. Setiap potongan di-parse dan divalidasi paralel ({@link CsvRowMapper} → TransactionFactory).
+ * 3. Hasil digabung sesuai urutan baris, lalu disimpan sekali lewat
+ *    {@link TransactionService#importTransactions(List)}: satu batch journal dan satu pengecekan budget.
+ *
+ * Baris yang tidak valid tidak menggagalkan impor; semuanya dilaporkan di {@link ImportResult#getErrors()}.
+ */
+public class TransactionImporter {
+
+    private static final Logger logger = Logger.getLogger(TransactionImporter.class.getName());
+
+    static final int CHUNK_ROWS = 2048;
+    /** Batas panjang baris header yang dipakai untuk menebak pemisah */
+    private static final int HEADER_LIMIT = 1 << 16;
+
+    private final int parallelism;
+
+    public TransactionImporter() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public TransactionImporter(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Parse file lalu simpan semua baris valid ke service dalam satu commit.
+     *
+     * @throws IllegalArgumentException bila header tidak memuat kolom wajib
+     */
+    public ImportResult importFile(Path file, TransactionService service) throws IOException {
+        return commit(parseFile(file), service);
+    }
+
+    /**
+     * Parse dan validasi file tanpa menyimpan.
+     *
+     * @throws IllegalArgumentException bila header tidak memuat kolom wajib
+     */
+    public ImportResult parseFile(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return parse(reader);
+        }
+    }
+
+    /**
+     * Menyimpan hasil parsing sebagai satu batch. TransactionService tidak thread-safe,
+     * jadi di UI panggil dari EDT (parsing boleh di thread latar belakang).
+     */
+    public ImportResult commit(ImportResult result, TransactionService service) {
+        long start = System.nanoTime();
+        boolean committed = result.getTransactions().isEmpty()
+                || service.importTransactions(result.getTransactions());
+        result.markCommitted(committed, System.nanoTime() - start);
+
+        logger.info(() -> "Impor selesai: " + result.getSummary());
+        return result;
+    }
+
+    /**
+     * Parse dan validasi tanpa menyimpan.
+     *
+     * @throws IllegalArgumentException bila header tidak memuat kolom wajib
+     */
+    public ImportResult parse(Reader input) throws IOException {
+        long start = System.nanoTime();
+        BufferedReader buffered = input instanceof BufferedReader b ? b : new BufferedReader(input);
+        buffered.mark(HEADER_LIMIT);
+        String headerLine = buffered.readLine();
+        if (headerLine == null) {
+            return new ImportResult(List.of(), List.of(), 0, System.nanoTime() - start);
+        }
+        buffered.reset();
+
+        CsvRecordReader records = new CsvRecordReader(buffered, CsvRecordReader.detectDelimiter(headerLine));
+        String[] header = records.next();
+        if (header == null) {
+            return new ImportResult(List.of(), List.of(), 0, System.nanoTime() - start);
+        }
+        CsvRowMapper mapper = new CsvRowMapper(header);
+
+        List<Transaction> transactions = new ArrayList<>();
+        List<ImportResult.RowError> errors = new ArrayList<>();
+        long rows = 0;
+
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism, daemonThreads());
+        try {
+            // Jendela potongan yang sedang diproses dibatasi agar memori tetap konstan
+            Deque<Future<ChunkResult>> inFlight = new ArrayDeque<>();
+            Chunk chunk = new Chunk();
+            String[] record;
+            while ((record = records.next()) != null) {
+                chunk.add(records.getRecordLine(), record);
+                rows++;
+                if (chunk.size == CHUNK_ROWS) {
+                    Chunk full = chunk;
+                    inFlight.add(pool.submit(() -> full.map(mapper)));
+                    chunk = new Chunk();
+                    if (inFlight.size() >= parallelism * 2) {
+                        collect(inFlight.poll(), transactions, errors);
+                    }
+                }
+            }
+            if (chunk.size > 0) {
+                Chunk last = chunk;
+                inFlight.add(pool.submit(() -> last.map(mapper)));
+            }
+            while (!inFlight.isEmpty()) {
+                collect(inFlight.poll(), transactions, errors);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        return new ImportResult(transactions, errors, rows, System.nanoTime() - start);
+    }
+
+    private static void collect(Future<ChunkResult> future, List<Transaction> transactions,
+                                List<ImportResult.RowError> errors) throws IOException {
+        try {
+            ChunkResult result = future.get();
+            transactions.addAll(result.transactions);
+            errors.addAll(result.errors);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Impor dibatalkan.");
+        } catch (ExecutionException e) {
+            throw new IOException("Gagal memproses baris impor", e.getCause());
+        }
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "csv-import-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // ============================================================
+    //                      CHUNK
+    // ============================================================
+
+    private static final class Chunk {
+        private final long[] lines = new long[CHUNK_ROWS];
+        private final String[][] records = new String[CHUNK_ROWS][];
+        private int size;
+
+        void add(long line, String[] record) {
+            lines[size] = line;
+            records[size] = record;
+            size++;
+        }
+
+        ChunkResult map(CsvRowMapper mapper) {
+            ChunkResult result = new ChunkResult(size);
+            for (int i = 0; i < size; i++) {
+                try {
+                    result.transactions.add(mapper.map(records[i]));
+                } catch (RuntimeException e) {
+                    result.errors.add(new ImportResult.RowError(lines[i], e.getMessage()));
+                }
+            }
+            return result;
+        }
+    }
+
+    private static final class ChunkResult {
+        final List<Transaction> transactions;
+        final List<ImportResult.RowError> errors = new ArrayList<>();
+
+        ChunkResult(int capacity) {
+            this.transactions = new ArrayList<>(capacity);
+        }
+    }
+}
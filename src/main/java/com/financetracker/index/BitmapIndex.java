@@ -0,0 +1,42 @@
+package com.financetracker.index;
+
+/**
+ * Satu {@link RowBitmap} per nilai kunci kecil (ordinal enum, misalnya kategori atau tipe),
+ * diperbarui setiap kali baris ditambah atau dihapus.
+ */
+public class BitmapIndex {
+
+    private final RowBitmap[] bitmaps;
+
+    public BitmapIndex(int keyCount) {
+        this.bitmaps = new RowBitmap[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            bitmaps[i] = new RowBitmap();
+        }
+    }
+
+    public void add(int key, int row) {
+        bitmaps[key].add(row);
+    }
+
+    public boolean remove(int key, int row) {
+        return bitmaps[key].remove(row);
+    }
+
+    /**
+     * Bitmap hidup untuk kunci; jangan diubah oleh pemanggil.
+     */
+    public RowBitmap get(int key) {
+        return bitmaps[key];
+    }
+
+    public int keyCount() {
+        return bitmaps.length;
+    }
+
+    public void clear() {
+        for (RowBitmap bitmap : bitmaps) {
+            bitmap.clear();
+        }
+    }
+}
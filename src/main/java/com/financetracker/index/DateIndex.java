@@ -0,0 +1,176 @@
+package com.financetracker.index;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Indeks tanggal terurut di atas nomor baris {@link com.financetracker.model.TransactionStore}.
+ *
+ * Disimpan sebagai dua array primitif paralel yang terurut menurut (epoch day, baris):
+ * pencarian rentang memakai binary search lalu membaca entri berurutan, jadi biayanya
+ * O(log n + k). Penambahan di akhir rentang tanggal (kasus umum: transaksi baru)
+ * hanya menambah di ujung array; penambahan di tengah dan penghapusan menggeser array
+ * dengan {@link System#arraycopy}. Tidak thread-safe.
+ */
+public class DateIndex {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] days = new int[INITIAL_CAPACITY];
+    private int[] rows = new int[INITIAL_CAPACITY];
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    // ============================================================
+    //                      MUTASI
+    // ============================================================
+
+    public void add(int epochDay, int row) {
+        ensureCapacity(size + 1);
+        int pos = insertionPoint(epochDay, row);
+        if (pos < size) {
+            System.arraycopy(days, pos, days, pos + 1, size - pos);
+            System.arraycopy(rows, pos, rows, pos + 1, size - pos);
+        }
+        days[pos] = epochDay;
+        rows[pos] = row;
+        size++;
+    }
+
+    /**
+     * Menambah banyak entri sekaligus: batch diurutkan lalu digabung dengan isi indeks
+     * dalam satu lintasan, O(n + k log k), bukan k kali penggeseran array.
+     */
+    public void addAll(int[] batchDays, int[] batchRows, int count) {
+        if (count == 0) return;
+        long[] batch = new long[count];
+        for (int i = 0; i < count; i++) {
+            batch[i] = key(batchDays[i], batchRows[i]);
+        }
+        Arrays.sort(batch);
+
+        ensureCapacity(size + count);
+        // Gabung dari belakang agar bisa di tempat tanpa array sementara
+        int i = size - 1;
+        int j = count - 1;
+        int out = size + count - 1;
+        while (j >= 0) {
+            long k = batch[j];
+            if (i >= 0 && key(days[i], rows[i]) > k) {
+                days[out] = days[i];
+                rows[out] = rows[i];
+                i--;
+            } else {
+                days[out] = (int) (k >> 32);
+                rows[out] = (int) k;
+                j--;
+            }
+            out--;
+        }
+        size += count;
+    }
+
+    /**
+     * @return false bila entri tidak ada di indeks
+     */
+    public boolean remove(int epochDay, int row) {
+        int pos = insertionPoint(epochDay, row);
+        if (pos >= size || days[pos] != epochDay || rows[pos] != row) {
+            return false;
+        }
+        System.arraycopy(days, pos + 1, days, pos, size - pos - 1);
+        System.arraycopy(rows, pos + 1, rows, pos, size - pos - 1);
+        size--;
+        return true;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > days.length) {
+            int newCapacity = Math.max(capacity, days.length * 2);
+            days = Arrays.copyOf(days, newCapacity);
+            rows = Arrays.copyOf(rows, newCapacity);
+        }
+    }
+
+    /** Baris non-negatif, jadi urutan long sama dengan urutan (day, row) */
+    private static long key(int epochDay, int row) {
+        return ((long) epochDay << 32) | (row & 0xFFFFFFFFL);
+    }
+
+    // ============================================================
+    //                      PENCARIAN
+    // ============================================================
+
+    /**
+     * Posisi pertama dengan (day, row) >= (epochDay, row).
+     */
+    private int insertionPoint(int epochDay, int row) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (days[mid] < epochDay || (days[mid] == epochDay && rows[mid] < row)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Posisi pertama dengan tanggal >= epochDay.
+     */
+    public int lowerBound(int epochDay) {
+        return insertionPoint(epochDay, Integer.MIN_VALUE);
+    }
+
+    /**
+     * Posisi pertama dengan tanggal > epochDay.
+     */
+    public int upperBound(int epochDay) {
+        return epochDay == Integer.MAX_VALUE ? size : insertionPoint(epochDay + 1, Integer.MIN_VALUE);
+    }
+
+    /** Nomor baris pada posisi terurut tertentu (lihat {@link #lowerBound}/{@link #upperBound}) */
+    public int rowAt(int position) {
+        return rows[position];
+    }
+
+    /** Tanggal (epoch day) pada posisi terurut tertentu; posisi 0 = tanggal paling awal */
+    public int dayAt(int position) {
+        return days[position];
+    }
+
+    /** Jumlah entri dengan tanggal dalam [fromDay, toDay] */
+    public int count(int fromDay, int toDay) {
+        return Math.max(0, upperBound(toDay) - lowerBound(fromDay));
+    }
+
+    /**
+     * Mengunjungi baris dengan tanggal dalam [fromDay, toDay], terurut menurut tanggal
+     * lalu nomor baris.
+     */
+    public void forEachInRange(int fromDay, int toDay, IntConsumer visitor) {
+        int end = upperBound(toDay);
+        for (int i = lowerBound(fromDay); i < end; i++) {
+            visitor.accept(rows[i]);
+        }
+    }
+
+    /**
+     * Baris dengan tanggal dalam [fromDay, toDay] sebagai array baru.
+     */
+    public int[] rowsInRange(int fromDay, int toDay) {
+        int from = lowerBound(fromDay);
+        int to = upperBound(toDay);
+        return to <= from ? new int[0] : Arrays.copyOfRange(rows, from, to);
+    }
+}
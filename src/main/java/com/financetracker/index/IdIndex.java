@@ -0,0 +1,157 @@
+package com.financetracker.index;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Indeks hash id transaksi → nomor baris {@link com.financetracker.model.TransactionStore}.
+ *
+ * Id UUID (kasus umum) disimpan sebagai dua long di tabel open addressing dengan linear
+ * probing, tanpa objek per entri; penghapusan memakai backward shift sehingga tidak ada
+ * tombstone. Id non-UUID (data lama) memakai {@link HashMap} biasa. Tabel dijaga terisi
+ * paling banyak setengah. Tidak thread-safe.
+ */
+public class IdIndex {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int EMPTY = -1;
+
+    private long[] highs = new long[INITIAL_CAPACITY];
+    private long[] lows = new long[INITIAL_CAPACITY];
+    private int[] rows = newRows(INITIAL_CAPACITY);
+    private int size;
+    private final Map<String, Integer> legacy = new HashMap<>();
+
+    public int size() {
+        return size + legacy.size();
+    }
+
+    public void clear() {
+        Arrays.fill(rows, EMPTY);
+        size = 0;
+        legacy.clear();
+    }
+
+    // ============================================================
+    //                      ID UUID
+    // ============================================================
+
+    /**
+     * Memetakan id ke baris; pemetaan lama untuk id yang sama ditimpa.
+     */
+    public void put(long high, long low, int row) {
+        if ((size + 1) * 2 > rows.length) {
+            resize(rows.length * 2);
+        }
+        int slot = slotOf(high, low);
+        if (rows[slot] == EMPTY) {
+            highs[slot] = high;
+            lows[slot] = low;
+            size++;
+        }
+        rows[slot] = row;
+    }
+
+    /**
+     * @return nomor baris, atau -1 bila id tidak ada
+     */
+    public int get(long high, long low) {
+        return rows[slotOf(high, low)];
+    }
+
+    /**
+     * Menghapus pemetaan hanya bila id masih menunjuk ke baris tersebut.
+     *
+     * @return false bila id tidak ada atau menunjuk ke baris lain
+     */
+    public boolean remove(long high, long low, int row) {
+        int slot = slotOf(high, low);
+        if (rows[slot] != row || row == EMPTY) {
+            return false;
+        }
+        // Backward shift: geser entri berikutnya di cluster yang sama ke slot kosong
+        int mask = rows.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (rows[next] != EMPTY) {
+            int home = hash(highs[next], lows[next]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                highs[hole] = highs[next];
+                lows[hole] = lows[next];
+                rows[hole] = rows[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        rows[hole] = EMPTY;
+        size--;
+        return true;
+    }
+
+    /** Slot berisi id, atau slot kosong tempat id akan disisipkan */
+    private int slotOf(long high, long low) {
+        int mask = rows.length - 1;
+        int slot = hash(high, low) & mask;
+        while (rows[slot] != EMPTY && (highs[slot] != high || lows[slot] != low)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize(int capacity) {
+        long[] oldHighs = highs;
+        long[] oldLows = lows;
+        int[] oldRows = rows;
+        highs = new long[capacity];
+        lows = new long[capacity];
+        rows = newRows(capacity);
+        size = 0;
+        for (int i = 0; i < oldRows.length; i++) {
+            if (oldRows[i] != EMPTY) {
+                int slot = slotOf(oldHighs[i], oldLows[i]);
+                highs[slot] = oldHighs[i];
+                lows[slot] = oldLows[i];
+                rows[slot] = oldRows[i];
+                size++;
+            }
+        }
+    }
+
+    private static int[] newRows(int capacity) {
+        int[] result = new int[capacity];
+        Arrays.fill(result, EMPTY);
+        return result;
+    }
+
+    /** Finalizer MurmurHash3; bit acak UUID v4 dan bit waktu UUID v7 sama-sama tersebar rata */
+    private static int hash(long high, long low) {
+        long h = high * 31 + low;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    // ============================================================
+    //                      ID NON-UUID
+    // ============================================================
+
+    public void put(String id, int row) {
+        legacy.put(id, row);
+    }
+
+    /**
+     * @return nomor baris, atau -1 bila id tidak ada
+     */
+    public int get(String id) {
+        Integer row = legacy.get(id);
+        return row == null ? EMPTY : row;
+    }
+
+    public boolean remove(String id, int row) {
+        return legacy.remove(id, row);
+    }
+}
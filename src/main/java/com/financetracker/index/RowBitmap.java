@@ -0,0 +1,431 @@
+package com.financetracker.index;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Bitmap terkompresi atas nomor baris (non-negatif), bergaya Roaring.
+ *
+ * Nomor baris dibagi per 65536: 16 bit atas menjadi kunci container, 16 bit bawah
+ * disimpan di container. Container jarang (maksimal {@value #ARRAY_MAX} anggota) berupa
+ * array char terurut, container padat berupa bitmap 1024 long. Chunk tanpa anggota tidak
+ * dialokasikan sama sekali. AND/OR/ANDNOT dikerjakan per container, dan jumlah anggota
+ * dihitung dengan popcount tanpa menyentuh data baris.
+ *
+ * Hasil operasi selalu bitmap baru; operand tidak diubah. Tidak thread-safe.
+ */
+public class RowBitmap {
+
+    /** Batas container array; di atas ini bitmap (8 KiB) lebih hemat */
+    static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_WORDS = 1024;
+
+    private int[] keys = new int[4];
+    private Container[] containers = new Container[4];
+    private int size;
+
+    /**
+     * Bitmap dari daftar baris (urutan bebas, duplikat diabaikan).
+     */
+    public static RowBitmap of(int[] rows, int count) {
+        int[] sorted = Arrays.copyOf(rows, count);
+        Arrays.sort(sorted);
+        RowBitmap bitmap = new RowBitmap();
+        for (int row : sorted) {
+            bitmap.add(row);
+        }
+        return bitmap;
+    }
+
+    // ============================================================
+    //                      MUTASI
+    // ============================================================
+
+    /**
+     * @return false bila baris sudah ada
+     */
+    public boolean add(int row) {
+        int key = row >>> 16;
+        int pos = findKey(key);
+        if (pos < 0) {
+            pos = -pos - 1;
+            insertContainer(pos, key, new Container());
+        }
+        Container container = containers[pos];
+        return container.add((char) row);
+    }
+
+    /**
+     * @return false bila baris tidak ada
+     */
+    public boolean remove(int row) {
+        int pos = findKey(row >>> 16);
+        if (pos < 0) return false;
+        Container container = containers[pos];
+        if (!container.remove((char) row)) return false;
+        if (container.cardinality == 0) {
+            System.arraycopy(keys, pos + 1, keys, pos, size - pos - 1);
+            System.arraycopy(containers, pos + 1, containers, pos, size - pos - 1);
+            containers[--size] = null;
+        }
+        return true;
+    }
+
+    public void clear() {
+        Arrays.fill(containers, 0, size, null);
+        size = 0;
+    }
+
+    private int findKey(int key) {
+        // Penambahan hampir selalu di container terakhir
+        if (size > 0 && keys[size - 1] == key) return size - 1;
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private void insertContainer(int pos, int key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, pos, keys, pos + 1, size - pos);
+        System.arraycopy(containers, pos, containers, pos + 1, size - pos);
+        keys[pos] = key;
+        containers[pos] = container;
+        size++;
+    }
+
+    private void appendContainer(int key, Container container) {
+        if (container.cardinality > 0) {
+            insertContainer(size, key, container);
+        }
+    }
+
+    // ============================================================
+    //                      QUERY
+    // ============================================================
+
+    public boolean contains(int row) {
+        int pos = findKey(row >>> 16);
+        return pos >= 0 && containers[pos].contains((char) row);
+    }
+
+    /** Jumlah baris di bitmap */
+    public int cardinality() {
+        int total = 0;
+        for (int i = 0; i < size; i++) {
+            total += containers[i].cardinality;
+        }
+        return total;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Mengunjungi baris secara menaik.
+     */
+    public void forEach(IntConsumer visitor) {
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << 16, visitor);
+        }
+    }
+
+    public int[] toArray() {
+        int[] rows = new int[cardinality()];
+        int[] next = {0};
+        forEach(row -> rows[next[0]++] = row);
+        return rows;
+    }
+
+    // ============================================================
+    //                      OPERASI HIMPUNAN
+    // ============================================================
+
+    public RowBitmap and(RowBitmap other) {
+        RowBitmap result = new RowBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.appendContainer(keys[i], containers[i].and(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Jumlah anggota irisan tanpa membangun bitmap hasil.
+     */
+    public int andCardinality(RowBitmap other) {
+        int total = 0;
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                total += containers[i].andCardinality(other.containers[j]);
+                i++;
+                j++;
+            }
+        }
+        return total;
+    }
+
+    public RowBitmap or(RowBitmap other) {
+        RowBitmap result = new RowBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || (i < size && keys[i] < other.keys[j])) {
+                result.appendContainer(keys[i], containers[i].copy());
+                i++;
+            } else if (i == size || keys[i] > other.keys[j]) {
+                result.appendContainer(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.appendContainer(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /** Baris di bitmap ini yang tidak ada di {@code other} */
+    public RowBitmap andNot(RowBitmap other) {
+        RowBitmap result = new RowBitmap();
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            while (j < other.size && other.keys[j] < keys[i]) j++;
+            if (j < other.size && other.keys[j] == keys[i]) {
+                result.appendContainer(keys[i], containers[i].andNot(other.containers[j]));
+            } else {
+                result.appendContainer(keys[i], containers[i].copy());
+            }
+        }
+        return result;
+    }
+
+    // ============================================================
+    //                      CONTAINER
+    // ============================================================
+
+    /**
+     * 65536 baris: array char terurut (jarang) atau bitmap long[1024] (padat).
+     */
+    private static final class Container {
+        private char[] array = new char[4];
+        private long[] bits;
+        private int cardinality;
+
+        boolean contains(char value) {
+            if (bits != null) {
+                return (bits[value >>> 6] & (1L << value)) != 0;
+            }
+            return Arrays.binarySearch(array, 0, cardinality, value) >= 0;
+        }
+
+        boolean add(char value) {
+            if (bits != null) {
+                long before = bits[value >>> 6];
+                long after = before | (1L << value);
+                if (before == after) return false;
+                bits[value >>> 6] = after;
+                cardinality++;
+                return true;
+            }
+            int pos = cardinality > 0 && array[cardinality - 1] < value
+                    ? -(cardinality + 1)
+                    : Arrays.binarySearch(array, 0, cardinality, value);
+            if (pos >= 0) return false;
+            pos = -pos - 1;
+            if (cardinality == ARRAY_MAX) {
+                toBitmap();
+                return add(value);
+            }
+            if (cardinality == array.length) {
+                array = Arrays.copyOf(array, Math.min(ARRAY_MAX, cardinality * 2));
+            }
+            System.arraycopy(array, pos, array, pos + 1, cardinality - pos);
+            array[pos] = value;
+            cardinality++;
+            return true;
+        }
+
+        boolean remove(char value) {
+            if (bits != null) {
+                long before = bits[value >>> 6];
+                long after = before & ~(1L << value);
+                if (before == after) return false;
+                bits[value >>> 6] = after;
+                if (--cardinality <= ARRAY_MAX) toArray();
+                return true;
+            }
+            int pos = Arrays.binarySearch(array, 0, cardinality, value);
+            if (pos < 0) return false;
+            System.arraycopy(array, pos + 1, array, pos, cardinality - pos - 1);
+            cardinality--;
+            return true;
+        }
+
+        private void toBitmap() {
+            bits = new long[BITMAP_WORDS];
+            for (int i = 0; i < cardinality; i++) {
+                char v = array[i];
+                bits[v >>> 6] |= 1L << v;
+            }
+            array = null;
+        }
+
+        private void toArray() {
+            char[] values = new char[Math.max(4, cardinality)];
+            int n = 0;
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                long word = bits[w];
+                while (word != 0) {
+                    values[n++] = (char) ((w << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            array = values;
+            bits = null;
+        }
+
+        private static Container fromBits(long[] bits) {
+            Container container = new Container();
+            container.bits = bits;
+            container.array = null;
+            int cardinality = 0;
+            for (long word : bits) cardinality += Long.bitCount(word);
+            container.cardinality = cardinality;
+            if (cardinality <= ARRAY_MAX) container.toArray();
+            return container;
+        }
+
+        private static Container fromArray(char[] values, int count) {
+            Container container = new Container();
+            container.array = values;
+            container.cardinality = count;
+            if (count > ARRAY_MAX) container.toBitmap();
+            return container;
+        }
+
+        Container copy() {
+            Container container = new Container();
+            container.cardinality = cardinality;
+            container.bits = bits == null ? null : bits.clone();
+            container.array = array == null ? null : Arrays.copyOf(array, Math.max(4, cardinality));
+            return container;
+        }
+
+        Container and(Container other) {
+            if (bits != null && other.bits != null) {
+                long[] result = new long[BITMAP_WORDS];
+                for (int w = 0; w < BITMAP_WORDS; w++) result[w] = bits[w] & other.bits[w];
+                return fromBits(result);
+            }
+            // Minimal satu array: saring anggota array yang lebih kecil
+            Container small = (bits == null && (other.bits != null || cardinality <= other.cardinality)) ? this : other;
+            Container large = small == this ? other : this;
+            char[] result = new char[Math.max(4, small.cardinality)];
+            int n = 0;
+            for (int i = 0; i < small.cardinality; i++) {
+                if (large.contains(small.array[i])) result[n++] = small.array[i];
+            }
+            return fromArray(result, n);
+        }
+
+        int andCardinality(Container other) {
+            if (bits != null && other.bits != null) {
+                int total = 0;
+                for (int w = 0; w < BITMAP_WORDS; w++) total += Long.bitCount(bits[w] & other.bits[w]);
+                return total;
+            }
+            Container small = (bits == null && (other.bits != null || cardinality <= other.cardinality)) ? this : other;
+            Container large = small == this ? other : this;
+            int total = 0;
+            for (int i = 0; i < small.cardinality; i++) {
+                if (large.contains(small.array[i])) total++;
+            }
+            return total;
+        }
+
+        Container or(Container other) {
+            if (bits != null || other.bits != null) {
+                long[] result = bits != null ? bits.clone() : other.bits.clone();
+                Container rest = bits != null ? other : this;
+                if (rest.bits != null) {
+                    for (int w = 0; w < BITMAP_WORDS; w++) result[w] |= rest.bits[w];
+                } else {
+                    for (int i = 0; i < rest.cardinality; i++) {
+                        char v = rest.array[i];
+                        result[v >>> 6] |= 1L << v;
+                    }
+                }
+                return fromBits(result);
+            }
+            char[] result = new char[cardinality + other.cardinality];
+            int i = 0;
+            int j = 0;
+            int n = 0;
+            while (i < cardinality || j < other.cardinality) {
+                if (j == other.cardinality || (i < cardinality && array[i] < other.array[j])) {
+                    result[n++] = array[i++];
+                } else if (i == cardinality || array[i] > other.array[j]) {
+                    result[n++] = other.array[j++];
+                } else {
+                    result[n++] = array[i++];
+                    j++;
+                }
+            }
+            return fromArray(result, n);
+        }
+
+        Container andNot(Container other) {
+            if (bits != null) {
+                long[] result = bits.clone();
+                if (other.bits != null) {
+                    for (int w = 0; w < BITMAP_WORDS; w++) result[w] &= ~other.bits[w];
+                } else {
+                    for (int i = 0; i < other.cardinality; i++) {
+                        char v = other.array[i];
+                        result[v >>> 6] &= ~(1L << v);
+                    }
+                }
+                return fromBits(result);
+            }
+            char[] result = new char[Math.max(4, cardinality)];
+            int n = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (!other.contains(array[i])) result[n++] = array[i];
+            }
+            return fromArray(result, n);
+        }
+
+        void forEach(int base, IntConsumer visitor) {
+            if (bits != null) {
+                for (int w = 0; w < BITMAP_WORDS; w++) {
+                    long word = bits[w];
+                    while (word != 0) {
+                        visitor.accept(base + (w << 6) + Long.numberOfTrailingZeros(word));
+                        word &= word - 1;
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    visitor.accept(base + array[i]);
+                }
+            }
+        }
+    }
+}
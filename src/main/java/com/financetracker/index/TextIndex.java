@@ -0,0 +1,158 @@
+package com.financetracker.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Indeks teks (inverted index trigram) atas deskripsi transaksi.
+ *
+ * Deskripsi sudah dikodekan lewat kamus (id int), jadi indeks bekerja dua tingkat:
+ * - trigram → bitmap id deskripsi yang memuatnya (dihitung sekali per teks berbeda);
+ * - id deskripsi → bitmap baris yang memakai deskripsi tersebut.
+ *
+ * Pencarian memecah kueri per kata. Kata minimal tiga huruf dipersempit dengan AND bitmap
+ * trigramnya; kata lebih pendek memakai seluruh deskripsi yang dikenal. Kandidat lalu
+ * diverifikasi dengan {@code contains} pada teks deskripsi (jumlahnya jauh lebih kecil
+ * dari jumlah baris), dan baris hasilnya digabung dengan OR. Pencocokan tidak peka huruf
+ * besar/kecil. Tidak thread-safe.
+ */
+public class TextIndex {
+
+    private static final int GRAM = 3;
+
+    private final Map<Long, RowBitmap> postings = new HashMap<>();
+    /** Semua id deskripsi yang sudah diindeks (untuk kata pendek) */
+    private final RowBitmap indexed = new RowBitmap();
+    private String[] texts = new String[256];
+    private RowBitmap[] rows = new RowBitmap[256];
+
+    /**
+     * Mencatat bahwa baris memakai deskripsi dengan id tertentu.
+     */
+    public void add(int descriptionId, String description, int row) {
+        if (descriptionId < 0 || description == null) return;
+        ensureCapacity(descriptionId + 1);
+        if (rows[descriptionId] == null) {
+            String text = normalize(description);
+            texts[descriptionId] = text;
+            rows[descriptionId] = new RowBitmap();
+            indexed.add(descriptionId);
+            forEachGram(text, gram -> postings.computeIfAbsent(gram, g -> new RowBitmap()).add(descriptionId));
+        }
+        rows[descriptionId].add(row);
+    }
+
+    /**
+     * Posting trigram deskripsi tetap disimpan; deskripsi tanpa baris tersisa
+     * otomatis tidak muncul di hasil.
+     */
+    public void remove(int descriptionId, int row) {
+        if (descriptionId >= 0 && descriptionId < rows.length && rows[descriptionId] != null) {
+            rows[descriptionId].remove(row);
+        }
+    }
+
+    public void clear() {
+        postings.clear();
+        indexed.clear();
+        Arrays.fill(texts, null);
+        Arrays.fill(rows, null);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > rows.length) {
+            int newCapacity = Math.max(capacity, rows.length * 2);
+            texts = Arrays.copyOf(texts, newCapacity);
+            rows = Arrays.copyOf(rows, newCapacity);
+        }
+    }
+
+    // ============================================================
+    //                      PENCARIAN
+    // ============================================================
+
+    /**
+     * Baris yang deskripsinya memuat semua kata di kueri (substring, tanpa peka huruf).
+     * Kueri kosong menghasilkan bitmap kosong.
+     */
+    public RowBitmap search(String query) {
+        String[] words = normalize(query == null ? "" : query).split(" ");
+        RowBitmap candidates = null;
+        for (String word : words) {
+            if (word.isEmpty()) continue;
+            RowBitmap matches = word.length() >= GRAM ? gramCandidates(word) : indexed;
+            candidates = candidates == null ? matches : candidates.and(matches);
+        }
+
+        if (candidates == null) return new RowBitmap();
+
+        List<RowBitmap> hits = new ArrayList<>();
+        candidates.forEach(id -> {
+            if (!rows[id].isEmpty() && containsAll(texts[id], words)) hits.add(rows[id]);
+        });
+        return union(hits);
+    }
+
+    /** OR berpasangan seperti merge sort, agar banyak deskripsi cocok tidak menjadi kuadratik */
+    private static RowBitmap union(List<RowBitmap> bitmaps) {
+        if (bitmaps.isEmpty()) return new RowBitmap();
+        List<RowBitmap> level = bitmaps;
+        while (level.size() > 1) {
+            List<RowBitmap> next = new ArrayList<>((level.size() + 1) / 2);
+            for (int i = 0; i < level.size(); i += 2) {
+                next.add(i + 1 < level.size() ? level.get(i).or(level.get(i + 1)) : level.get(i));
+            }
+            level = next;
+        }
+        // Jangan kembalikan bitmap internal yang masih hidup
+        return bitmaps.size() == 1 ? level.get(0).or(new RowBitmap()) : level.get(0);
+    }
+
+    /** Id deskripsi yang memuat semua trigram kata (kandidat, belum diverifikasi) */
+    private RowBitmap gramCandidates(String word) {
+        RowBitmap[] result = {null};
+        boolean[] missing = {false};
+        forEachGram(word, gram -> {
+            RowBitmap posting = postings.get(gram);
+            if (posting == null) {
+                missing[0] = true;
+            } else if (!missing[0]) {
+                result[0] = result[0] == null ? posting : result[0].and(posting);
+            }
+        });
+        return missing[0] || result[0] == null ? new RowBitmap() : result[0];
+    }
+
+    private static boolean containsAll(String text, String[] words) {
+        for (String word : words) {
+            if (!word.isEmpty() && !text.contains(word)) return false;
+        }
+        return true;
+    }
+
+    // ============================================================
+    //                      TRIGRAM
+    // ============================================================
+
+    /** Huruf kecil, spasi berurutan diringkas menjadi satu */
+    static String normalize(String text) {
+        return text.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+
+    @FunctionalInterface
+    private interface GramVisitor {
+        void visit(long gram);
+    }
+
+    /** Trigram dikemas ke long: tiga char × 16 bit */
+    private static void forEachGram(String text, GramVisitor visitor) {
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            long gram = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+            visitor.visit(gram);
+        }
+    }
+}
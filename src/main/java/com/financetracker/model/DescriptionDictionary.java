@@ -0,0 +1,130 @@
+package com.financetracker.model;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Kamus deskripsi transaksi: setiap teks deskripsi yang berbeda mendapat id int tetap.
+ *
+ * Deskripsi sangat berulang ("makan siang", "bensin", nama merchant yang sama), jadi
+ * teksnya cukup disimpan sekali. {@link TransactionStore} menyimpan id, bukan String,
+ * sehingga pengelompokan per deskripsi cukup membandingkan int; pemuatan dari disk
+ * memakai {@link #intern(String)} agar transaksi dengan deskripsi sama berbagi satu String.
+ *
+ * Id tidak pernah dihapus atau digunakan ulang selama aplikasi berjalan. Thread-safe tanpa
+ * kunci global: teks yang sudah dikenal dibaca dari {@link ConcurrentHashMap}, dan hanya
+ * teks baru yang mengunci bin map-nya lewat {@code computeIfAbsent}, sehingga parsing
+ * paralel (impor CSV) tidak berbaris di satu monitor.
+ */
+public final class DescriptionDictionary {
+
+    /** Id untuk deskripsi null */
+    public static final int NULL_ID = -1;
+
+    private static final int CHUNK_SHIFT = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private static final DescriptionDictionary INSTANCE = new DescriptionDictionary();
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    /**
+     * Teks per id dalam potongan berukuran tetap yang tidak pernah dipindah. Direktorinya
+     * diganti utuh (copy-on-write) saat potongan baru ditambahkan, jadi pembaca cukup
+     * membaca referensi volatile ini.
+     */
+    private volatile String[][] chunks = new String[0][];
+    private final AtomicInteger size = new AtomicInteger();
+
+    public DescriptionDictionary() {
+        // Kamus terpisah (misal untuk test); aplikasi memakai getInstance()
+    }
+
+    /**
+     * Kamus bersama untuk seluruh aplikasi.
+     */
+    public static DescriptionDictionary getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Id untuk deskripsi, ditambahkan ke kamus bila belum ada.
+     */
+    public int encode(String description) {
+        if (description == null) return NULL_ID;
+        Integer id = ids.get(description);
+        if (id != null) return id;
+        return ids.computeIfAbsent(description, this::append);
+    }
+
+    /** Dipanggil sekali per teks baru (di dalam computeIfAbsent) */
+    private int append(String description) {
+        int id = size.getAndIncrement();
+        chunk(id >>> CHUNK_SHIFT)[id & CHUNK_MASK] = description;
+        return id;
+    }
+
+    private String[] chunk(int index) {
+        String[][] current = chunks;
+        if (index < current.length) return current[index];
+        synchronized (this) {
+            current = chunks;
+            if (index >= current.length) {
+                String[][] grown = Arrays.copyOf(current, index + 1);
+                for (int c = current.length; c <= index; c++) {
+                    grown[c] = new String[CHUNK_SIZE];
+                }
+                chunks = grown;
+                current = grown;
+            }
+            return current[index];
+        }
+    }
+
+    /**
+     * Id untuk deskripsi tanpa menambahkannya ke kamus.
+     *
+     * @return id, atau {@link #NULL_ID} bila deskripsi belum pernah dikodekan
+     */
+    public int lookup(String description) {
+        if (description == null) return NULL_ID;
+        Integer id = ids.get(description);
+        return id == null ? NULL_ID : id;
+    }
+
+    public String decode(int id) {
+        if (id == NULL_ID) return null;
+        String[][] current = chunks;
+        String value = id >= 0 && (id >>> CHUNK_SHIFT) < current.length
+                ? current[id >>> CHUNK_SHIFT][id & CHUNK_MASK]
+                : null;
+        if (value == null) {
+            throw new IndexOutOfBoundsException("Id deskripsi tidak dikenal: " + id);
+        }
+        return value;
+    }
+
+    /**
+     * Instance String kanonik untuk deskripsi (sama seperti {@link String#intern()},
+     * tetapi di heap biasa dan sekaligus memberi id).
+     */
+    public String intern(String description) {
+        if (description == null) return null;
+        return decode(encode(description));
+    }
+
+    /**
+     * Transaksi yang sama dengan deskripsi kanonik; objek yang sama bila sudah kanonik.
+     */
+    public Transaction intern(Transaction tx) {
+        String description = intern(tx.getDescription());
+        if (description == tx.getDescription()) return tx;
+        return new Transaction(tx.getId(), tx.getDate(), description, tx.getAmount(), tx.getType(), tx.getCategory());
+    }
+
+    /** Jumlah deskripsi berbeda (batas atas id) */
+    public int size() {
+        return size.get();
+    }
+}
@@ -0,0 +1,44 @@
+package com.financetracker.model;
+
+import java.util.UUID;
+
+/**
+ * Pengodean kolom transaksi yang dipakai bersama oleh {@link TransactionStore} dan file kolumnar.
+ *
+ * - Jumlah disimpan sebagai {@code long} dalam satuan sen (1/100 rupiah), sehingga
+ *   penjumlahan eksak dan tidak terkena galat pembulatan {@code double}.
+ * - Id UUID kanonik disimpan sebagai dua {@code long}; id lain (data lama) tetap berupa String.
+ */
+public final class TransactionEncoding {
+
+    /** Jumlah sen per rupiah */
+    public static final int MINOR_UNITS_PER_RUPIAH = 100;
+
+    private TransactionEncoding() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Rupiah (double) ke sen, dibulatkan ke sen terdekat.
+     */
+    public static long toMinorUnits(double amount) {
+        return Math.round(amount * MINOR_UNITS_PER_RUPIAH);
+    }
+
+    public static double fromMinorUnits(long amountMinor) {
+        return (double) amountMinor / MINOR_UNITS_PER_RUPIAH;
+    }
+
+    /**
+     * UUID hanya bila string berformat kanonik (huruf kecil), agar id yang dibangun ulang persis sama.
+     */
+    public static UUID parseCanonicalUuid(String id) {
+        if (id == null || id.length() != 36) return null;
+        try {
+            UUID uuid = UUID.fromString(id);
+            return uuid.toString().equals(id) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
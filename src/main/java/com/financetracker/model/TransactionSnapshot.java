@@ -0,0 +1,224 @@
+package com.financetracker.model;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * Daftar transaksi immutable dan berversi, dibagikan ke pembaca tanpa disalin.
+ *
+ * Snapshot dibuat oleh {@link TransactionStore#snapshot()} dan tidak memegang objek
+ * {@link Transaction}: isinya referensi segmen kolom store, panjang setiap segmen, dan
+ * salinan bitmap tombstone-nya saat dibuat. Kolom baris yang sudah ada tidak pernah ditulis
+ * ulang (penambahan mengisi slot setelah panjang yang tercatat, penghapusan hanya mengubah
+ * tombstone, pemadatan membangun segmen baru), jadi snapshot tidak ikut berubah oleh
+ * mutasi berikutnya. Biaya membuatnya sebanding jumlah segmen, bukan jumlah baris;
+ * bitmap tombstone segmen yang tidak berubah dipakai bersama snapshot sebelumnya.
+ *
+ * {@link #get(int)} dan iterator membangun objek {@link Transaction} baru dari kolom;
+ * pengakses per kolom ({@link #amountMinor(int)} dkk.) membaca nilainya langsung.
+ * Aman dibaca dari thread mana pun selama referensinya dipublikasikan dengan benar.
+ */
+public final class TransactionSnapshot extends AbstractList<Transaction> implements RandomAccess {
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+    private static final Category[] CATEGORIES = Category.values();
+
+    private final TransactionStore.Segment[] segments;
+    private final int[] lengths;
+    /** Bitmap tombstone per segmen saat snapshot dibuat; null = segmen tanpa tombstone */
+    private final long[][] deleted;
+    /** offsets[s] = jumlah baris hidup sebelum segmen s; offsets[segments.length] = size */
+    private final int[] offsets;
+    private final DescriptionDictionary dictionary;
+    private final long version;
+
+    TransactionSnapshot(TransactionStore.Segment[] segments, int[] lengths, long[][] deleted,
+                        DescriptionDictionary dictionary, long version) {
+        this.segments = segments;
+        this.lengths = lengths;
+        this.deleted = deleted;
+        this.dictionary = dictionary;
+        this.version = version;
+        this.offsets = new int[segments.length + 1];
+        for (int s = 0; s < segments.length; s++) {
+            int dead = 0;
+            if (deleted[s] != null) {
+                for (long word : deleted[s]) dead += Long.bitCount(word);
+            }
+            offsets[s + 1] = offsets[s] + lengths[s] - dead;
+        }
+    }
+
+    /** Versi data store ({@link TransactionStore#versions()}) saat snapshot dibuat */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Bitmap tombstone yang sudah disalin untuk segmen ke-{@code s}, bila segmennya sama
+     * dan belum ada penghapusan baru sejak snapshot ini; selain itu null.
+     */
+    long[] sharedDeleted(int s, TransactionStore.Segment segment) {
+        if (s >= segments.length || segments[s] != segment) return null;
+        int capturedDeletes = lengths[s] - (offsets[s + 1] - offsets[s]);
+        return capturedDeletes == segment.deletedCount() ? deleted[s] : null;
+    }
+
+    // ============================================================
+    //                      AKSES (LIST)
+    // ============================================================
+
+    @Override
+    public int size() {
+        return offsets[segments.length];
+    }
+
+    @Override
+    public Transaction get(int index) {
+        long position = locate(index);
+        return segments[segmentOf(position)].toTransaction(offsetOf(position), dictionary);
+    }
+
+    // ============================================================
+    //                      AKSES PER KOLOM
+    // ============================================================
+    // Membaca satu kolom baris ke-index tanpa membangun objek Transaction
+    // (misal sel tabel yang dirender satu per satu).
+
+    public int epochDay(int index) {
+        long position = locate(index);
+        return segments[segmentOf(position)].epochDays()[offsetOf(position)];
+    }
+
+    public long amountMinor(int index) {
+        long position = locate(index);
+        return segments[segmentOf(position)].amounts()[offsetOf(position)];
+    }
+
+    public TransactionType type(int index) {
+        long position = locate(index);
+        return TYPES[segments[segmentOf(position)].types()[offsetOf(position)]];
+    }
+
+    public Category category(int index) {
+        long position = locate(index);
+        return CATEGORIES[segments[segmentOf(position)].categories()[offsetOf(position)]];
+    }
+
+    public String description(int index) {
+        long position = locate(index);
+        return dictionary.decode(segments[segmentOf(position)].descriptionIds()[offsetOf(position)]);
+    }
+
+    public String id(int index) {
+        long position = locate(index);
+        return segments[segmentOf(position)].id(offsetOf(position));
+    }
+
+    /** Segmen (32 bit atas) dan posisi di dalamnya (32 bit bawah) untuk baris hidup ke-index */
+    private long locate(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Indeks " + index + " di luar rentang 0.." + (size() - 1));
+        }
+        // Segmen terakhir dengan offsets[s] <= index (segmen tanpa baris hidup terlewati)
+        int low = 0;
+        int high = segments.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (offsets[mid] <= index) low = mid; else high = mid - 1;
+        }
+        int rank = index - offsets[low];
+        int i = deleted[low] == null ? rank : select(deleted[low], rank);
+        return ((long) low << 32) | i;
+    }
+
+    private static int segmentOf(long position) {
+        return (int) (position >>> 32);
+    }
+
+    private static int offsetOf(long position) {
+        return (int) position;
+    }
+
+    /**
+     * Baris dengan nomor store {@code row} (bukan indeks list) saat snapshot dibuat, misal
+     * nomor baris dari indeks tanggal yang dibaca bersamaan dengan snapshot ini. Tetap
+     * valid setelah store dipadatkan karena segmen snapshot tidak ikut berubah.
+     */
+    public Transaction atRow(int row) {
+        int s = row >>> TransactionStore.SEGMENT_SHIFT;
+        int i = row & (TransactionStore.SEGMENT_SIZE - 1);
+        if (row < 0 || s >= segments.length || i >= lengths[s]) {
+            throw new IndexOutOfBoundsException("Baris " + row + " tidak ada di snapshot");
+        }
+        return segments[s].toTransaction(i, dictionary);
+    }
+
+    /** Posisi baris hidup ke-{@code rank} (dari 0) di segmen bertombstone */
+    private static int select(long[] deletedWords, int rank) {
+        for (int w = 0; ; w++) {
+            long live = ~deletedWords[w];
+            int count = Long.bitCount(live);
+            if (rank < count) {
+                for (int k = 0; k < rank; k++) {
+                    live &= live - 1;
+                }
+                return (w << 6) + Long.numberOfTrailingZeros(live);
+            }
+            rank -= count;
+        }
+    }
+
+    private boolean isDeleted(int s, int i) {
+        return deleted[s] != null && (deleted[s][i >>> 6] & (1L << i)) != 0;
+    }
+
+    @Override
+    public Iterator<Transaction> iterator() {
+        return new Iterator<>() {
+            private int segment;
+            private int position = -1;
+
+            {
+                advance();
+            }
+
+            private void advance() {
+                position++;
+                while (segment < segments.length) {
+                    while (position < lengths[segment] && isDeleted(segment, position)) position++;
+                    if (position < lengths[segment]) return;
+                    segment++;
+                    position = 0;
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return segment < segments.length;
+            }
+
+            @Override
+            public Transaction next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                Transaction tx = segments[segment].toTransaction(position, dictionary);
+                advance();
+                return tx;
+            }
+        };
+    }
+
+    @Override
+    public void forEach(Consumer<? super Transaction> action) {
+        for (int s = 0; s < segments.length; s++) {
+            for (int i = 0; i < lengths[s]; i++) {
+                if (!isDeleted(s, i)) {
+                    action.accept(segments[s].toTransaction(i, dictionary));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,669 @@
+package com.financetracker.model;
+
+import com.financetracker.aggregate.DailyPrefixSums;
+import com.financetracker.aggregate.PeriodVersions;
+import com.financetracker.aggregate.RollupCube;
+import com.financetracker.index.BitmapIndex;
+import com.financetracker.index.DateIndex;
+import com.financetracker.index.IdIndex;
+import com.financetracker.index.RowBitmap;
+import com.financetracker.index.TextIndex;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Penyimpanan transaksi di memori dalam bentuk struct-of-arrays.
+ *
+ * Setiap kolom (epoch day, jumlah dalam sen, tipe, kategori, id, id deskripsi) disimpan
+ * di array primitifnya sendiri, dipecah per segmen {@value #SEGMENT_SIZE} baris agar
+ * bisa tumbuh tanpa menyalin seluruh isi. Scan agregasi cukup membaca kolom yang
+ * dibutuhkan secara berurutan (ramah cache dan bisa divektorisasi JIT).
+ *
+ * Deskripsi dikodekan lewat {@link DescriptionDictionary}, sehingga teks yang berulang
+ * disimpan sekali dan pengelompokan per deskripsi cukup membandingkan int.
+ *
+ * Store juga memelihara indeks tanggal ({@link DateIndex}) dan bitmap per kategori dan
+ * per tipe ({@link RowBitmap}), sehingga predikat tanggal/kategori/tipe bisa dijawab
+ * dengan operasi AND/OR bitmap dan hitungan cukup dengan popcount. Deskripsi diindeks
+ * trigram ({@link TextIndex}) untuk pencarian teks, dan id dipetakan ke baris lewat
+ * {@link IdIndex} sehingga {@link #findRow(String)} O(1). Total per (hari/bulan/tahun,
+ * kategori, tipe) dipelihara berjalan di {@link RollupCube}, dan setiap mutasi dicatat
+ * per hari di {@link PeriodVersions} untuk membatalkan cache hasil turunan, termasuk
+ * jumlah kumulatif per hari ({@link DailyPrefixSums}) yang dibangun saat dibutuhkan.
+ *
+ * Store adalah satu-satunya salinan transaksi di memori: objek {@link Transaction} hanya
+ * dibangun sebagai tampilan ({@link #toTransaction(int)}, {@link #snapshot()}).
+ *
+ * Baris ditambahkan di akhir dan nomor barisnya tetap sampai {@link #compact()};
+ * penghapusan menandai tombstone dan mengeluarkan baris dari semua indeks. Pemadatan
+ * melepas slot tombstone dengan menyalin baris hidup ke segmen baru. Tidak thread-safe.
+ */
+public class TransactionStore {
+
+    public static final int SEGMENT_SHIFT = 12;
+    public static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+    private static final Category[] CATEGORIES = Category.values();
+    private static final byte EXPENSE = (byte) TransactionType.EXPENSE.ordinal();
+    /** {@link #compactIfNeeded()} memadatkan bila paling sedikit 1/N baris adalah tombstone */
+    private static final int COMPACT_RATIO = 4;
+
+    private final DescriptionDictionary dictionary;
+    private final List<Segment> segments = new ArrayList<>();
+    private final DateIndex dateIndex = new DateIndex();
+    private final BitmapIndex categoryIndex = new BitmapIndex(CATEGORIES.length);
+    private final BitmapIndex typeIndex = new BitmapIndex(TYPES.length);
+    private final TextIndex textIndex = new TextIndex();
+    private final IdIndex idIndex = new IdIndex();
+    private final RollupCube rollup = new RollupCube();
+    private final PeriodVersions versions = new PeriodVersions();
+    /** Dibangun ulang dari kubus bila versinya tertinggal */
+    private DailyPrefixSums prefixSums;
+    /** Snapshot terakhir; dipakai ulang selama versi data sama */
+    private TransactionSnapshot snapshot;
+    private int size;
+    private int deletedCount;
+
+    /**
+     * Satu segmen kolom. Array dibagikan apa adanya untuk scan cepat: jangan diubah.
+     */
+    public static final class Segment {
+        private final int[] epochDays = new int[SEGMENT_SIZE];
+        private final long[] amounts = new long[SEGMENT_SIZE];
+        private final byte[] types = new byte[SEGMENT_SIZE];
+        private final byte[] categories = new byte[SEGMENT_SIZE];
+        private final long[] idHigh = new long[SEGMENT_SIZE];
+        private final long[] idLow = new long[SEGMENT_SIZE];
+        private final int[] descriptionIds = new int[SEGMENT_SIZE];
+        /** Dialokasikan hanya bila segmen memuat id non-UUID */
+        private String[] legacyIds;
+        private final long[] deleted = new long[SEGMENT_SIZE / 64];
+        private int deletedCount;
+        private int length;
+
+        public int length() { return length; }
+        public int[] epochDays() { return epochDays; }
+        public long[] amounts() { return amounts; }
+        public byte[] types() { return types; }
+        public byte[] categories() { return categories; }
+        public int[] descriptionIds() { return descriptionIds; }
+
+        public boolean isDeleted(int i) {
+            return (deleted[i >>> 6] & (1L << i)) != 0;
+        }
+
+        /** True bila segmen tidak punya tombstone, sehingga scan bisa melewati pengecekan per baris */
+        public boolean hasDeletes() {
+            return deletedCount > 0;
+        }
+
+        int deletedCount() {
+            return deletedCount;
+        }
+
+        /** Salinan bitmap tombstone; null bila segmen tanpa tombstone */
+        long[] copyDeleted() {
+            return deletedCount == 0 ? null : deleted.clone();
+        }
+
+        String id(int i) {
+            if (legacyIds != null && legacyIds[i] != null) {
+                return legacyIds[i];
+            }
+            return new UUID(idHigh[i], idLow[i]).toString();
+        }
+
+        Transaction toTransaction(int i, DescriptionDictionary dictionary) {
+            return new Transaction(id(i), LocalDate.ofEpochDay(epochDays[i]), dictionary.decode(descriptionIds[i]),
+                    TransactionEncoding.fromMinorUnits(amounts[i]), TYPES[types[i]], CATEGORIES[categories[i]]);
+        }
+    }
+
+    /**
+     * Store kosong dengan kamus deskripsi bersama aplikasi.
+     */
+    public TransactionStore() {
+        this(DescriptionDictionary.getInstance());
+    }
+
+    public TransactionStore(DescriptionDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Store baru berisi salinan list transaksi.
+     */
+    public static TransactionStore of(List<Transaction> transactions) {
+        TransactionStore store = new TransactionStore();
+        store.addAll(transactions);
+        return store;
+    }
+
+    // ============================================================
+    //                      MUTASI
+    // ============================================================
+
+    /**
+     * @return nomor baris transaksi baru
+     */
+    public int add(Transaction tx) {
+        int row = append(tx);
+        dateIndex.add(epochDay(row), row);
+        versions.touch(epochDay(row));
+        return row;
+    }
+
+    /**
+     * Menambah banyak transaksi; indeks tanggal digabung sekali dan versi data naik
+     * sekali untuk seluruh batch.
+     *
+     * @return nomor baris transaksi pertama (baris berikutnya berurutan)
+     */
+    public int addAll(List<Transaction> transactions) {
+        int first = size;
+        int[] days = new int[transactions.size()];
+        int[] rows = new int[transactions.size()];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = append(transactions.get(i));
+            days[i] = epochDay(rows[i]);
+        }
+        dateIndex.addAll(days, rows, rows.length);
+        versions.touchAll(days, rows.length);
+        return first;
+    }
+
+    private int append(Transaction tx) {
+        int row = size;
+        Segment segment = segmentForAppend();
+        int i = segment.length;
+
+        segment.epochDays[i] = Math.toIntExact(tx.getDate().toEpochDay());
+        segment.amounts[i] = TransactionEncoding.toMinorUnits(tx.getAmount());
+        segment.types[i] = (byte) tx.getType().ordinal();
+        segment.categories[i] = (byte) tx.getCategory().ordinal();
+        segment.descriptionIds[i] = dictionary.encode(tx.getDescription());
+
+        UUID uuid = TransactionEncoding.parseCanonicalUuid(tx.getId());
+        if (uuid != null) {
+            segment.idHigh[i] = uuid.getMostSignificantBits();
+            segment.idLow[i] = uuid.getLeastSignificantBits();
+            idIndex.put(segment.idHigh[i], segment.idLow[i], row);
+        } else {
+            if (segment.legacyIds == null) segment.legacyIds = new String[SEGMENT_SIZE];
+            segment.legacyIds[i] = tx.getId();
+            idIndex.put(tx.getId(), row);
+        }
+
+        segment.length++;
+        size++;
+        categoryIndex.add(segment.categories[i], row);
+        typeIndex.add(segment.types[i], row);
+        textIndex.add(segment.descriptionIds[i], tx.getDescription(), row);
+        rollup.add(segment.epochDays[i], segment.categories[i], segment.types[i], segment.amounts[i]);
+        return row;
+    }
+
+    private Segment segmentForAppend() {
+        if ((size & SEGMENT_MASK) == 0) {
+            segments.add(new Segment());
+        }
+        return segments.get(segments.size() - 1);
+    }
+
+    /**
+     * Menandai baris sebagai terhapus.
+     *
+     * @return false bila baris sudah terhapus sebelumnya
+     */
+    public boolean delete(int row) {
+        Segment segment = segment(row);
+        int i = row & SEGMENT_MASK;
+        if (segment.isDeleted(i)) return false;
+        segment.deleted[i >>> 6] |= 1L << i;
+        segment.deletedCount++;
+        deletedCount++;
+        dateIndex.remove(segment.epochDays[i], row);
+        categoryIndex.remove(segment.categories[i], row);
+        typeIndex.remove(segment.types[i], row);
+        textIndex.remove(segment.descriptionIds[i], row);
+        rollup.remove(segment.epochDays[i], segment.categories[i], segment.types[i], segment.amounts[i]);
+        versions.touch(segment.epochDays[i]);
+        if (segment.legacyIds != null && segment.legacyIds[i] != null) {
+            idIndex.remove(segment.legacyIds[i], row);
+        } else {
+            idIndex.remove(segment.idHigh[i], segment.idLow[i], row);
+        }
+        return true;
+    }
+
+    /**
+     * {@link #compact()} bila tombstone sudah mencapai 1/{@value #COMPACT_RATIO} baris
+     * (dan paling sedikit satu segmen), sehingga biayanya teramortisasi atas penghapusan.
+     *
+     * @return true bila store dipadatkan (nomor baris berubah)
+     */
+    public boolean compactIfNeeded() {
+        if (deletedCount < SEGMENT_SIZE || (long) deletedCount * COMPACT_RATIO < size) return false;
+        return compact();
+    }
+
+    /**
+     * Memadatkan store: baris hidup disalin ke segmen baru sesuai urutannya dan indeks
+     * baris (tanggal, kategori, tipe, teks, id) dibangun ulang, sehingga slot tombstone
+     * dilepas. Nomor baris berubah. Kubus rollup dan versi per hari tidak berubah karena
+     * isi datanya sama; segmen lama tidak disentuh, jadi snapshot yang sudah ada tetap valid.
+     *
+     * @return false bila tidak ada tombstone
+     */
+    public boolean compact() {
+        if (deletedCount == 0) return false;
+        List<Segment> old = new ArrayList<>(segments);
+        int live = liveCount();
+        snapshot = null; // Agar segmen lama bisa dibebaskan begitu snapshot di luar tidak dipakai lagi
+        segments.clear();
+        size = 0;
+        deletedCount = 0;
+        dateIndex.clear();
+        categoryIndex.clear();
+        typeIndex.clear();
+        textIndex.clear();
+        idIndex.clear();
+
+        int[] days = new int[live];
+        int[] rows = new int[live];
+        for (Segment from : old) {
+            for (int i = 0; i < from.length; i++) {
+                if (from.isDeleted(i)) continue;
+                rows[size] = size;
+                days[size] = from.epochDays[i];
+                copyRow(from, i);
+            }
+        }
+        dateIndex.addAll(days, rows, live);
+        return true;
+    }
+
+    private void copyRow(Segment from, int i) {
+        int row = size;
+        Segment segment = segmentForAppend();
+        int j = segment.length;
+
+        segment.epochDays[j] = from.epochDays[i];
+        segment.amounts[j] = from.amounts[i];
+        segment.types[j] = from.types[i];
+        segment.categories[j] = from.categories[i];
+        segment.descriptionIds[j] = from.descriptionIds[i];
+        if (from.legacyIds != null && from.legacyIds[i] != null) {
+            if (segment.legacyIds == null) segment.legacyIds = new String[SEGMENT_SIZE];
+            segment.legacyIds[j] = from.legacyIds[i];
+            idIndex.put(from.legacyIds[i], row);
+        } else {
+            segment.idHigh[j] = from.idHigh[i];
+            segment.idLow[j] = from.idLow[i];
+            idIndex.put(from.idHigh[i], from.idLow[i], row);
+        }
+
+        segment.length++;
+        size++;
+        categoryIndex.add(segment.categories[j], row);
+        typeIndex.add(segment.types[j], row);
+        textIndex.add(segment.descriptionIds[j], dictionary.decode(segment.descriptionIds[j]), row);
+    }
+
+    /**
+     * Mencari baris hidup dengan id tertentu lewat indeks hash id.
+     *
+     * @return nomor baris, atau -1 bila tidak ada
+     */
+    public int findRow(String id) {
+        if (id == null) return -1;
+        UUID uuid = TransactionEncoding.parseCanonicalUuid(id);
+        return uuid != null
+                ? idIndex.get(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits())
+                : idIndex.get(id);
+    }
+
+    public void clear() {
+        segments.clear();
+        size = 0;
+        deletedCount = 0;
+        dateIndex.clear();
+        categoryIndex.clear();
+        typeIndex.clear();
+        textIndex.clear();
+        idIndex.clear();
+        rollup.clear();
+        versions.clear();
+        snapshot = null;
+    }
+
+    // ============================================================
+    //                      AKSES PER BARIS
+    // ============================================================
+
+    /** Jumlah baris termasuk tombstone (batas atas nomor baris) */
+    public int size() { return size; }
+
+    /** Jumlah baris yang masih hidup */
+    public int liveCount() { return size - deletedCount; }
+
+    public int segmentCount() { return segments.size(); }
+
+    public Segment segment(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Baris " + row + " di luar rentang 0.." + (size - 1));
+        }
+        return segments.get(row >>> SEGMENT_SHIFT);
+    }
+
+    public Segment segmentAt(int index) {
+        return segments.get(index);
+    }
+
+    public boolean isDeleted(int row) {
+        return segment(row).isDeleted(row & SEGMENT_MASK);
+    }
+
+    public int epochDay(int row) { return segment(row).epochDays[row & SEGMENT_MASK]; }
+    public long amountMinor(int row) { return segment(row).amounts[row & SEGMENT_MASK]; }
+    public TransactionType type(int row) { return TYPES[segment(row).types[row & SEGMENT_MASK]]; }
+    public Category category(int row) { return CATEGORIES[segment(row).categories[row & SEGMENT_MASK]]; }
+    public int descriptionId(int row) { return segment(row).descriptionIds[row & SEGMENT_MASK]; }
+    public String description(int row) { return dictionary.decode(descriptionId(row)); }
+
+    public DescriptionDictionary getDictionary() {
+        return dictionary;
+    }
+
+    public String id(int row) {
+        return segment(row).id(row & SEGMENT_MASK);
+    }
+
+    /**
+     * Tampilan baris sebagai {@link Transaction} (objek baru).
+     */
+    public Transaction toTransaction(int row) {
+        return segment(row).toTransaction(row & SEGMENT_MASK, dictionary);
+    }
+
+    /**
+     * Snapshot immutable baris hidup sesuai urutan baris, O(jumlah segmen) tanpa menyalin
+     * kolom. Dipakai ulang selama tidak ada mutasi; bitmap tombstone yang tidak berubah
+     * dibagikan dengan snapshot sebelumnya.
+     */
+    public TransactionSnapshot snapshot() {
+        long version = versions.current();
+        if (snapshot != null && snapshot.version() == version) {
+            return snapshot;
+        }
+        int n = segments.size();
+        Segment[] captured = segments.toArray(new Segment[0]);
+        int[] lengths = new int[n];
+        long[][] deleted = new long[n][];
+        for (int s = 0; s < n; s++) {
+            Segment segment = captured[s];
+            lengths[s] = segment.length;
+            deleted[s] = snapshot != null ? snapshot.sharedDeleted(s, segment) : null;
+            if (deleted[s] == null) {
+                deleted[s] = segment.copyDeleted();
+            }
+        }
+        snapshot = new TransactionSnapshot(captured, lengths, deleted, dictionary, version);
+        return snapshot;
+    }
+
+    // ============================================================
+    //                      INDEKS
+    // ============================================================
+
+    /** Indeks tanggal baris hidup; jangan diubah oleh pemanggil */
+    public DateIndex dateIndex() {
+        return dateIndex;
+    }
+
+    /** Total berjalan per (periode, kategori, tipe) baris hidup; jangan diubah oleh pemanggil */
+    public RollupCube rollup() {
+        return rollup;
+    }
+
+    /** Versi data per hari, naik setiap baris ditambah atau dihapus */
+    public PeriodVersions versions() {
+        return versions;
+    }
+
+    /**
+     * Jumlah kumulatif per hari baris hidup, untuk total rentang tanggal O(1). Dibangun
+     * ulang dari level hari kubus rollup (O(hari × sel)) hanya bila ada mutasi sejak
+     * pemanggilan terakhir.
+     */
+    public DailyPrefixSums prefixSums() {
+        long version = versions.current();
+        if (prefixSums == null || prefixSums.getVersion() != version) {
+            prefixSums = dateIndex.size() == 0
+                    ? DailyPrefixSums.empty(version)
+                    : DailyPrefixSums.build(rollup, dateIndex.dayAt(0), dateIndex.dayAt(dateIndex.size() - 1), version);
+        }
+        return prefixSums;
+    }
+
+    /** Bitmap baris hidup dengan kategori tertentu; jangan diubah oleh pemanggil */
+    public RowBitmap categoryRows(Category category) {
+        return categoryIndex.get(category.ordinal());
+    }
+
+    /** Bitmap baris hidup dengan tipe tertentu; jangan diubah oleh pemanggil */
+    public RowBitmap typeRows(TransactionType type) {
+        return typeIndex.get(type.ordinal());
+    }
+
+    /**
+     * Baris hidup yang deskripsinya memuat semua kata di kueri (tanpa peka huruf besar/kecil).
+     */
+    public RowBitmap search(String query) {
+        return textIndex.search(query);
+    }
+
+    /**
+     * Bitmap baru berisi baris hidup dengan tanggal dalam [fromDay, toDay].
+     */
+    public RowBitmap rowsInRange(int fromDay, int toDay) {
+        int[] rows = dateIndex.rowsInRange(fromDay, toDay);
+        return RowBitmap.of(rows, rows.length);
+    }
+
+    /**
+     * Total jumlah (sen) baris di bitmap.
+     */
+    public long sumAmount(RowBitmap rows) {
+        long[] total = {0};
+        rows.forEach(row -> total[0] += segments.get(row >>> SEGMENT_SHIFT).amounts[row & SEGMENT_MASK]);
+        return total[0];
+    }
+
+    /**
+     * Total jumlah (sen) per kategori untuk baris di bitmap, diindeks dengan
+     * {@link Category#ordinal()}: setiap kategori = {@code rows AND bitmap kategori}.
+     */
+    public long[] sumByCategory(RowBitmap rows) {
+        long[] totals = new long[CATEGORIES.length];
+        for (int c = 0; c < CATEGORIES.length; c++) {
+            RowBitmap categoryRows = categoryIndex.get(c);
+            if (categoryRows.isEmpty()) continue;
+            totals[c] = sumAmount(rows.and(categoryRows));
+        }
+        return totals;
+    }
+
+    /**
+     * Baris di bitmap, diurutkan menurut tanggal lalu nomor baris.
+     */
+    public int[] rowsByDate(RowBitmap rows) {
+        long[] keys = new long[rows.cardinality()];
+        int[] next = {0};
+        rows.forEach(row -> keys[next[0]++] = ((long) epochDay(row) << 32) | row);
+        Arrays.sort(keys);
+        int[] sorted = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            sorted[i] = (int) keys[i];
+        }
+        return sorted;
+    }
+
+    // ============================================================
+    //                      SCAN AGREGASI
+    // ============================================================
+
+    /**
+     * Pengunjung baris untuk {@link #forEachRow}.
+     */
+    @FunctionalInterface
+    public interface RowVisitor {
+        void visit(int row);
+    }
+
+    /**
+     * Mengunjungi baris hidup dengan tanggal dalam [fromDay, toDay] sesuai urutan penambahan.
+     */
+    public void forEachRow(int fromDay, int toDay, RowVisitor visitor) {
+        for (int s = 0; s < segments.size(); s++) {
+            Segment segment = segments.get(s);
+            int[] days = segment.epochDays;
+            for (int i = 0; i < segment.length; i++) {
+                int day = days[i];
+                if (day >= fromDay && day <= toDay && !segment.isDeleted(i)) {
+                    visitor.visit((s << SEGMENT_SHIFT) | i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Jumlah baris hidup dengan tanggal dalam [fromDay, toDay].
+     */
+    public int countRows(int fromDay, int toDay) {
+        return dateIndex.count(fromDay, toDay);
+    }
+
+    /**
+     * Total jumlah (sen) transaksi bertipe {@code type} dengan tanggal dalam [fromDay, toDay].
+     */
+    public long sumAmount(int fromDay, int toDay, TransactionType type) {
+        byte wanted = (byte) type.ordinal();
+        long total = 0;
+        for (Segment segment : segments) {
+            int[] days = segment.epochDays;
+            long[] amounts = segment.amounts;
+            byte[] types = segment.types;
+            int n = segment.length;
+            if (!segment.hasDeletes()) {
+                // Tanpa cabang: kondisi diubah menjadi mask agar loop bisa divektorisasi
+                for (int i = 0; i < n; i++) {
+                    int day = days[i];
+                    boolean hit = day >= fromDay && day <= toDay && types[i] == wanted;
+                    total += hit ? amounts[i] : 0;
+                }
+            } else {
+                for (int i = 0; i < n; i++) {
+                    int day = days[i];
+                    if (day >= fromDay && day <= toDay && types[i] == wanted && !segment.isDeleted(i)) {
+                        total += amounts[i];
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Total jumlah (sen) per kategori, diindeks dengan {@link Category#ordinal()}.
+     */
+    public long[] sumByCategory(int fromDay, int toDay, TransactionType type) {
+        byte wanted = (byte) type.ordinal();
+        long[] totals = new long[CATEGORIES.length];
+        for (Segment segment : segments) {
+            int[] days = segment.epochDays;
+            long[] amounts = segment.amounts;
+            byte[] types = segment.types;
+            byte[] categories = segment.categories;
+            boolean checkDeletes = segment.hasDeletes();
+            for (int i = 0; i < segment.length; i++) {
+                int day = days[i];
+                if (day >= fromDay && day <= toDay && types[i] == wanted
+                        && !(checkDeletes && segment.isDeleted(i))) {
+                    totals[categories[i]] += amounts[i];
+                }
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * Total jumlah (sen) per deskripsi, diindeks dengan id {@link DescriptionDictionary}.
+     * Deskripsi yang tidak muncul di rentang bernilai 0.
+     */
+    public long[] sumByDescription(int fromDay, int toDay, TransactionType type) {
+        byte wanted = (byte) type.ordinal();
+        long[] totals = new long[dictionary.size()];
+        for (Segment segment : segments) {
+            int[] days = segment.epochDays;
+            long[] amounts = segment.amounts;
+            byte[] types = segment.types;
+            int[] descriptionIds = segment.descriptionIds;
+            boolean checkDeletes = segment.hasDeletes();
+            for (int i = 0; i < segment.length; i++) {
+                int day = days[i];
+                int id = descriptionIds[i];
+                if (day >= fromDay && day <= toDay && types[i] == wanted && id >= 0
+                        && !(checkDeletes && segment.isDeleted(i))) {
+                    totals[id] += amounts[i];
+                }
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * Total pemasukan dan pengeluaran (sen) per bulan dalam satu tahun:
+     * {@code [0][bulan-1]} = pemasukan, {@code [1][bulan-1]} = pengeluaran.
+     */
+    public long[][] sumByMonth(int year) {
+        int[] monthStarts = new int[13];
+        for (int m = 0; m < 12; m++) {
+            monthStarts[m] = (int) LocalDate.of(year, m + 1, 1).toEpochDay();
+        }
+        monthStarts[12] = (int) LocalDate.of(year + 1, 1, 1).toEpochDay();
+        int fromDay = monthStarts[0];
+        int toDay = monthStarts[12] - 1;
+
+        long[][] totals = new long[2][12];
+        for (Segment segment : segments) {
+            int[] days = segment.epochDays;
+            long[] amounts = segment.amounts;
+            byte[] types = segment.types;
+            boolean checkDeletes = segment.hasDeletes();
+            for (int i = 0; i < segment.length; i++) {
+                int day = days[i];
+                if (day < fromDay || day > toDay || (checkDeletes && segment.isDeleted(i))) continue;
+                int month = 0;
+                while (day >= monthStarts[month + 1]) month++;
+                totals[types[i] == EXPENSE ? 1 : 0][month] += amounts[i];
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * Salinan baris hidup sebagai list Transaction, sesuai urutan penambahan.
+     */
+    public List<Transaction> toTransactions() {
+        List<Transaction> result = new ArrayList<>(liveCount());
+        forEachRow(Integer.MIN_VALUE, Integer.MAX_VALUE, row -> result.add(toTransaction(row)));
+        return result;
+    }
+}
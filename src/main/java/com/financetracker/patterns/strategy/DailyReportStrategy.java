@@ -1,10 +1,12 @@
 package com.financetracker.patterns.strategy;
 
-import com.financetracker.model.Transaction;
+import com.financetracker.aggregate.ReportAggregator;
+import com.financetracker.aggregate.ReportSummary;
+import com.financetracker.model.TransactionEncoding;
+import com.financetracker.model.TransactionStore;
 import com.financetracker.model.TransactionType;
 
 import java.time.LocalDate;
-import java.util.List;
 
 /**
  * Implementasi Strategy: Laporan Harian.
@@ -16,26 +18,29 @@ public class DailyReportStrategy implements ReportStrategy {
     }
 
     @Override
-    public String generateReport(List<Transaction> transactions) {
+    public LocalDate getPeriodStart(LocalDate today) {
+        return today;
+    }
+
+    @Override
+    public LocalDate getPeriodEnd(LocalDate today) {
+        return today;
+    }
+
+    @Override
+    public String generateReport(TransactionStore store) {
         LocalDate today = LocalDate.now();
-        List<Transaction> dailyTx = transactions.stream()
-                .filter(t -> t.getDate().equals(today))
-                // Mengganti .collect(Collectors.toList()) dengan .toList()
-                .toList(); 
+        int day = (int) today.toEpochDay();
 
-        if (dailyTx.isEmpty()) {
+        ReportSummary summary = ReportAggregator.summarize(store, day, day, null);
+        if (summary.isEmpty()) {
             // Mengganti \n dengan %n di pesan non-formatted string (opsional, tapi disarankan)
             return "Tidak ada transaksi hari ini (" + today + ").%n";
         }
 
-        double income = dailyTx.stream()
-                .filter(t -> t.getType() == TransactionType.INCOME)
-                .mapToDouble(Transaction::getAmount)
-                .sum();
-        double expense = dailyTx.stream()
-                .filter(t -> t.getType() == TransactionType.EXPENSE)
-                .mapToDouble(Transaction::getAmount)
-                .sum();
+        // Total dari ringkasan; detail tetap dibaca lewat indeks tanggal
+        double income = TransactionEncoding.fromMinorUnits(summary.sum(TransactionType.INCOME));
+        double expense = TransactionEncoding.fromMinorUnits(summary.sum(TransactionType.EXPENSE));
         double net = income - expense;
 
         StringBuilder report = new StringBuilder();
@@ -53,11 +58,12 @@ public class DailyReportStrategy implements ReportStrategy {
             today, income, expense, net
         ));
 
-        for (Transaction tx : dailyTx) {
+        store.dateIndex().forEachInRange(day, day, row ->
             // Mengganti \n dengan %n di dalam loop
             report.append(String.format("- (%s) %s: Rp %,.2f%n",
-                    tx.getCategory(), tx.getDescription(), tx.getAmount()));
-        }
+                    store.category(row), store.description(row),
+                    TransactionEncoding.fromMinorUnits(store.amountMinor(row))))
+        );
 
         return report.toString();
     }
@@ -1,13 +1,16 @@
 package com.financetracker.patterns.strategy;
 
-import com.financetracker.model.Transaction;
+import com.financetracker.aggregate.ReportAggregator;
+import com.financetracker.aggregate.ReportSummary;
+import com.financetracker.model.Category;
+import com.financetracker.model.TransactionEncoding;
+import com.financetracker.model.TransactionStore;
 import com.financetracker.model.TransactionType;
 
 import java.time.LocalDate;
 import java.time.Month;
-import java.util.List;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Implementasi Strategy: Laporan Bulanan.
@@ -19,38 +22,40 @@ public class MonthlyReportStrategy implements ReportStrategy {
     }
 
     @Override
-    public String generateReport(List<Transaction> transactions) {
+    public LocalDate getPeriodStart(LocalDate today) {
+        return today.withDayOfMonth(1);
+    }
+
+    @Override
+    public LocalDate getPeriodEnd(LocalDate today) {
+        return today.withDayOfMonth(today.lengthOfMonth());
+    }
+
+    @Override
+    public String generateReport(TransactionStore store) {
         LocalDate today = LocalDate.now();
         Month currentMonth = today.getMonth();
         int currentYear = today.getYear();
+        int fromDay = (int) today.withDayOfMonth(1).toEpochDay();
+        int toDay = (int) today.withDayOfMonth(today.lengthOfMonth()).toEpochDay();
 
-        List<Transaction> monthlyTx = transactions.stream()
-                .filter(t -> t.getDate().getMonth() == currentMonth && t.getDate().getYear() == currentYear)
-                .toList();
-
-        if (monthlyTx.isEmpty()) {
+        // Semua angka laporan dari satu ringkasan (kubus rollup atau satu lintasan)
+        ReportSummary summary = ReportAggregator.summarize(store, fromDay, toDay, null);
+        if (summary.isEmpty()) {
             return "Tidak ada transaksi bulan ini (" + currentMonth + " " + currentYear + ").";
         }
 
-        double income = 0;
-        double expense = 0;
+        double income = TransactionEncoding.fromMinorUnits(summary.sum(TransactionType.INCOME));
+        double expense = TransactionEncoding.fromMinorUnits(summary.sum(TransactionType.EXPENSE));
+        double net = income - expense;
 
-        for (Transaction tx : monthlyTx) {
-            if (tx.getType() == TransactionType.INCOME) {
-                income += tx.getAmount();
-            } else {
-                expense += tx.getAmount();
+        long[] byCategory = summary.sumByCategory(TransactionType.EXPENSE);
+        Map<String, Double> expenseByCategory = new HashMap<>();
+        for (Category category : Category.values()) {
+            if (byCategory[category.ordinal()] != 0) {
+                expenseByCategory.put(category.toString(), TransactionEncoding.fromMinorUnits(byCategory[category.ordinal()]));
             }
         }
-        double net = income - expense;
-
-        // Agregasi pengeluaran per kategori
-        Map<String, Double> expenseByCategory = monthlyTx.stream()
-                .filter(t -> t.getType() == TransactionType.EXPENSE)
-                .collect(Collectors.groupingBy(
-                        t -> t.getCategory().toString(),
-                        Collectors.summingDouble(Transaction::getAmount)
-                ));
 
         StringBuilder report = new StringBuilder();
         
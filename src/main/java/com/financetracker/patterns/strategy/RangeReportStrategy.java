@@ -0,0 +1,137 @@
+package com.financetracker.patterns.strategy;
+
+import com.financetracker.aggregate.DailyPrefixSums;
+import com.financetracker.model.Category;
+import com.financetracker.model.TransactionEncoding;
+import com.financetracker.model.TransactionStore;
+import com.financetracker.model.TransactionType;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Implementasi Strategy: Laporan untuk rentang tanggal bebas [start, end], atau jendela
+ * bergulir N hari terakhir ({@link #lastDays(int)}).
+ *
+ * Semua angka dibaca dari {@link TransactionStore#prefixSums()}: setiap total rentang O(1)
+ * berapa pun panjangnya. Jendela bergulir juga menampilkan tren total N hari yang berakhir
+ * di setiap hari dalam N hari terakhir, dihitung linear dari jumlah kumulatif yang sama.
+ */
+public class RangeReportStrategy implements ReportStrategy {
+
+    /** Banyaknya titik tren yang ditampilkan untuk jendela bergulir */
+    private static final int TREND_POINTS = 10;
+
+    private LocalDate start;
+    private LocalDate end;
+    /** Panjang jendela bergulir dalam hari; 0 = rentang tetap */
+    private final int windowDays;
+
+    public RangeReportStrategy(LocalDate start, LocalDate end) {
+        this(0);
+        setRange(start, end);
+    }
+
+    private RangeReportStrategy(int windowDays) {
+        this.windowDays = windowDays;
+    }
+
+    /** Jendela bergulir: {@code days} hari terakhir sampai hari ini */
+    public static RangeReportStrategy lastDays(int days) {
+        if (days < 1) {
+            throw new IllegalArgumentException("Panjang jendela harus positif: " + days);
+        }
+        return new RangeReportStrategy(days);
+    }
+
+    /**
+     * Mengganti rentang laporan tetap (misalnya dari isian filter tanggal).
+     */
+    public void setRange(LocalDate start, LocalDate end) {
+        if (windowDays > 0) {
+            throw new IllegalStateException("Rentang jendela bergulir mengikuti tanggal hari ini.");
+        }
+        if (start == null || end == null || end.isBefore(start)) {
+            throw new IllegalArgumentException("Rentang tanggal tidak valid: " + start + " s/d " + end);
+        }
+        this.start = start;
+        this.end = end;
+    }
+
+    public boolean isRolling() {
+        return windowDays > 0;
+    }
+
+    @Override
+    public String getReportName() {
+        return isRolling() ? "Laporan " + windowDays + " Hari Terakhir" : "Laporan Rentang Tanggal";
+    }
+
+    /**
+     * Jendela bergulir juga membutuhkan N - 1 hari sebelum jendela untuk titik tren pertama.
+     */
+    @Override
+    public LocalDate getPeriodStart(LocalDate today) {
+        return isRolling() ? today.minusDays(2L * windowDays - 2) : start;
+    }
+
+    @Override
+    public LocalDate getPeriodEnd(LocalDate today) {
+        return isRolling() ? today : end;
+    }
+
+    @Override
+    public String generateReport(TransactionStore store) {
+        LocalDate today = LocalDate.now();
+        LocalDate from = isRolling() ? today.minusDays(windowDays - 1L) : start;
+        LocalDate to = getPeriodEnd(today);
+        int fromDay = (int) from.toEpochDay();
+        int toDay = (int) to.toEpochDay();
+
+        DailyPrefixSums sums = store.prefixSums();
+        if (sums.count(fromDay, toDay) == 0) {
+            return "Tidak ada transaksi pada " + from + " s/d " + to + ".";
+        }
+
+        double income = TransactionEncoding.fromMinorUnits(sums.sum(fromDay, toDay, TransactionType.INCOME));
+        double expense = TransactionEncoding.fromMinorUnits(sums.sum(fromDay, toDay, TransactionType.EXPENSE));
+        long dayCount = toDay - (long) fromDay + 1;
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%s (%s s/d %s):%n", getReportName(), from, to));
+        report.append(String.format("----------------------------%n"));
+        report.append(String.format("Total Pemasukan: Rp %,.2f%n", income));
+        report.append(String.format("Total Pengeluaran: Rp %,.2f%n", expense));
+        report.append(String.format("Total Bersih: Rp %,.2f%n", income - expense));
+        report.append(String.format("Rata-rata Pengeluaran per Hari: Rp %,.2f%n%n", expense / dayCount));
+
+        report.append(String.format("Pengeluaran per Kategori:%n"));
+        long[] byCategory = sums.sumByCategory(fromDay, toDay, TransactionType.EXPENSE);
+        Category[] categories = Category.values();
+        Integer[] order = new Integer[categories.length];
+        for (int c = 0; c < order.length; c++) order[c] = c;
+        Arrays.sort(order, (a, b) -> Long.compare(byCategory[b], byCategory[a])); // Urutkan dari terbesar
+        for (int c : order) {
+            if (byCategory[c] != 0) {
+                report.append(String.format("- %s: Rp %,.2f%n", categories[c],
+                        TransactionEncoding.fromMinorUnits(byCategory[c])));
+            }
+        }
+
+        if (isRolling()) {
+            appendTrend(report, sums, fromDay, toDay);
+        }
+        return report.toString();
+    }
+
+    /** Total pengeluaran N hari bergulir untuk setiap hari di jendela, diambil ~{@value #TREND_POINTS} titik */
+    private void appendTrend(StringBuilder report, DailyPrefixSums sums, int fromDay, int toDay) {
+        long[] trend = sums.rolling(fromDay, toDay, windowDays, TransactionType.EXPENSE);
+        int step = Math.max(1, trend.length / TREND_POINTS);
+        report.append(String.format("%nTren Pengeluaran %d Hari Bergulir:%n", windowDays));
+        for (int i = (trend.length - 1) % step; i < trend.length; i += step) {
+            report.append(String.format("- %s: Rp %,.2f%n", LocalDate.ofEpochDay((long) fromDay + i),
+                    TransactionEncoding.fromMinorUnits(trend[i])));
+        }
+    }
+}
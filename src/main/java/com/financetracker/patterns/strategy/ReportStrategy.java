@@ -1,7 +1,9 @@
 package com.financetracker.patterns.strategy;
 
 import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionStore;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -10,5 +12,31 @@ import java.util.List;
  */
 public interface ReportStrategy {
     String getReportName();
-    String generateReport(List<Transaction> transactions);
-}
\ No newline at end of file
+
+    /**
+     * Laporan dari {@link TransactionStore}: angka dari satu
+     * {@link com.financetracker.aggregate.ReportSummary} (kubus rollup atau satu lintasan kolom),
+     * detail dari kolom dan indeksnya.
+     */
+    String generateReport(TransactionStore store);
+
+    default String generateReport(List<Transaction> transactions) {
+        return generateReport(TransactionStore.of(transactions));
+    }
+
+    /**
+     * Tanggal paling awal yang dibutuhkan laporan ini, agar data lama
+     * hanya dimuat bila perlu. null = seluruh riwayat.
+     */
+    default LocalDate getPeriodStart(LocalDate today) {
+        return null;
+    }
+
+    /**
+     * Tanggal paling akhir yang dibaca laporan ini (termasuk transaksi bertanggal
+     * mendatang di periode yang sama). null = tanpa batas akhir.
+     */
+    default LocalDate getPeriodEnd(LocalDate today) {
+        return null;
+    }
+}
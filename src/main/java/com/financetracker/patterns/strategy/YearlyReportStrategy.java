@@ -1,12 +1,13 @@
 package com.financetracker.patterns.strategy;
 
-import com.financetracker.model.Transaction;
+import com.financetracker.aggregate.ReportAggregator;
+import com.financetracker.aggregate.ReportSummary;
+import com.financetracker.aggregate.RollupCube;
+import com.financetracker.model.TransactionEncoding;
+import com.financetracker.model.TransactionStore;
 import com.financetracker.model.TransactionType;
 
 import java.time.LocalDate;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Implementasi Strategy: Laporan Tahunan.
@@ -18,34 +19,29 @@ public class YearlyReportStrategy implements ReportStrategy {
     }
 
     @Override
-    public String generateReport(List<Transaction> transactions) {
-        int currentYear = LocalDate.now().getYear();
+    public LocalDate getPeriodStart(LocalDate today) {
+        return today.withDayOfYear(1);
+    }
 
-        List<Transaction> yearlyTx = transactions.stream()
-                .filter(t -> t.getDate().getYear() == currentYear)
-                .toList();
+    @Override
+    public LocalDate getPeriodEnd(LocalDate today) {
+        return today.withDayOfYear(today.lengthOfYear());
+    }
 
-        if (yearlyTx.isEmpty()) {
+    @Override
+    public String generateReport(TransactionStore store) {
+        int currentYear = LocalDate.now().getYear();
+        int fromDay = (int) LocalDate.of(currentYear, 1, 1).toEpochDay();
+        int toDay = (int) LocalDate.of(currentYear, 12, 31).toEpochDay();
+
+        // Total dan rincian per bulan dari satu ringkasan (12 blok bulan kubus, atau satu lintasan)
+        ReportSummary summary = ReportAggregator.summarize(store, fromDay, toDay, RollupCube.Granularity.MONTH);
+        if (summary.isEmpty()) {
             return "Tidak ada transaksi tahun ini (" + currentYear + ").";
         }
 
-        // Agregasi per bulan
-        Map<String, Double> incomePerMonth = yearlyTx.stream()
-                .filter(t -> t.getType() == TransactionType.INCOME)
-                .collect(Collectors.groupingBy(
-                        t -> t.getDate().getMonth().toString(),
-                        Collectors.summingDouble(Transaction::getAmount)
-                ));
-
-        Map<String, Double> expensePerMonth = yearlyTx.stream()
-                .filter(t -> t.getType() == TransactionType.EXPENSE)
-                .collect(Collectors.groupingBy(
-                        t -> t.getDate().getMonth().toString(),
-                        Collectors.summingDouble(Transaction::getAmount)
-                ));
-
-        double totalIncome = incomePerMonth.values().stream().mapToDouble(Double::doubleValue).sum();
-        double totalExpense = expensePerMonth.values().stream().mapToDouble(Double::doubleValue).sum();
+        double totalIncome = TransactionEncoding.fromMinorUnits(summary.sum(TransactionType.INCOME));
+        double totalExpense = TransactionEncoding.fromMinorUnits(summary.sum(TransactionType.EXPENSE));
 
         StringBuilder report = new StringBuilder();
         report.append(String.format("Laporan Tahunan (%d):%n", currentYear));
@@ -56,8 +52,8 @@ public class YearlyReportStrategy implements ReportStrategy {
         report.append(String.format("Ringkasan per Bulan:%n"));
 
         for (java.time.Month month : java.time.Month.values()) {
-            double income = incomePerMonth.getOrDefault(month.toString(), 0.0);
-            double expense = expensePerMonth.getOrDefault(month.toString(), 0.0);
+            double income = TransactionEncoding.fromMinorUnits(summary.bucketSum(month.ordinal(), TransactionType.INCOME));
+            double expense = TransactionEncoding.fromMinorUnits(summary.bucketSum(month.ordinal(), TransactionType.EXPENSE));
             if(income > 0 || expense > 0) {
                 report.append(String.format("- %s: Pemasukan Rp %,.2f | Pengeluaran Rp %,.2f | Bersih Rp %,.2f%n",
                 month, income, expense, (income - expense)));
@@ -0,0 +1,255 @@
+package com.financetracker.service;
+
+import com.financetracker.index.DateIndex;
+import com.financetracker.index.RowBitmap;
+import com.financetracker.model.Category;
+import com.financetracker.model.TransactionEncoding;
+import com.financetracker.model.TransactionStore;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Rencana eksekusi satu {@link TransactionQuery}, hasil {@link QueryPlanner#plan}.
+ *
+ * Jalur akses menghasilkan baris kandidat; predikat yang tidak tercakup diperiksa per
+ * baris di kolom {@link TransactionStore}. Bila jalur akses adalah indeks tanggal (atau
+ * scan) dan kueri diurutkan menurut tanggal, baris dibaca langsung dalam urutan indeks
+ * dan eksekusi berhenti begitu offset + limit terpenuhi.
+ */
+public final class QueryPlan {
+
+    /** Jalur akses, urut menurut prioritas saat perkiraan sama */
+    public enum Access {
+        DATE_INDEX, TEXT_INDEX, CATEGORY_BITMAP, TYPE_BITMAP, FULL_SCAN
+    }
+
+    /** Batas kueri yang sudah dikonversi ke satuan kolom store (epoch day, sen) */
+    static final class Bounds {
+        final int fromDay;
+        final int toDay;
+        final long minAmount;
+        final long maxAmount;
+
+        Bounds(TransactionQuery query) {
+            this.fromDay = query.getStartDate() == null ? Integer.MIN_VALUE : (int) query.getStartDate().toEpochDay();
+            this.toDay = query.getEndDate() == null ? Integer.MAX_VALUE : (int) query.getEndDate().toEpochDay();
+            this.minAmount = query.getMinAmount() == null
+                    ? Long.MIN_VALUE : TransactionEncoding.toMinorUnits(query.getMinAmount());
+            this.maxAmount = query.getMaxAmount() == null
+                    ? Long.MAX_VALUE : TransactionEncoding.toMinorUnits(query.getMaxAmount());
+        }
+    }
+
+    private final TransactionQuery query;
+    private final TransactionStore store;
+    private final Access access;
+    private final Map<Access, Integer> estimates;
+    private final Bounds bounds;
+    /** Kandidat untuk jalur bitmap (semua predikat berbitmap sudah di-AND); null untuk jalur tanggal/scan */
+    private final RowBitmap driver;
+    /** Hasil indeks teks untuk pemeriksaan per baris; null bila kueri tanpa teks */
+    private final RowBitmap textRows;
+    private final boolean[] categoryMask;
+
+    QueryPlan(TransactionQuery query, TransactionStore store, Access access, Map<Access, Integer> estimates,
+              Bounds bounds, RowBitmap driver, RowBitmap textRows) {
+        this.query = query;
+        this.store = store;
+        this.access = access;
+        this.estimates = estimates;
+        this.bounds = bounds;
+        this.driver = driver;
+        this.textRows = textRows;
+        if (query.getCategories() != null) {
+            categoryMask = new boolean[Category.values().length];
+            for (Category category : query.getCategories()) categoryMask[category.ordinal()] = true;
+        } else {
+            categoryMask = null;
+        }
+    }
+
+    public Access getAccess() {
+        return access;
+    }
+
+    /** Perkiraan (eksak) jumlah kandidat per jalur akses yang dipertimbangkan */
+    public Map<Access, Integer> getEstimates() {
+        return estimates;
+    }
+
+    private boolean isBitmapAccess() {
+        return driver != null;
+    }
+
+    private boolean streamsInDateOrder() {
+        TransactionQuery.Sort sort = query.getSort();
+        return !isBitmapAccess() && (sort == TransactionQuery.Sort.DATE_ASC || sort == TransactionQuery.Sort.DATE_DESC);
+    }
+
+    // ============================================================
+    //                      EKSEKUSI
+    // ============================================================
+
+    /**
+     * Menjalankan rencana.
+     *
+     * @return nomor baris store hasil kueri, sesuai urutan, offset dan limit
+     */
+    public int[] execute() {
+        if (streamsInDateOrder()) {
+            return executeOrderedScan();
+        }
+
+        int[] rows;
+        if (isBitmapAccess()) {
+            int[] candidates = driver.toArray();
+            int n = 0;
+            for (int row : candidates) {
+                if (matches(row, true, false)) candidates[n++] = row;
+            }
+            rows = Arrays.copyOf(candidates, n);
+        } else {
+            DateIndex index = store.dateIndex();
+            int end = index.upperBound(bounds.toDay);
+            int[] collected = new int[Math.max(0, end - index.lowerBound(bounds.fromDay))];
+            int n = 0;
+            for (int p = index.lowerBound(bounds.fromDay); p < end; p++) {
+                int row = index.rowAt(p);
+                if (matches(row, false, true)) collected[n++] = row;
+            }
+            rows = Arrays.copyOf(collected, n);
+        }
+        return page(sort(rows));
+    }
+
+    /**
+     * Membaca indeks tanggal maju atau mundur dan berhenti setelah offset + limit baris cocok.
+     */
+    private int[] executeOrderedScan() {
+        DateIndex index = store.dateIndex();
+        int start = index.lowerBound(bounds.fromDay);
+        int end = index.upperBound(bounds.toDay);
+        boolean descending = query.getSort() == TransactionQuery.Sort.DATE_DESC;
+        int wanted = query.getLimit() == TransactionQuery.NO_LIMIT
+                ? Integer.MAX_VALUE
+                : (int) Math.min(Integer.MAX_VALUE, (long) query.getOffset() + query.getLimit());
+
+        int[] result = new int[Math.min(Math.max(0, end - start), wanted)];
+        int n = 0;
+        for (int i = 0; i < end - start && n < wanted; i++) {
+            int row = index.rowAt(descending ? end - 1 - i : start + i);
+            if (matches(row, false, true)) result[n++] = row;
+        }
+        int from = Math.min(query.getOffset(), n);
+        return Arrays.copyOfRange(result, from, n);
+    }
+
+    /**
+     * @param checkDate   periksa rentang tanggal (jalur bitmap)
+     * @param checkBitmap periksa predikat berbitmap (jalur tanggal/scan)
+     */
+    private boolean matches(int row, boolean checkDate, boolean checkBitmap) {
+        if (checkDate) {
+            int day = store.epochDay(row);
+            if (day < bounds.fromDay || day > bounds.toDay) return false;
+        }
+        if (query.hasAmountRange()) {
+            long amount = store.amountMinor(row);
+            if (amount < bounds.minAmount || amount > bounds.maxAmount) return false;
+        }
+        if (checkBitmap) {
+            if (query.getType() != null && store.type(row) != query.getType()) return false;
+            if (categoryMask != null && !categoryMask[store.category(row).ordinal()]) return false;
+            if (textRows != null && !textRows.contains(row)) return false;
+        }
+        return true;
+    }
+
+    private int[] sort(int[] rows) {
+        switch (query.getSort()) {
+            case DATE_ASC:
+                return store.rowsByDate(RowBitmap.of(rows, rows.length));
+            case DATE_DESC: {
+                int[] sorted = store.rowsByDate(RowBitmap.of(rows, rows.length));
+                for (int i = 0, j = sorted.length - 1; i < j; i++, j--) {
+                    int tmp = sorted[i];
+                    sorted[i] = sorted[j];
+                    sorted[j] = tmp;
+                }
+                return sorted;
+            }
+            case AMOUNT_ASC:
+                return IntStream.of(rows).boxed().sorted(this::compareAmount).mapToInt(Integer::intValue).toArray();
+            case AMOUNT_DESC:
+                return IntStream.of(rows).boxed().sorted((a, b) -> compareAmount(b, a))
+                        .mapToInt(Integer::intValue).toArray();
+            default:
+                throw new IllegalStateException("Urutan tidak dikenal: " + query.getSort());
+        }
+    }
+
+    private int compareAmount(int a, int b) {
+        int byAmount = Long.compare(store.amountMinor(a), store.amountMinor(b));
+        return byAmount != 0 ? byAmount : Integer.compare(a, b);
+    }
+
+    private int[] page(int[] rows) {
+        int from = Math.min(query.getOffset(), rows.length);
+        int to = query.getLimit() == TransactionQuery.NO_LIMIT
+                ? rows.length
+                : (int) Math.min(rows.length, (long) from + query.getLimit());
+        return from == 0 && to == rows.length ? rows : Arrays.copyOfRange(rows, from, to);
+    }
+
+    // ============================================================
+    //                      EXPLAIN
+    // ============================================================
+
+    /**
+     * Penjelasan rencana yang bisa dibaca manusia.
+     */
+    public String explain() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Kueri   : ").append(query).append('\n');
+        sb.append("Akses   : ").append(access).append(" (").append(String.format("%,d", estimates.get(access)))
+                .append(" kandidat)\n");
+        sb.append("Pilihan :");
+        estimates.forEach((a, count) -> sb.append(' ').append(a).append('=').append(String.format("%,d", count)));
+        sb.append('\n');
+
+        StringBuilder residual = new StringBuilder();
+        if (isBitmapAccess()) {
+            sb.append("Bitmap  : AND dari");
+            if (textRows != null) sb.append(" teks");
+            if (query.getCategories() != null) sb.append(" kategori");
+            if (query.getType() != null) sb.append(" tipe");
+            sb.append('\n');
+            if (query.hasDateRange()) residual.append(" tanggal");
+        } else {
+            if (query.getType() != null) residual.append(" tipe");
+            if (query.getCategories() != null) residual.append(" kategori");
+            if (textRows != null) residual.append(" teks");
+        }
+        if (query.hasAmountRange()) residual.append(" jumlah");
+        sb.append("Saring  :").append(residual.length() == 0 ? " -" : residual).append('\n');
+
+        sb.append("Urutan  : ").append(query.getSort());
+        if (streamsInDateOrder()) {
+            sb.append(" (mengikuti indeks tanggal");
+            if (query.getLimit() != TransactionQuery.NO_LIMIT) {
+                sb.append(", berhenti setelah ").append(query.getOffset() + query.getLimit()).append(" baris");
+            }
+            sb.append(')');
+        } else {
+            sb.append(" (diurutkan setelah penyaringan)");
+        }
+        return sb.append('\n').toString();
+    }
+
+    @Override
+    public String toString() {
+        return explain();
+    }
+}
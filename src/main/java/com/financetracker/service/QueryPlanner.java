@@ -0,0 +1,98 @@
+package com.financetracker.service;
+
+import com.financetracker.index.RowBitmap;
+import com.financetracker.model.Category;
+import com.financetracker.model.TransactionStore;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Perencana kueri sederhana berbasis biaya.
+ *
+ * Untuk setiap predikat yang punya indeks, jumlah baris kandidat dihitung secara eksak
+ * dan murah: indeks tanggal lewat binary search, kategori dan tipe lewat popcount bitmap,
+ * teks lewat indeks trigram. Jalur akses dengan kandidat paling sedikit dipilih; bila
+ * tidak ada yang lebih selektif, kueri dijalankan sebagai scan terurut tanggal. Kueri
+ * terurut tanggal dengan limit kecil tetap memakai scan terurut karena bisa berhenti awal.
+ */
+public final class QueryPlanner {
+
+    private QueryPlanner() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static QueryPlan plan(TransactionQuery query, TransactionStore store) {
+        Map<QueryPlan.Access, Integer> estimates = new EnumMap<>(QueryPlan.Access.class);
+        estimates.put(QueryPlan.Access.FULL_SCAN, store.liveCount());
+
+        QueryPlan.Bounds bounds = new QueryPlan.Bounds(query);
+        if (query.hasDateRange()) {
+            estimates.put(QueryPlan.Access.DATE_INDEX, store.countRows(bounds.fromDay, bounds.toDay));
+        }
+
+        RowBitmap textRows = null;
+        if (query.getText() != null) {
+            textRows = store.search(query.getText());
+            estimates.put(QueryPlan.Access.TEXT_INDEX, textRows.cardinality());
+        }
+
+        RowBitmap categoryRows = null;
+        if (query.getCategories() != null) {
+            categoryRows = new RowBitmap();
+            for (Category category : query.getCategories()) {
+                categoryRows = categoryRows.or(store.categoryRows(category));
+            }
+            estimates.put(QueryPlan.Access.CATEGORY_BITMAP, categoryRows.cardinality());
+        }
+
+        RowBitmap typeRows = null;
+        if (query.getType() != null) {
+            typeRows = store.typeRows(query.getType());
+            estimates.put(QueryPlan.Access.TYPE_BITMAP, typeRows.cardinality());
+        }
+
+        // Urutan enum = prioritas saat seri; indeks tanggal didahulukan karena sudah terurut
+        QueryPlan.Access access = QueryPlan.Access.FULL_SCAN;
+        for (Map.Entry<QueryPlan.Access, Integer> entry : estimates.entrySet()) {
+            if (entry.getValue() < estimates.get(access)) {
+                access = entry.getKey();
+            }
+        }
+
+        RowBitmap driver = null;
+        if (access != QueryPlan.Access.DATE_INDEX && access != QueryPlan.Access.FULL_SCAN) {
+            // Semua predikat berbitmap digabung dengan AND; sisanya diperiksa per baris
+            driver = intersect(intersect(textRows, categoryRows), typeRows);
+            if (preferOrderedScan(query, estimates, driver.cardinality())) {
+                access = query.hasDateRange() ? QueryPlan.Access.DATE_INDEX : QueryPlan.Access.FULL_SCAN;
+                driver = null;
+            }
+        }
+        return new QueryPlan(query, store, access, estimates, bounds, driver, textRows);
+    }
+
+    /**
+     * Kueri terurut tanggal dengan limit bisa berhenti lebih awal saat membaca indeks tanggal.
+     * Dengan asumsi baris cocok tersebar merata, jumlah baris yang dibaca sebelum offset + limit
+     * terpenuhi kira-kira wanted × rentang / cocok; bila lebih kecil dari jumlah kandidat
+     * bitmap, scan terurut lebih murah.
+     */
+    private static boolean preferOrderedScan(TransactionQuery query, Map<QueryPlan.Access, Integer> estimates,
+                                             int matching) {
+        TransactionQuery.Sort sort = query.getSort();
+        if (query.getLimit() == TransactionQuery.NO_LIMIT
+                || (sort != TransactionQuery.Sort.DATE_ASC && sort != TransactionQuery.Sort.DATE_DESC)) {
+            return false;
+        }
+        long wanted = (long) query.getOffset() + query.getLimit();
+        long range = estimates.getOrDefault(QueryPlan.Access.DATE_INDEX, estimates.get(QueryPlan.Access.FULL_SCAN));
+        return matching > 0 && wanted * range / matching < matching;
+    }
+
+    private static RowBitmap intersect(RowBitmap a, RowBitmap b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.cardinality() <= b.cardinality() ? a.and(b) : b.and(a);
+    }
+}
@@ -1,18 +1,83 @@
 package com.financetracker.service;
 
 import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionStore;
 import com.financetracker.patterns.strategy.ReportStrategy;
 
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Context untuk Strategy Pattern.
  * Service ini menggunakan (HAS-A) ReportStrategy.
  * GUI akan berinteraksi dengan service ini, bukan langsung ke strategy-nya.
+ *
+ * Hasil laporan dari {@link TransactionStore} di-cache per (strategi, store, periode)
+ * bersama versi data saat dibuat. Entri tetap dipakai selama tidak ada mutasi di
+ * periodenya ({@link com.financetracker.aggregate.PeriodVersions}); mutasi di periode lain
+ * tidak membatalkannya. Cache dibatasi {@value #MAX_CACHED_REPORTS} entri (LRU).
  */
 public class ReportService {
-    
+
+    static final int MAX_CACHED_REPORTS = 16;
+    /**
+     * System property paralelisme laporan (default 1 = sekuensial). Percepatan lintasan
+     * paralel baru terukur di mesin satu core, jadi mode ini belum diaktifkan default.
+     */
+    public static final String PARALLELISM_PROPERTY = "financetracker.reportParallelism";
+
     private ReportStrategy strategy;
+    /** Pool tempat laporan dijalankan bila paralel; null = sekuensial di thread pemanggil */
+    private ForkJoinPool pool;
+    private final Map<CacheKey, CachedReport> cache =
+            new LinkedHashMap<>(MAX_CACHED_REPORTS, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<CacheKey, CachedReport> eldest) {
+                    return size() > MAX_CACHED_REPORTS;
+                }
+            };
+
+    /** Strategi dan store dibandingkan berdasarkan identitas; periode dalam epoch day */
+    private static final class CacheKey {
+        private final ReportStrategy strategy;
+        private final TransactionStore store;
+        private final int fromDay;
+        private final int toDay;
+
+        CacheKey(ReportStrategy strategy, TransactionStore store, int fromDay, int toDay) {
+            this.strategy = strategy;
+            this.store = store;
+            this.fromDay = fromDay;
+            this.toDay = toDay;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof CacheKey)) return false;
+            CacheKey that = (CacheKey) o;
+            return strategy == that.strategy && store == that.store && fromDay == that.fromDay && toDay == that.toDay;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(strategy), System.identityHashCode(store), fromDay, toDay);
+        }
+    }
+
+    private static final class CachedReport {
+        private final long version;
+        private final String report;
+
+        CachedReport(long version, String report) {
+            this.version = version;
+            this.report = report;
+        }
+    }
 
     public ReportService() {
         // Default strategy (opsional)
@@ -23,6 +88,27 @@ public class ReportService {
         this.strategy = strategy;
     }
 
+    public ReportStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Mode eksekusi laporan. Dengan paralelisme &gt; 1 laporan dijalankan di
+     * {@link ForkJoinPool} sebesar itu, sehingga lintasan agregasi atas riwayat besar
+     * dipecah per potongan segmen (lihat {@link com.financetracker.aggregate.ReportAggregator}).
+     * 1 atau kurang = sekuensial.
+     */
+    public void setParallelism(int parallelism) {
+        if (pool != null) {
+            pool.shutdown();
+        }
+        pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+    }
+
+    public int getParallelism() {
+        return pool == null ? 1 : pool.getParallelism();
+    }
+
     /**
      * Menjalankan strategi yang saat ini di-set.
      */
@@ -32,4 +118,36 @@ public class ReportService {
         }
         return strategy.generateReport(transactions);
     }
+
+    /**
+     * Memakai hasil cache bila periode laporan belum berubah sejak dibuat. Pemanggil
+     * menunggu hasilnya; store tidak diubah selama laporan dibuat.
+     */
+    public String generateReport(TransactionStore store) {
+        if (strategy == null) {
+            return "Silakan pilih jenis laporan terlebih dahulu.";
+        }
+        LocalDate today = LocalDate.now();
+        LocalDate start = strategy.getPeriodStart(today);
+        LocalDate end = strategy.getPeriodEnd(today);
+        CacheKey key = new CacheKey(strategy, store,
+                start == null ? Integer.MIN_VALUE : (int) start.toEpochDay(),
+                end == null ? Integer.MAX_VALUE : (int) end.toEpochDay());
+
+        CachedReport cached = cache.get(key);
+        if (cached != null && !store.versions().changedSince(cached.version, key.fromDay, key.toDay)) {
+            return cached.report;
+        }
+        long version = store.versions().current();
+        String report = run(strategy, store);
+        cache.put(key, new CachedReport(version, report));
+        return report;
+    }
+
+    private String run(ReportStrategy current, TransactionStore store) {
+        if (pool == null) {
+            return current.generateReport(store);
+        }
+        return pool.submit(() -> current.generateReport(store)).join();
+    }
 }
\ No newline at end of file
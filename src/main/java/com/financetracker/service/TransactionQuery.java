@@ -0,0 +1,168 @@
+package com.financetracker.service;
+
+import com.financetracker.model.Category;
+import com.financetracker.model.TransactionType;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Kueri transaksi yang bisa dirangkai: tipe, kategori, rentang tanggal, rentang jumlah,
+ * kata di deskripsi, urutan, limit dan offset.
+ *
+ * Immutable: setiap method {@code with...} mengembalikan kueri baru, dimulai dari
+ * {@link #all()}. Dijalankan lewat {@link TransactionService#query(TransactionQuery)};
+ * {@link QueryPlanner} memilih indeks yang paling selektif.
+ *
+ * <pre>
+ * TransactionQuery.all()
+ *         .withType(TransactionType.EXPENSE)
+ *         .withCategories(Category.MAKANAN, Category.HIBURAN)
+ *         .withDateRange(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 31))
+ *         .sortedBy(TransactionQuery.Sort.AMOUNT_DESC)
+ *         .limit(10);
+ * </pre>
+ */
+public final class TransactionQuery {
+
+    public enum Sort {
+        DATE_ASC, DATE_DESC, AMOUNT_ASC, AMOUNT_DESC
+    }
+
+    /** Tanpa batas jumlah hasil */
+    public static final int NO_LIMIT = -1;
+
+    private static final TransactionQuery ALL =
+            new TransactionQuery(null, null, null, null, null, null, null, Sort.DATE_ASC, NO_LIMIT, 0);
+
+    private final TransactionType type;
+    private final Set<Category> categories;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final Double minAmount;
+    private final Double maxAmount;
+    private final String text;
+    private final Sort sort;
+    private final int limit;
+    private final int offset;
+
+    private TransactionQuery(TransactionType type, Set<Category> categories, LocalDate startDate, LocalDate endDate,
+                             Double minAmount, Double maxAmount, String text, Sort sort, int limit, int offset) {
+        this.type = type;
+        this.categories = categories;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.minAmount = minAmount;
+        this.maxAmount = maxAmount;
+        this.text = text;
+        this.sort = sort;
+        this.limit = limit;
+        this.offset = offset;
+    }
+
+    /**
+     * Kueri tanpa syarat: semua transaksi, terurut tanggal naik.
+     */
+    public static TransactionQuery all() {
+        return ALL;
+    }
+
+    /** null = semua tipe */
+    public TransactionQuery withType(TransactionType type) {
+        return new TransactionQuery(type, categories, startDate, endDate, minAmount, maxAmount, text, sort, limit, offset);
+    }
+
+    /** null = semua kategori */
+    public TransactionQuery withCategory(Category category) {
+        return category == null ? withCategories() : withCategories(category);
+    }
+
+    /** Tanpa argumen = semua kategori */
+    public TransactionQuery withCategories(Category... categories) {
+        Set<Category> set = null;
+        if (categories != null && categories.length > 0) {
+            EnumSet<Category> copy = EnumSet.noneOf(Category.class);
+            Collections.addAll(copy, categories);
+            set = Collections.unmodifiableSet(copy);
+        }
+        return new TransactionQuery(type, set, startDate, endDate, minAmount, maxAmount, text, sort, limit, offset);
+    }
+
+    /** Rentang inklusif; batas null = terbuka */
+    public TransactionQuery withDateRange(LocalDate startDate, LocalDate endDate) {
+        return new TransactionQuery(type, categories, startDate, endDate, minAmount, maxAmount, text, sort, limit, offset);
+    }
+
+    /** Rentang jumlah (rupiah) inklusif; batas null = terbuka */
+    public TransactionQuery withAmountRange(Double minAmount, Double maxAmount) {
+        return new TransactionQuery(type, categories, startDate, endDate, minAmount, maxAmount, text, sort, limit, offset);
+    }
+
+    /** Semua kata harus muncul di deskripsi; null atau kosong = tanpa syarat teks */
+    public TransactionQuery withText(String text) {
+        String value = text == null || text.isBlank() ? null : text;
+        return new TransactionQuery(type, categories, startDate, endDate, minAmount, maxAmount, value, sort, limit, offset);
+    }
+
+    public TransactionQuery sortedBy(Sort sort) {
+        if (sort == null) {
+            throw new IllegalArgumentException("Urutan tidak boleh null.");
+        }
+        return new TransactionQuery(type, categories, startDate, endDate, minAmount, maxAmount, text, sort, limit, offset);
+    }
+
+    /** {@link #NO_LIMIT} = tanpa batas */
+    public TransactionQuery limit(int limit) {
+        if (limit < 0 && limit != NO_LIMIT) {
+            throw new IllegalArgumentException("Limit tidak boleh negatif.");
+        }
+        return new TransactionQuery(type, categories, startDate, endDate, minAmount, maxAmount, text, sort, limit, offset);
+    }
+
+    public TransactionQuery offset(int offset) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset tidak boleh negatif.");
+        }
+        return new TransactionQuery(type, categories, startDate, endDate, minAmount, maxAmount, text, sort, limit, offset);
+    }
+
+    // ============================================================
+    //                      GETTERS
+    // ============================================================
+
+    public TransactionType getType() { return type; }
+    /** null = semua kategori */
+    public Set<Category> getCategories() { return categories; }
+    public LocalDate getStartDate() { return startDate; }
+    public LocalDate getEndDate() { return endDate; }
+    public Double getMinAmount() { return minAmount; }
+    public Double getMaxAmount() { return maxAmount; }
+    public String getText() { return text; }
+    public Sort getSort() { return sort; }
+    public int getLimit() { return limit; }
+    public int getOffset() { return offset; }
+
+    public boolean hasDateRange() {
+        return startDate != null || endDate != null;
+    }
+
+    public boolean hasAmountRange() {
+        return minAmount != null || maxAmount != null;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("TransactionQuery{");
+        if (type != null) sb.append("type=").append(type).append(", ");
+        if (categories != null) sb.append("categories=").append(categories).append(", ");
+        if (hasDateRange()) sb.append("date=").append(startDate).append("..").append(endDate).append(", ");
+        if (hasAmountRange()) sb.append("amount=").append(minAmount).append("..").append(maxAmount).append(", ");
+        if (text != null) sb.append("text='").append(text).append("', ");
+        sb.append("sort=").append(sort);
+        if (limit != NO_LIMIT) sb.append(", limit=").append(limit);
+        if (offset > 0) sb.append(", offset=").append(offset);
+        return sb.append('}').toString();
+    }
+}
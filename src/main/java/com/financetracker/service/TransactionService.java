@@ -1,16 +1,27 @@
 package com.financetracker.service;
 
+import java.io.IOException;
 import java.time.LocalDate;
-import java.time.Month;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
+import com.financetracker.aggregate.RollupCube;
+import com.financetracker.exporter.TransactionExporter;
+import com.financetracker.index.RowBitmap;
 import com.financetracker.model.Category;
 import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionEncoding;
+import com.financetracker.model.TransactionSnapshot;
+import com.financetracker.model.TransactionStore;
 import com.financetracker.model.TransactionType;
 import com.financetracker.patterns.observer.BudgetObserver;
 import com.financetracker.patterns.observer.BudgetSubject;
+import com.financetracker.storage.LoadProgressListener;
 import com.financetracker.storage.StorageManager;
+import com.financetracker.storage.TransactionSink;
 
 /**
  * TransactionService — versi final dan ditingkatkan.
@@ -22,19 +33,46 @@ import com.financetracker.storage.StorageManager;
  */
 public class TransactionService implements BudgetSubject {
 
-    private List<Transaction> transactions;
+    /** Jumlah bulan terakhir yang dimuat saat startup bila backend mendukung lazy loading */
+    private static final int EAGER_MONTHS = 3;
+
+    /**
+     * Satu-satunya salinan transaksi di memori (kolom per segmen). Daftar dan hasil kueri
+     * adalah tampilan {@link Transaction} yang dibangun dari kolomnya.
+     */
+    private final TransactionStore store;
     private final StorageManager storageManager;
     private final List<BudgetObserver> observers;
 
+    /** Bulan tertua yang sudah ada di memori; null = seluruh riwayat sudah dimuat */
+    private YearMonth loadedFrom;
+
     /** Budget bulanan dalam rupiah */
     private double monthlyBudget = 0.0;
     private boolean budgetNotificationSent = false;
 
     public TransactionService() {
+        this(LoadProgressListener.NONE);
+    }
+
+    /**
+     * @param progress Listener progres pemuatan awal; dipanggil dari thread pemanggil konstruktor
+     */
+    public TransactionService(LoadProgressListener progress) {
         this.storageManager = StorageManager.getInstance();
-        this.transactions = storageManager.loadTransactions();
+        this.store = new TransactionStore();
         this.observers = new ArrayList<>();
 
+        StoreLoader loader = new StoreLoader(store);
+        if (storageManager.supportsPartialLoad()) {
+            // Hanya bulan-bulan terakhir; bulan lama dimuat saat dibutuhkan
+            this.loadedFrom = YearMonth.now().minusMonths(EAGER_MONTHS - 1L);
+            storageManager.streamTransactions(loadedFrom, null, loader, progress);
+        } else {
+            storageManager.streamTransactions(loader, progress);
+        }
+        loader.flush();
+
         // Load budget dari storage jika sistem Anda mendukung
         Double savedBudget = storageManager.loadMonthlyBudget();
         this.monthlyBudget = savedBudget != null ? savedBudget : 2000000.0; // default 2 juta
@@ -46,44 +84,274 @@ public class TransactionService implements BudgetSubject {
 
     /**
      * Tambah transaksi baru.
+     *
+     * @return false bila penyimpanan gagal (mode SYNC/GROUP_COMMIT); transaksi tidak ditambahkan ke memori
+     */
+    public boolean addTransaction(Transaction transaction) {
+        // Partisi bulan lama harus dimuat dulu agar tidak terjadi duplikasi saat dimuat nanti
+        ensureLoadedFrom(transaction.getDate());
+        if (!storageManager.appendTransaction(transaction)) {
+            return false;
+        }
+        store.add(transaction);
+        checkBudgetStatus();
+        return true;
+    }
+
+    /**
+     * Tambah banyak transaksi sekaligus (impor): satu penyimpanan dan satu pengecekan budget.
+     *
+     * @return false bila penyimpanan gagal; transaksi tidak ditambahkan ke memori
+     */
+    public boolean importTransactions(List<Transaction> imported) {
+        if (imported.isEmpty()) return true;
+
+        LocalDate oldest = imported.get(0).getDate();
+        for (Transaction tx : imported) {
+            if (tx.getDate().isBefore(oldest)) oldest = tx.getDate();
+        }
+        ensureLoadedFrom(oldest);
+
+        if (!storageManager.appendTransactions(imported)) {
+            return false;
+        }
+        store.addAll(imported);
+        checkBudgetStatus();
+        return true;
+    }
+
+    /**
+     * Hapus transaksi berdasarkan ID unik. Baris dicari lewat indeks hash id di store;
+     * penghapusan dicatat ke journal lewat antrian write-behind.
      */
-    public void addTransaction(Transaction transaction) {
-        this.transactions.add(transaction);
-        saveAndRecalculate();
+    public boolean deleteTransaction(String id) {
+        int row = store.findRow(id);
+        if (row < 0) return true;
+        if (!storageManager.appendDeletion(store.toTransaction(row))) {
+            return false;
+        }
+        removeRows(new int[]{row});
+        checkBudgetStatus();
+        return true;
     }
 
     /**
-     * Hapus transaksi berdasarkan ID unik.
+     * Hapus banyak transaksi sekaligus: satu penulisan journal, satu lintasan pemadatan
+     * list, dan satu pengecekan budget. Id yang tidak dikenal diabaikan.
+     *
+     * @return false bila penyimpanan gagal; tidak ada transaksi yang dihapus dari memori
      */
-    public void deleteTransaction(String id) {
-        transactions.removeIf(tx -> tx.getId().equals(id));
-        saveAndRecalculate();
+    public boolean deleteTransactions(Collection<String> ids) {
+        RowBitmap found = new RowBitmap();
+        for (String id : ids) {
+            int row = store.findRow(id);
+            if (row >= 0) found.add(row);
+        }
+        if (found.isEmpty()) return true;
+
+        int[] rows = found.toArray();
+        List<Transaction> removed = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            removed.add(store.toTransaction(row));
+        }
+        if (!storageManager.appendDeletions(removed)) {
+            return false;
+        }
+        removeRows(rows);
+        checkBudgetStatus();
+        return true;
     }
 
     /**
-     * Mengembalikan seluruh transaksi dalam bentuk list baru (safe-copy).
+     * Menandai baris sebagai terhapus, lalu memadatkan store bila tombstone sudah banyak
+     * (nomor baris berubah, jadi dipanggil setelah semua baris di batch ditandai).
      */
-    public List<Transaction> getAllTransactions() {
-        return new ArrayList<>(transactions);
+    private void removeRows(int[] rows) {
+        for (int row : rows) {
+            store.delete(row);
+        }
+        store.compactIfNeeded();
     }
 
     /**
-     * Filter transaksi berdasarkan kategori dan/atau rentang tanggal.
+     * Snapshot immutable seluruh transaksi yang sudah dimuat, tanpa menyalin kolom store
+     * (biayanya sebanding jumlah segmen). Tidak ikut berubah oleh mutasi berikutnya;
+     * panggil lagi untuk versi terbaru.
+     */
+    public TransactionSnapshot getAllTransactions() {
+        return store.snapshot();
+    }
+
+    /**
+     * Data transaksi dalam bentuk kolom untuk laporan dan grafik.
+     * Dipakai hanya-baca dari thread yang sama dengan pemanggil mutasi (EDT).
+     */
+    public TransactionStore getStore() {
+        return store;
+    }
+
+    /**
+     * Versi data; naik pada setiap mutasi (tambah, impor, hapus, dan pemuatan bulan lama),
+     * dengan versi per hari di {@link TransactionStore#versions()}.
+     */
+    public long getDataVersion() {
+        return store.versions().current();
+    }
+
+    /**
+     * Filter transaksi berdasarkan kategori dan/atau rentang tanggal; hasil terurut menurut tanggal.
      */
     public List<Transaction> filterTransactions(Category category, LocalDate startDate, LocalDate endDate) {
-        return transactions.stream()
-                .filter(tx -> category == null || tx.getCategory() == category)
-                .filter(tx -> startDate == null || !tx.getDate().isBefore(startDate))
-                .filter(tx -> endDate == null || !tx.getDate().isAfter(endDate))
-                .toList();
+        return query(TransactionQuery.all().withCategory(category).withDateRange(startDate, endDate));
     }
 
     /**
-     * Menyimpan, refresh data budget, dan memberi notifikasi bila perlu.
+     * Pencarian teks di deskripsi (semua kata harus muncul, tanpa peka huruf besar/kecil),
+     * lewat indeks trigram; hasil terurut menurut tanggal. Seluruh riwayat dimuat
+     * lebih dulu bila belum.
      */
-    private void saveAndRecalculate() {
-        storageManager.saveTransactions(transactions);
-        checkBudgetStatus();
+    public List<Transaction> searchTransactions(String query) {
+        if (query == null || query.isBlank()) {
+            return Collections.emptyList();
+        }
+        return query(TransactionQuery.all().withText(query));
+    }
+
+    /**
+     * Menjalankan kueri lewat {@link QueryPlanner}. Bulan yang belum dimuat ikut dimuat
+     * sesuai tanggal awal kueri (tanpa tanggal awal = seluruh riwayat).
+     */
+    public List<Transaction> query(TransactionQuery query) {
+        ensureLoadedFrom(query.getStartDate());
+        int[] rows = QueryPlanner.plan(query, store).execute();
+        List<Transaction> result = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            result.add(store.toTransaction(row));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Rencana eksekusi kueri (jalur akses, perkiraan kandidat, urutan) tanpa menjalankannya.
+     */
+    public String explain(TransactionQuery query) {
+        ensureLoadedFrom(query.getStartDate());
+        return QueryPlanner.plan(query, store).explain();
+    }
+
+    /**
+     * Bulan tertua yang sudah ada di memori; null bila seluruh riwayat sudah dimuat.
+     */
+    public YearMonth getLoadedFrom() {
+        return loadedFrom;
+    }
+
+    /**
+     * Total pengeluaran (sen) per kategori atas transaksi di memori, diindeks
+     * {@link Category#ordinal()}. Dengan lazy loading ini belum mencakup bulan sebelum
+     * {@link #getLoadedFrom()}; lengkapi dengan {@link #sumStoredExpenseByCategory(YearMonth)}.
+     */
+    public long[] sumLoadedExpenseByCategory() {
+        return store.sumByCategory(store.typeRows(TransactionType.EXPENSE));
+    }
+
+    /**
+     * Total pengeluaran (sen) per kategori untuk bulan sebelum {@code before}, dibaca langsung
+     * dari penyimpanan tanpa dimuat ke memori. Tidak menyentuh store, jadi boleh dipanggil
+     * dari thread latar.
+     */
+    public long[] sumStoredExpenseByCategory(YearMonth before) throws IOException {
+        long[] totals = new long[Category.values().length];
+        storageManager.streamTransactions(null, before.minusMonths(1), tx -> {
+            if (tx.getType() == TransactionType.EXPENSE) {
+                totals[tx.getCategory().ordinal()] += TransactionEncoding.toMinorUnits(tx.getAmount());
+            }
+            return true;
+        });
+        return totals;
+    }
+
+    /**
+     * Sumber ekspor untuk rentang [startDate, endDate] (null = terbuka) yang tidak membaca
+     * ulang disk untuk bulan yang sudah dimuat: barisnya diambil sekarang dari indeks tanggal
+     * store bersama snapshot-nya (terurut menurut tanggal). Hanya bulan sebelum
+     * {@link #getLoadedFrom()} yang di-stream dari penyimpanan. Dipanggil dari thread yang
+     * sama dengan mutasi (EDT); sumbernya boleh dijalankan di thread latar.
+     */
+    public TransactionExporter.Source exportSource(LocalDate startDate, LocalDate endDate) {
+        YearMonth loaded = loadedFrom;
+        int fromDay = startDate == null ? Integer.MIN_VALUE : (int) startDate.toEpochDay();
+        if (loaded != null) {
+            fromDay = Math.max(fromDay, (int) loaded.atDay(1).toEpochDay());
+        }
+        int toDay = endDate == null ? Integer.MAX_VALUE : (int) endDate.toEpochDay();
+        int[] rows = store.dateIndex().rowsInRange(fromDay, toDay);
+        TransactionSnapshot snapshot = store.snapshot();
+
+        return (from, to, sink) -> {
+            long[] delivered = {0};
+            boolean[] stopped = {false};
+            TransactionSink counting = tx -> {
+                delivered[0]++;
+                stopped[0] = !sink.accept(tx);
+                return !stopped[0];
+            };
+            if (loaded != null && (from == null || from.isBefore(loaded))) {
+                YearMonth lastUnloaded = loaded.minusMonths(1);
+                storageManager.streamTransactions(from,
+                        to == null || to.isAfter(lastUnloaded) ? lastUnloaded : to, counting);
+            }
+            for (int i = 0; i < rows.length && !stopped[0]; i++) {
+                counting.accept(snapshot.atRow(rows[i]));
+            }
+            return delivered[0];
+        };
+    }
+
+    /**
+     * Memastikan transaksi sejak tanggal tertentu sudah ada di memori
+     * (null = seluruh riwayat). Tidak melakukan apa pun bila semuanya sudah dimuat.
+     */
+    public void ensureLoadedFrom(LocalDate startDate) {
+        if (loadedFrom == null) return;
+
+        YearMonth target = (startDate == null) ? null : YearMonth.from(startDate);
+        if (target != null && !target.isBefore(loadedFrom)) return;
+
+        StoreLoader loader = new StoreLoader(store);
+        storageManager.streamTransactions(target, loadedFrom.minusMonths(1), loader, LoadProgressListener.NONE);
+        loader.flush();
+        loadedFrom = target;
+    }
+
+    /**
+     * Sink pemuatan yang memasukkan transaksi ke store per batch, sehingga yang tertahan
+     * di memori selain kolom store hanya satu batch objek {@link Transaction}.
+     */
+    private static final class StoreLoader implements TransactionSink {
+
+        /** Cukup besar agar penggabungan indeks tanggal per batch jarang terjadi */
+        private static final int BATCH_SIZE = 16 * TransactionStore.SEGMENT_SIZE;
+
+        private final TransactionStore store;
+        private final List<Transaction> batch = new ArrayList<>(BATCH_SIZE);
+
+        StoreLoader(TransactionStore store) {
+            this.store = store;
+        }
+
+        @Override
+        public boolean accept(Transaction transaction) {
+            batch.add(transaction);
+            if (batch.size() == BATCH_SIZE) flush();
+            return true;
+        }
+
+        void flush() {
+            if (batch.isEmpty()) return;
+            store.addAll(batch);
+            batch.clear();
+        }
     }
 
     // ============================================================
@@ -114,19 +382,12 @@ public class TransactionService implements BudgetSubject {
     }
 
     /**
-     * Menghitung total pengeluaran bulan berjalan.
+     * Total pengeluaran bulan berjalan, dibaca dari kubus rollup store (O(1), tanpa scan).
      */
     public double getCurrentMonthSpending() {
-        LocalDate today = LocalDate.now();
-        Month currentMonth = today.getMonth();
-        int currentYear = today.getYear();
-
-        return transactions.stream()
-                .filter(tx -> tx.getType() == TransactionType.EXPENSE)
-                .filter(tx -> tx.getDate().getMonth() == currentMonth &&
-                              tx.getDate().getYear() == currentYear)
-                .mapToDouble(Transaction::getAmount)
-                .sum();
+        int month = RollupCube.Granularity.MONTH.bucketOf(LocalDate.now());
+        return TransactionEncoding.fromMinorUnits(
+                store.rollup().sum(RollupCube.Granularity.MONTH, month, TransactionType.EXPENSE));
     }
 
     /**
@@ -0,0 +1,133 @@
+package com.financetracker.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Penulisan file yang aman terhadap crash.
+ *
+ * Isi baru ditulis ke file sementara di direktori yang sama, di-{@code fsync}
+ * lewat {@link FileChannel#force(boolean)}, lalu di-rename secara atomik
+ * menggantikan file lama. Jika proses mati di tengah jalan, file lama tetap utuh.
+ */
+public final class AtomicFileWriter {
+
+    private static final Logger logger = Logger.getLogger(AtomicFileWriter.class.getName());
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private AtomicFileWriter() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Isi file yang akan ditulis ke stream (stream ditutup oleh AtomicFileWriter).
+     */
+    @FunctionalInterface
+    public interface Content {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    public static void write(Path target, Content content) throws IOException {
+        try (Pending pending = open(target)) {
+            content.writeTo(pending.stream());
+            pending.commit();
+        }
+    }
+
+    /**
+     * Membuka file sementara untuk ditulis bertahap; isi baru menggantikan target hanya
+     * setelah {@link Pending#commit()}. Menutup tanpa commit membuang file sementara.
+     */
+    public static Pending open(Path target) throws IOException {
+        Path parent = target.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+        FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        return new Pending(target, temp, parent, channel);
+    }
+
+    /**
+     * Penulisan atomik yang sedang berjalan (lihat {@link #open(Path)}).
+     */
+    public static final class Pending implements Closeable {
+        private final Path target;
+        private final Path temp;
+        private final Path parent;
+        private final FileChannel channel;
+        private final OutputStream out;
+        private boolean committed;
+
+        private Pending(Path target, Path temp, Path parent, FileChannel channel) {
+            this.target = target;
+            this.temp = temp;
+            this.parent = parent;
+            this.channel = channel;
+            this.out = Channels.newOutputStream(channel);
+        }
+
+        /** Stream ke file sementara (tanpa buffer); jangan ditutup oleh pemanggil */
+        public OutputStream stream() {
+            return out;
+        }
+
+        /** Channel file sementara, misal untuk menulis ulang header di posisi tertentu */
+        public FileChannel channel() {
+            return channel;
+        }
+
+        /**
+         * fsync file sementara lalu rename atomik menggantikan target.
+         */
+        public void commit() throws IOException {
+            out.flush();
+            channel.force(true);
+            channel.close();
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                logger.log(Level.WARNING, "Rename atomik tidak didukung, memakai rename biasa: {0}", target);
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            committed = true;
+            syncDirectory(parent);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (committed) return;
+            channel.close();
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public static void write(Path target, byte[] bytes) throws IOException {
+        write(target, out -> out.write(bytes));
+    }
+
+    /**
+     * fsync direktori agar entri rename ikut tersimpan. Tidak semua OS
+     * mengizinkan membuka direktori (misal Windows), kegagalan diabaikan.
+     */
+    private static void syncDirectory(Path directory) {
+        if (directory == null) return;
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException | UnsupportedOperationException e) {
+            logger.log(Level.FINE, "fsync direktori dilewati", e);
+        }
+    }
+}
@@ -0,0 +1,413 @@
+package com.financetracker.storage;
+
+import com.financetracker.model.Category;
+import com.financetracker.model.DescriptionDictionary;
+import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionEncoding;
+import com.financetracker.model.TransactionType;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * Backend snapshot biner kolumnar (fixed-width), dibaca lewat {@link FileChannel#map}.
+ *
+ * Layout file:
+ * <pre>
+ * header : magic(int) version(int) rowCount(long) blockRows(int) blockCount(int)
+ * blok   : rows(int) payloadLength(int) crc32(long) payload
+ * payload: epochDay int[n] | amount double[n] | type byte[n] | category byte[n]
+ *          | idKind byte[n] | idHigh long[n] | idLow long[n]
+ *          | descId int[n] | dictSize int | dictOffset int[d+1] | heap (UTF-8)
+ * </pre>
+ *
+ * Id berformat UUID disimpan sebagai dua long; id lain disimpan di heap
+ * (idHigh = offset, idLow = panjang). Deskripsi dikodekan dengan kamus per blok:
+ * setiap teks berbeda ditulis sekali di heap dan baris hanya menyimpan indeksnya.
+ * Setiap blok punya checksum CRC32 sehingga kerusakan terdeteksi sebelum isinya dibaca.
+ *
+ * Versi 1 (descOffset int[n+1] per baris, tanpa kamus) tetap bisa dibaca.
+ *
+ * Catatan: type/category disimpan sebagai ordinal enum, jadi urutan enum
+ * tidak boleh diubah tanpa menaikkan VERSION.
+ */
+public class ColumnarStorageBackend implements StorageBackend {
+
+    static final int MAGIC = 0x4654434C; // "FTCL"
+    static final int VERSION = 2;
+    /** Versi lama tanpa kamus deskripsi, masih didukung saat membaca */
+    static final int VERSION_PLAIN_DESCRIPTIONS = 1;
+    static final int HEADER_BYTES = 24;
+    static final int BLOCK_HEADER_BYTES = 16;
+    static final int DEFAULT_BLOCK_ROWS = 4096;
+
+    /** Lebar tetap per baris tanpa heap: 4 + 8 + 1 + 1 + 1 + 8 + 8 + 4 */
+    private static final int FIXED_ROW_BYTES = 35;
+
+    private static final byte ID_UUID = 0;
+    private static final byte ID_HEAP = 1;
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+    private static final Category[] CATEGORIES = Category.values();
+
+    private final Path file;
+    private final int blockRows;
+
+    public ColumnarStorageBackend(Path file) {
+        this(file, DEFAULT_BLOCK_ROWS);
+    }
+
+    public ColumnarStorageBackend(Path file, int blockRows) {
+        if (blockRows <= 0) {
+            throw new IllegalArgumentException("Ukuran blok harus positif.");
+        }
+        this.file = file;
+        this.blockRows = blockRows;
+    }
+
+    @Override
+    public String getName() {
+        return "columnar";
+    }
+
+    @Override
+    public Path getPath() {
+        return file;
+    }
+
+    @Override
+    public void ensureExists() throws IOException {
+        if (!Files.exists(file)) {
+            save(List.of());
+        }
+    }
+
+    // ============================================================
+    //                      WRITE
+    // ============================================================
+
+    /**
+     * Ditulis atomik lewat {@link AtomicFileWriter}. Yang ditahan di memori hanya satu blok;
+     * jumlah baris dan blok baru diketahui di akhir, jadi header ditulis ulang di posisi 0
+     * sebelum commit.
+     */
+    @Override
+    public void save(TransactionSource source) throws IOException {
+        try (AtomicFileWriter.Pending pending = AtomicFileWriter.open(file)) {
+            OutputStream out = new BufferedOutputStream(pending.stream(), 1 << 16);
+            writeFully(out, header(0, 0));
+
+            List<Transaction> block = new ArrayList<>(blockRows);
+            long[] rowCount = {0};
+            int[] blockCount = {0};
+            source.writeTo(tx -> {
+                block.add(tx);
+                if (block.size() == blockRows) {
+                    writeBlock(out, block);
+                    rowCount[0] += block.size();
+                    blockCount[0]++;
+                    block.clear();
+                }
+            });
+            if (!block.isEmpty()) {
+                writeBlock(out, block);
+                rowCount[0] += block.size();
+                blockCount[0]++;
+            }
+            out.flush();
+
+            ByteBuffer header = header(rowCount[0], blockCount[0]);
+            FileChannel channel = pending.channel();
+            for (long position = 0; header.hasRemaining(); ) {
+                position += channel.write(header, position);
+            }
+            pending.commit();
+        }
+    }
+
+    private ByteBuffer header(long rowCount, int blockCount) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).putInt(VERSION).putLong(rowCount).putInt(blockRows).putInt(blockCount);
+        header.flip();
+        return header;
+    }
+
+    private void writeBlock(OutputStream out, List<Transaction> rows) throws IOException {
+        ByteBuffer payload = encodeBlock(rows);
+
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+
+        ByteBuffer blockHeader = ByteBuffer.allocate(BLOCK_HEADER_BYTES);
+        blockHeader.putInt(rows.size()).putInt(payload.remaining()).putLong(crc.getValue());
+        blockHeader.flip();
+
+        writeFully(out, blockHeader);
+        writeFully(out, payload);
+    }
+
+    private ByteBuffer encodeBlock(List<Transaction> rows) {
+        int n = rows.size();
+        ByteArrayOutputStream heap = new ByteArrayOutputStream();
+        int[] descIds = new int[n];
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<Integer> dictOffsets = new ArrayList<>();
+        byte[] idKinds = new byte[n];
+        long[] idHigh = new long[n];
+        long[] idLow = new long[n];
+
+        for (int i = 0; i < n; i++) {
+            Transaction tx = rows.get(i);
+            UUID uuid = TransactionEncoding.parseCanonicalUuid(tx.getId());
+            if (uuid != null) {
+                idKinds[i] = ID_UUID;
+                idHigh[i] = uuid.getMostSignificantBits();
+                idLow[i] = uuid.getLeastSignificantBits();
+            } else {
+                byte[] idBytes = tx.getId().getBytes(StandardCharsets.UTF_8);
+                idKinds[i] = ID_HEAP;
+                idHigh[i] = heap.size();
+                idLow[i] = idBytes.length;
+                heap.writeBytes(idBytes);
+            }
+        }
+        // Kamus ditulis setelah id heap agar offset entri kamus berurutan
+        for (int i = 0; i < n; i++) {
+            String description = rows.get(i).getDescription();
+            String text = description == null ? "" : description;
+            Integer code = dictionary.get(text);
+            if (code == null) {
+                code = dictionary.size();
+                dictionary.put(text, code);
+                dictOffsets.add(heap.size());
+                heap.writeBytes(text.getBytes(StandardCharsets.UTF_8));
+            }
+            descIds[i] = code;
+        }
+        dictOffsets.add(heap.size());
+
+        ByteBuffer buf = ByteBuffer.allocate(n * FIXED_ROW_BYTES + 4 + dictOffsets.size() * 4 + heap.size());
+        for (Transaction tx : rows) buf.putInt((int) tx.getDate().toEpochDay());
+        for (Transaction tx : rows) buf.putDouble(tx.getAmount());
+        for (Transaction tx : rows) buf.put((byte) tx.getType().ordinal());
+        for (Transaction tx : rows) buf.put((byte) tx.getCategory().ordinal());
+        buf.put(idKinds);
+        for (long v : idHigh) buf.putLong(v);
+        for (long v : idLow) buf.putLong(v);
+        for (int v : descIds) buf.putInt(v);
+        buf.putInt(dictionary.size());
+        for (int v : dictOffsets) buf.putInt(v);
+        buf.put(heap.toByteArray());
+        buf.flip();
+        return buf;
+    }
+
+    private static void writeFully(OutputStream out, ByteBuffer buffer) throws IOException {
+        out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+    }
+
+    // ============================================================
+    //                      READ
+    // ============================================================
+
+    @Override
+    public long stream(TransactionSink sink, LoadProgressListener progress) throws IOException {
+        long[] count = {0};
+        long total = Files.exists(file) ? Files.size(file) : 0;
+        forEachBlock(block -> {
+            for (int i = 0; i < block.size(); i++) {
+                count[0]++;
+                if (!sink.accept(block.toTransaction(i))) {
+                    progress.onProgress(count[0], block.getEndPosition(), total);
+                    return false;
+                }
+            }
+            progress.onProgress(count[0], block.getEndPosition(), total);
+            return true;
+        });
+        return count[0];
+    }
+
+    /**
+     * Memindai file blok demi blok langsung dari memory-mapped buffer.
+     * Kolom bisa dibaca tanpa membuat objek Transaction (lihat {@link Block}).
+     */
+    public void forEachBlock(BlockVisitor visitor) throws IOException {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = readAt(channel, 0, HEADER_BYTES);
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Bukan file kolumnar transaksi: " + file);
+            }
+            int version = header.getInt();
+            if (version != VERSION && version != VERSION_PLAIN_DESCRIPTIONS) {
+                throw new IOException("Versi file kolumnar tidak didukung: " + version);
+            }
+            header.getLong(); // rowCount
+            header.getInt();  // blockRows
+            int blockCount = header.getInt();
+
+            long position = HEADER_BYTES;
+            for (int b = 0; b < blockCount; b++) {
+                ByteBuffer blockHeader = readAt(channel, position, BLOCK_HEADER_BYTES);
+                int rows = blockHeader.getInt();
+                int payloadLength = blockHeader.getInt();
+                long expectedCrc = blockHeader.getLong();
+
+                long payloadStart = position + BLOCK_HEADER_BYTES;
+                if (payloadStart + payloadLength > channel.size()) {
+                    throw new IOException("Blok " + b + " terpotong di " + file);
+                }
+                MappedByteBuffer payload = channel.map(FileChannel.MapMode.READ_ONLY, payloadStart, payloadLength);
+
+                CRC32 crc = new CRC32();
+                crc.update(payload.duplicate());
+                if (crc.getValue() != expectedCrc) {
+                    throw new IOException("Checksum blok " + b + " tidak cocok, file rusak: " + file);
+                }
+
+                position = payloadStart + payloadLength;
+                if (!visitor.visit(new Block(payload, rows, position, version))) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static ByteBuffer readAt(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(length);
+        while (buf.hasRemaining()) {
+            if (channel.read(buf, position + buf.position()) < 0) {
+                throw new IOException("File kolumnar terpotong.");
+            }
+        }
+        buf.flip();
+        return buf;
+    }
+
+    @FunctionalInterface
+    public interface BlockVisitor {
+        /** Kembalikan false untuk berhenti memindai. */
+        boolean visit(Block block) throws IOException;
+    }
+
+    /**
+     * Tampilan satu blok kolom di atas buffer hasil mapping (tanpa salinan).
+     */
+    public static final class Block {
+        private final ByteBuffer buf;
+        private final int rows;
+        private final long endPosition;
+        private final int amountOffset;
+        private final int typeOffset;
+        private final int categoryOffset;
+        private final int idKindOffset;
+        private final int idHighOffset;
+        private final int idLowOffset;
+        private final int descOffset;
+        private final boolean dictionaryEncoded;
+        private final int dictOffset;
+        private final int heapOffset;
+        /** Entri kamus blok yang sudah didekode (lazy), sudah di-intern */
+        private final String[] dictionary;
+
+        private Block(ByteBuffer buf, int rows, long endPosition, int version) {
+            this.buf = buf;
+            this.rows = rows;
+            this.endPosition = endPosition;
+            this.amountOffset = rows * 4;
+            this.typeOffset = amountOffset + rows * 8;
+            this.categoryOffset = typeOffset + rows;
+            this.idKindOffset = categoryOffset + rows;
+            this.idHighOffset = idKindOffset + rows;
+            this.idLowOffset = idHighOffset + rows * 8;
+            this.descOffset = idLowOffset + rows * 8;
+            this.dictionaryEncoded = version != VERSION_PLAIN_DESCRIPTIONS;
+            if (dictionaryEncoded) {
+                int dictSize = buf.getInt(descOffset + rows * 4);
+                this.dictOffset = descOffset + rows * 4 + 4;
+                this.heapOffset = dictOffset + (dictSize + 1) * 4;
+                this.dictionary = new String[dictSize];
+            } else {
+                this.dictOffset = -1;
+                this.heapOffset = descOffset + (rows + 1) * 4;
+                this.dictionary = null;
+            }
+        }
+
+        public int size() { return rows; }
+
+        long getEndPosition() { return endPosition; }
+
+        public int epochDay(int row) { return buf.getInt(row * 4); }
+        public double amount(int row) { return buf.getDouble(amountOffset + row * 8); }
+        public TransactionType type(int row) { return TYPES[buf.get(typeOffset + row)]; }
+        public Category category(int row) { return CATEGORIES[buf.get(categoryOffset + row)]; }
+
+        public String id(int row) {
+            long high = buf.getLong(idHighOffset + row * 8);
+            long low = buf.getLong(idLowOffset + row * 8);
+            if (buf.get(idKindOffset + row) == ID_UUID) {
+                return new UUID(high, low).toString();
+            }
+            return heapString((int) high, (int) low);
+        }
+
+        public String description(int row) {
+            if (!dictionaryEncoded) {
+                int start = buf.getInt(descOffset + row * 4);
+                int end = buf.getInt(descOffset + (row + 1) * 4);
+                return DescriptionDictionary.getInstance().intern(heapString(start, end - start));
+            }
+            int code = descriptionCode(row);
+            String description = dictionary[code];
+            if (description == null) {
+                int start = buf.getInt(dictOffset + code * 4);
+                int end = buf.getInt(dictOffset + (code + 1) * 4);
+                description = DescriptionDictionary.getInstance().intern(heapString(start, end - start));
+                dictionary[code] = description;
+            }
+            return description;
+        }
+
+        /**
+         * Indeks deskripsi di kamus blok ini: dua baris di blok yang sama punya kode sama
+         * bila dan hanya bila deskripsinya sama. Hanya untuk file versi 2.
+         */
+        public int descriptionCode(int row) {
+            if (!dictionaryEncoded) {
+                throw new IllegalStateException("File kolumnar versi 1 tidak memakai kamus deskripsi.");
+            }
+            return buf.getInt(descOffset + row * 4);
+        }
+
+        public Transaction toTransaction(int row) {
+            return new Transaction(id(row), LocalDate.ofEpochDay(epochDay(row)), description(row),
+                    amount(row), type(row), category(row));
+        }
+
+        private String heapString(int offset, int length) {
+            byte[] bytes = new byte[length];
+            buf.get(heapOffset + offset, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
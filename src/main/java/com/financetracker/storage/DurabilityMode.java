@@ -0,0 +1,27 @@
+package com.financetracker.storage;
+
+/**
+ * Tingkat durabilitas penulisan mutasi transaksi.
+ */
+public enum DurabilityMode {
+    /** Mutasi diantrikan dan ditulis di belakang layar; pemanggil tidak menunggu. */
+    ASYNC,
+    /** Pemanggil menunggu sampai batch yang memuat mutasinya selesai ditulis. */
+    GROUP_COMMIT,
+    /** Mutasi langsung ditulis di thread pemanggil. */
+    SYNC;
+
+    /**
+     * Membaca nama mode (tidak peka huruf besar/kecil), default ASYNC.
+     */
+    public static DurabilityMode parse(String value) {
+        if (value == null) return ASYNC;
+        switch (value.trim().toLowerCase()) {
+            case "sync": return SYNC;
+            case "group":
+            case "group_commit":
+            case "group-commit": return GROUP_COMMIT;
+            default: return ASYNC;
+        }
+    }
+}
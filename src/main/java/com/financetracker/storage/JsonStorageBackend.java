@@ -0,0 +1,108 @@
+package com.financetracker.storage;
+
+import com.financetracker.model.Transaction;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+/**
+ * Backend snapshot JSON (format asli data/transactions.json).
+ */
+public class JsonStorageBackend implements StorageBackend {
+
+    private final Path file;
+    private final Gson gson;
+    private final TransactionStreamReader streamReader;
+
+    public JsonStorageBackend(Path file) {
+        this.file = file;
+        this.gson = new GsonBuilder()
+                .registerTypeAdapter(LocalDate.class, new LocalDateAdapter())
+                .setPrettyPrinting()
+                .create();
+        this.streamReader = new TransactionStreamReader(gson);
+    }
+
+    @Override
+    public String getName() {
+        return "json";
+    }
+
+    @Override
+    public Path getPath() {
+        return file;
+    }
+
+    @Override
+    public void ensureExists() throws IOException {
+        if (!Files.exists(file)) {
+            Files.write(file, "[]".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Override
+    public long stream(TransactionSink sink, LoadProgressListener progress) throws IOException {
+        return streamReader.read(file, sink, progress);
+    }
+
+    /**
+     * Ditulis atomik (file sementara + fsync + rename), sehingga crash saat
+     * menyimpan tidak pernah meninggalkan snapshot setengah jadi.
+     */
+    @Override
+    public void save(TransactionSource source) throws IOException {
+        try (SnapshotWriter writer = openWriter()) {
+            source.writeTo(writer::write);
+            writer.commit();
+        }
+    }
+
+    /**
+     * Penulis snapshot bertahap; beberapa bisa terbuka bersamaan (satu per partisi).
+     */
+    SnapshotWriter openWriter() throws IOException {
+        return new SnapshotWriter(AtomicFileWriter.open(file));
+    }
+
+    /**
+     * Array JSON yang ditulis satu transaksi per panggilan ke file sementara;
+     * menggantikan snapshot hanya setelah {@link #commit()}.
+     */
+    final class SnapshotWriter implements Closeable {
+        private final AtomicFileWriter.Pending pending;
+        private final JsonWriter json;
+
+        private SnapshotWriter(AtomicFileWriter.Pending pending) throws IOException {
+            this.pending = pending;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(pending.stream(), StandardCharsets.UTF_8));
+            this.json = gson.newJsonWriter(writer);
+            json.beginArray();
+        }
+
+        void write(Transaction transaction) throws IOException {
+            gson.toJson(transaction, Transaction.class, json);
+        }
+
+        void commit() throws IOException {
+            json.endArray();
+            json.flush();
+            pending.commit();
+        }
+
+        /** Tanpa commit sebelumnya, file sementara dibuang dan snapshot lama tetap */
+        @Override
+        public void close() throws IOException {
+            pending.close();
+        }
+    }
+}
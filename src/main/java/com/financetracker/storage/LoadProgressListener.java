@@ -0,0 +1,18 @@
+package com.financetracker.storage;
+
+/**
+ * Callback progres untuk pemuatan streaming.
+ */
+@FunctionalInterface
+public interface LoadProgressListener {
+
+    /** Listener kosong, dipakai bila pemanggil tidak butuh progres. */
+    LoadProgressListener NONE = (count, bytesRead, totalBytes) -> { };
+
+    /**
+     * @param count      Jumlah transaksi yang sudah dibaca
+     * @param bytesRead  Perkiraan byte yang sudah dibaca dari file
+     * @param totalBytes Ukuran file (0 jika tidak diketahui)
+     */
+    void onProgress(long count, long bytesRead, long totalBytes);
+}
@@ -0,0 +1,380 @@
+package com.financetracker.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Appender asinkron untuk {@code notifications.log}.
+ *
+ * - Pesan masuk ke ring buffer berukuran tetap; pemanggil tidak pernah menyentuh disk.
+ *   Jika buffer penuh, pesan tertua dibuang dan jumlahnya dicatat di log.
+ * - Satu thread latar belakang menguras buffer dan menulis ke satu {@link FileChannel}
+ *   yang tetap terbuka.
+ * - Rotasi berdasarkan ukuran ({@code .1} .. {@code .N}) atau tanggal ({@code .yyyy-MM-dd}).
+ */
+public class NotificationLogAppender implements AutoCloseable {
+
+    private static final Logger logger = Logger.getLogger(NotificationLogAppender.class.getName());
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    /**
+     * Kapan data yang sudah ditulis dipaksa ke disk.
+     */
+    public enum FlushPolicy {
+        /** Ditulis ke channel setiap kali buffer dikuras; fsync diserahkan ke OS. */
+        WRITE,
+        /** Seperti WRITE, ditambah fsync setiap batch. */
+        FSYNC;
+
+        public static FlushPolicy parse(String value) {
+            return value != null && "fsync".equalsIgnoreCase(value.trim()) ? FSYNC : WRITE;
+        }
+    }
+
+    /**
+     * Aturan rotasi file log.
+     */
+    public static final class RotationPolicy {
+        private final long maxBytes;
+        private final boolean daily;
+        private final int maxBackups;
+
+        private RotationPolicy(long maxBytes, boolean daily, int maxBackups) {
+            this.maxBytes = maxBytes;
+            this.daily = daily;
+            this.maxBackups = Math.max(1, maxBackups);
+        }
+
+        /** Rotasi saat file melewati {@code maxBytes}; disimpan sebagai .1 (terbaru) sampai .maxBackups */
+        public static RotationPolicy bySize(long maxBytes, int maxBackups) {
+            return new RotationPolicy(maxBytes, false, maxBackups);
+        }
+
+        /** Rotasi saat tanggal berganti; disimpan sebagai .yyyy-MM-dd, maksimal maxBackups file */
+        public static RotationPolicy daily(int maxBackups) {
+            return new RotationPolicy(0, true, maxBackups);
+        }
+
+        public static RotationPolicy none() {
+            return new RotationPolicy(0, false, 1);
+        }
+
+        /** Membaca "size", "daily" atau "none" (default size) */
+        public static RotationPolicy parse(String value, long maxBytes, int maxBackups) {
+            if (value == null) return bySize(maxBytes, maxBackups);
+            switch (value.trim().toLowerCase()) {
+                case "daily": return daily(maxBackups);
+                case "none": return none();
+                default: return bySize(maxBytes, maxBackups);
+            }
+        }
+    }
+
+    /** Satu pesan di ring buffer; waktu diformat oleh thread penulis */
+    private static final class Record {
+        final long timestamp;
+        final String message;
+
+        Record(long timestamp, String message) {
+            this.timestamp = timestamp;
+            this.message = message;
+        }
+    }
+
+    private final Path file;
+    private final RotationPolicy rotation;
+    private final FlushPolicy flushPolicy;
+    private final long flushIntervalNanos;
+    private final Clock clock;
+
+    private final Object lock = new Object();
+    private final Record[] ring;
+    private int head;
+    private int count;
+    private long dropped;
+    private long submittedSeq;
+    private long writtenSeq;
+    private boolean flushRequested;
+    private boolean running = true;
+
+    // Hanya diakses oleh thread penulis
+    private FileChannel channel;
+    private long currentSize;
+    private LocalDate currentDate;
+
+    private final Thread worker;
+
+    public NotificationLogAppender(Path file, int capacity, RotationPolicy rotation,
+                                   FlushPolicy flushPolicy, long flushIntervalMillis) {
+        this(file, capacity, rotation, flushPolicy, flushIntervalMillis, Clock.systemDefaultZone());
+    }
+
+    NotificationLogAppender(Path file, int capacity, RotationPolicy rotation,
+                            FlushPolicy flushPolicy, long flushIntervalMillis, Clock clock) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Kapasitas buffer harus positif.");
+        }
+        this.file = file;
+        this.ring = new Record[capacity];
+        this.rotation = rotation;
+        this.flushPolicy = flushPolicy;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, flushIntervalMillis));
+        this.clock = clock;
+
+        this.worker = new Thread(this::runWorker, "notification-log-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    // ============================================================
+    //                      APPEND & FLUSH
+    // ============================================================
+
+    /**
+     * Mengantrikan satu pesan. Tidak pernah memblok pada I/O.
+     */
+    public void append(String message) {
+        Record record = new Record(clock.millis(), message);
+        synchronized (lock) {
+            if (!running) {
+                logger.log(Level.WARNING, "Appender sudah ditutup, pesan dibuang: {0}", message);
+                return;
+            }
+            if (count == ring.length) {
+                ring[head] = record;
+                head = (head + 1) % ring.length;
+                dropped++;
+            } else {
+                ring[(head + count) % ring.length] = record;
+                count++;
+                if (count == 1) lock.notifyAll();
+            }
+            submittedSeq++;
+        }
+    }
+
+    /**
+     * Menulis semua pesan di buffer sekarang dan menunggu sampai selesai.
+     */
+    public void flush() {
+        synchronized (lock) {
+            long target = submittedSeq;
+            if (writtenSeq >= target) return;
+            flushRequested = true;
+            lock.notifyAll();
+            while (writtenSeq < target && worker.isAlive()) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Flush, hentikan thread penulis, lalu tutup file.
+     */
+    @Override
+    public void close() {
+        flush();
+        synchronized (lock) {
+            running = false;
+            lock.notifyAll();
+        }
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ============================================================
+    //                      WORKER
+    // ============================================================
+
+    private void runWorker() {
+        try {
+            while (true) {
+                List<Record> batch = new ArrayList<>();
+                long lost;
+                long batchSeq;
+                synchronized (lock) {
+                    if (!awaitBatch()) return;
+                    for (int i = 0; i < count; i++) {
+                        int index = (head + i) % ring.length;
+                        batch.add(ring[index]);
+                        ring[index] = null;
+                    }
+                    head = 0;
+                    count = 0;
+                    lost = dropped;
+                    dropped = 0;
+                    batchSeq = submittedSeq;
+                    flushRequested = false;
+                }
+
+                try {
+                    write(batch, lost);
+                } catch (IOException e) {
+                    logger.log(Level.SEVERE, "Gagal menulis log notifikasi", e);
+                    closeChannel();
+                } finally {
+                    synchronized (lock) {
+                        writtenSeq = batchSeq;
+                        lock.notifyAll();
+                    }
+                }
+            }
+        } finally {
+            closeChannel();
+        }
+    }
+
+    /**
+     * Menunggu (dengan lock dipegang) sampai ada pesan, lalu memberi waktu
+     * {@code flushInterval} agar pesan beruntun ikut dalam batch yang sama.
+     *
+     * @return false jika appender ditutup dan buffer kosong
+     */
+    private boolean awaitBatch() {
+        try {
+            while (count == 0) {
+                if (!running) return false;
+                lock.wait();
+            }
+            long deadline = System.nanoTime() + flushIntervalNanos;
+            while (running && !flushRequested) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) break;
+                TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void write(List<Record> batch, long lost) throws IOException {
+        ZoneId zone = clock.getZone();
+        StringBuilder text = new StringBuilder(batch.size() * 96);
+        if (lost > 0) {
+            text.append('[').append(LocalDateTime.now(clock).format(TIMESTAMP_FORMAT)).append("] ")
+                .append(lost).append(" notifikasi dibuang karena buffer penuh").append(System.lineSeparator());
+        }
+        for (Record record : batch) {
+            text.append('[')
+                .append(LocalDateTime.ofInstant(Instant.ofEpochMilli(record.timestamp), zone).format(TIMESTAMP_FORMAT))
+                .append("] ").append(record.message).append(System.lineSeparator());
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.UTF_8));
+
+        openIfNeeded();
+        rotateIfNeeded(bytes.remaining());
+        while (bytes.hasRemaining()) {
+            currentSize += channel.write(bytes);
+        }
+        if (flushPolicy == FlushPolicy.FSYNC) {
+            channel.force(false);
+        }
+    }
+
+    // ============================================================
+    //                      ROTATION
+    // ============================================================
+
+    private void openIfNeeded() throws IOException {
+        if (channel != null) return;
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        currentSize = channel.size();
+        currentDate = currentSize > 0
+                ? LocalDate.ofInstant(Files.getLastModifiedTime(file).toInstant(), clock.getZone())
+                : LocalDate.now(clock);
+    }
+
+    private void rotateIfNeeded(int incoming) throws IOException {
+        LocalDate today = LocalDate.now(clock);
+        if (rotation.daily) {
+            if (!today.equals(currentDate)) {
+                if (currentSize > 0) rotateDaily(currentDate);
+                currentDate = today;
+            }
+        } else if (rotation.maxBytes > 0 && currentSize > 0 && currentSize + incoming > rotation.maxBytes) {
+            rotateBySize();
+        }
+    }
+
+    private void rotateBySize() throws IOException {
+        closeChannel();
+        Files.deleteIfExists(backup(String.valueOf(rotation.maxBackups)));
+        for (int i = rotation.maxBackups - 1; i >= 1; i--) {
+            Path source = backup(String.valueOf(i));
+            if (Files.exists(source)) {
+                Files.move(source, backup(String.valueOf(i + 1)), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(file, backup("1"), StandardCopyOption.REPLACE_EXISTING);
+        openIfNeeded();
+    }
+
+    private void rotateDaily(LocalDate date) throws IOException {
+        closeChannel();
+        Path target = backup(date.toString());
+        for (int n = 1; Files.exists(target); n++) {
+            target = backup(date + "." + n);
+        }
+        Files.move(file, target);
+
+        // Hapus file harian tertua di luar batas maxBackups (nama yyyy-MM-dd terurut leksikal)
+        List<Path> dated = new ArrayList<>();
+        try (DirectoryStream<Path> siblings = Files.newDirectoryStream(file.toAbsolutePath().getParent(),
+                file.getFileName() + ".[0-9][0-9][0-9][0-9]-*")) {
+            siblings.forEach(dated::add);
+        }
+        dated.sort(null);
+        for (int i = 0; i < dated.size() - rotation.maxBackups; i++) {
+            Files.deleteIfExists(dated.get(i));
+        }
+        openIfNeeded();
+    }
+
+    private Path backup(String suffix) {
+        return file.resolveSibling(file.getFileName() + "." + suffix);
+    }
+
+    private void closeChannel() {
+        if (channel == null) return;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Gagal menutup log notifikasi", e);
+        }
+        channel = null;
+    }
+}
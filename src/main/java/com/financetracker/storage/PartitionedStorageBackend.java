@@ -0,0 +1,338 @@
+package com.financetracker.storage;
+
+import com.financetracker.model.Transaction;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Backend snapshot yang dipartisi per bulan: {@code <root>/2025/12.json}.
+ *
+ * Daftar partisi beserta jumlah baris dan sidik jarinya disimpan di
+ * {@code <root>/manifest.json}, sehingga:
+ * - rentang bulan bisa dimuat tanpa membuka partisi lain (lazy loading);
+ * - saat menyimpan, hanya partisi yang isinya berubah yang ditulis ulang.
+ */
+public class PartitionedStorageBackend implements StorageBackend {
+
+    private static final Logger logger = Logger.getLogger(PartitionedStorageBackend.class.getName());
+
+    static final String MANIFEST_FILE = "manifest.json";
+    private static final int MANIFEST_VERSION = 1;
+
+    private final Path root;
+    private final Gson gson;
+    private final Map<YearMonth, PartitionInfo> partitions = new TreeMap<>();
+    private boolean manifestLoaded = false;
+
+    public PartitionedStorageBackend(Path root) {
+        this.root = root;
+        this.gson = new GsonBuilder().setPrettyPrinting().create();
+    }
+
+    @Override
+    public String getName() {
+        return "partitioned";
+    }
+
+    @Override
+    public Path getPath() {
+        return root.resolve(MANIFEST_FILE);
+    }
+
+    @Override
+    public boolean supportsPartialLoad() {
+        return true;
+    }
+
+    @Override
+    public void ensureExists() throws IOException {
+        Files.createDirectories(root);
+        loadManifest();
+    }
+
+    /**
+     * Daftar bulan yang punya partisi, terurut naik.
+     */
+    public synchronized List<YearMonth> getPartitions() throws IOException {
+        loadManifest();
+        return new ArrayList<>(partitions.keySet());
+    }
+
+    Path partitionFile(YearMonth month) {
+        return root.resolve(String.format("%04d", month.getYear()))
+                .resolve(String.format("%02d.json", month.getMonthValue()));
+    }
+
+    // ============================================================
+    //                      READ
+    // ============================================================
+
+    @Override
+    public long stream(TransactionSink sink, LoadProgressListener progress) throws IOException {
+        return stream(null, null, sink, progress);
+    }
+
+    @Override
+    public synchronized long stream(YearMonth from, YearMonth to, TransactionSink sink,
+                                    LoadProgressListener progress) throws IOException {
+        loadManifest();
+        List<YearMonth> months = new ArrayList<>();
+        long totalBytes = 0;
+        for (YearMonth month : partitions.keySet()) {
+            if ((from != null && month.isBefore(from)) || (to != null && month.isAfter(to))) continue;
+            months.add(month);
+            totalBytes += fileSize(partitionFile(month));
+        }
+
+        long count = 0;
+        long bytesDone = 0;
+        boolean[] stopped = {false};
+        for (YearMonth month : months) {
+            Path file = partitionFile(month);
+            count += new JsonStorageBackend(file).stream(tx -> {
+                stopped[0] = !sink.accept(tx);
+                return !stopped[0];
+            }, LoadProgressListener.NONE);
+            bytesDone += fileSize(file);
+            progress.onProgress(count, bytesDone, totalBytes);
+            if (stopped[0]) break;
+        }
+        return count;
+    }
+
+    private static long fileSize(Path file) throws IOException {
+        return Files.exists(file) ? Files.size(file) : 0;
+    }
+
+    // ============================================================
+    //                      WRITE
+    // ============================================================
+
+    /**
+     * Menyimpan seluruh transaksi secara streaming: setiap bulan punya penulis partisi
+     * sendiri yang terbuka selama sumber dibaca, jadi transaksi tidak dikelompokkan di
+     * memori. Partisi yang sidik jarinya sama tidak menggantikan file lama dan partisi
+     * yang tidak lagi punya transaksi dihapus.
+     */
+    @Override
+    public synchronized void save(TransactionSource source) throws IOException {
+        loadManifest();
+        Map<YearMonth, PartitionWriter> writers = new TreeMap<>();
+        try {
+            source.writeTo(tx -> {
+                YearMonth month = YearMonth.from(tx.getDate());
+                PartitionWriter writer = writers.get(month);
+                if (writer == null) {
+                    writer = new PartitionWriter(month);
+                    writers.put(month, writer);
+                }
+                writer.write(tx);
+            });
+
+            Set<YearMonth> stale = new HashSet<>(partitions.keySet());
+            stale.removeAll(writers.keySet());
+            for (YearMonth month : stale) {
+                writePartition(month, List.of());
+            }
+            for (PartitionWriter writer : writers.values()) {
+                writer.finish();
+            }
+            saveManifest();
+        } finally {
+            for (PartitionWriter writer : writers.values()) {
+                writer.close();
+            }
+        }
+    }
+
+    /**
+     * Penulis satu partisi bulan; jumlah baris dan sidik jari dihitung sambil menulis.
+     */
+    private final class PartitionWriter implements Closeable {
+        private final YearMonth month;
+        private final JsonStorageBackend.SnapshotWriter writer;
+        private int count;
+        private long fingerprint = 1;
+
+        PartitionWriter(YearMonth month) throws IOException {
+            this.month = month;
+            this.writer = new JsonStorageBackend(partitionFile(month)).openWriter();
+        }
+
+        void write(Transaction tx) throws IOException {
+            writer.write(tx);
+            count++;
+            fingerprint = fingerprint(fingerprint, tx);
+        }
+
+        /** Menggantikan file partisi bila isinya berubah; bila sama, file sementara dibuang saat close */
+        void finish() throws IOException {
+            PartitionInfo current = partitions.get(month);
+            if (current != null && current.count == count && current.fingerprint == fingerprint
+                    && Files.exists(partitionFile(month))) {
+                return;
+            }
+            writer.commit();
+            partitions.put(month, new PartitionInfo(month.toString(), count, fingerprint));
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+
+    /**
+     * Hanya partisi bulan yang disentuh journal yang dibaca dan ditulis ulang.
+     */
+    @Override
+    public synchronized void compact(TransactionJournal.Overlay overlay) throws IOException {
+        Set<YearMonth> touched = overlay.getTouchedMonths();
+        if (touched == null) {
+            StorageBackend.super.compact(overlay);
+            return;
+        }
+        loadManifest();
+        for (YearMonth month : touched) {
+            List<Transaction> rows = new ArrayList<>();
+            if (partitions.containsKey(month)) {
+                new JsonStorageBackend(partitionFile(month)).stream(tx -> {
+                    Transaction resolved = overlay.resolve(tx);
+                    if (resolved != null) rows.add(resolved);
+                    return true;
+                }, LoadProgressListener.NONE);
+            }
+            overlay.emitRemaining(month, month, rows::add);
+            writePartition(month, rows);
+        }
+        saveManifest();
+    }
+
+    private void writePartition(YearMonth month, List<Transaction> rows) throws IOException {
+        Path file = partitionFile(month);
+        if (rows.isEmpty()) {
+            Files.deleteIfExists(file);
+            partitions.remove(month);
+            return;
+        }
+
+        long fingerprint = fingerprint(rows);
+        PartitionInfo current = partitions.get(month);
+        if (current != null && current.count == rows.size() && current.fingerprint == fingerprint
+                && Files.exists(file)) {
+            return; // tidak berubah
+        }
+
+        Files.createDirectories(file.getParent());
+        new JsonStorageBackend(file).save(rows);
+        partitions.put(month, new PartitionInfo(month.toString(), rows.size(), fingerprint));
+    }
+
+    static long fingerprint(List<Transaction> rows) {
+        long hash = 1;
+        for (Transaction tx : rows) {
+            hash = fingerprint(hash, tx);
+        }
+        return hash;
+    }
+
+    private static long fingerprint(long hash, Transaction tx) {
+        return 31 * hash + Objects.hash(tx.getId(), tx.getDate(), tx.getDescription(),
+                tx.getAmount(), tx.getType(), tx.getCategory());
+    }
+
+    // ============================================================
+    //                      MANIFEST
+    // ============================================================
+
+    private void loadManifest() throws IOException {
+        if (manifestLoaded) return;
+
+        Path manifestPath = getPath();
+        partitions.clear();
+        if (Files.exists(manifestPath)) {
+            try (Reader reader = Files.newBufferedReader(manifestPath, StandardCharsets.UTF_8)) {
+                Manifest manifest = gson.fromJson(reader, Manifest.class);
+                if (manifest != null && manifest.partitions != null) {
+                    for (PartitionInfo info : manifest.partitions) {
+                        partitions.put(YearMonth.parse(info.month), info);
+                    }
+                }
+                manifestLoaded = true;
+                return;
+            } catch (JsonParseException | DateTimeException e) {
+                logger.log(Level.WARNING, "Manifest partisi rusak, dibangun ulang dari direktori", e);
+                partitions.clear();
+            }
+        }
+        rebuildManifest();
+        manifestLoaded = true;
+    }
+
+    /**
+     * Menyusun ulang manifest dari struktur {@code <tahun>/<bulan>.json}.
+     */
+    private void rebuildManifest() throws IOException {
+        if (!Files.isDirectory(root)) return;
+
+        try (DirectoryStream<Path> years = Files.newDirectoryStream(root, "[0-9][0-9][0-9][0-9]")) {
+            for (Path yearDir : years) {
+                if (!Files.isDirectory(yearDir)) continue;
+                try (DirectoryStream<Path> months = Files.newDirectoryStream(yearDir, "[0-9][0-9].json")) {
+                    for (Path monthFile : months) {
+                        String name = monthFile.getFileName().toString();
+                        YearMonth month = YearMonth.of(Integer.parseInt(yearDir.getFileName().toString()),
+                                Integer.parseInt(name.substring(0, 2)));
+                        List<Transaction> rows = new JsonStorageBackend(monthFile).load();
+                        partitions.put(month, new PartitionInfo(month.toString(), rows.size(), fingerprint(rows)));
+                    }
+                }
+            }
+        }
+        saveManifest();
+    }
+
+    private void saveManifest() throws IOException {
+        Manifest manifest = new Manifest();
+        manifest.version = MANIFEST_VERSION;
+        manifest.partitions = new ArrayList<>(partitions.values());
+        AtomicFileWriter.write(getPath(), gson.toJson(manifest).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class Manifest {
+        int version;
+        List<PartitionInfo> partitions;
+    }
+
+    private static final class PartitionInfo {
+        String month;
+        int count;
+        long fingerprint;
+
+        PartitionInfo(String month, int count, long fingerprint) {
+            this.month = month;
+            this.count = count;
+            this.fingerprint = fingerprint;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.financetracker.storage;
+
+import com.financetracker.model.Transaction;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Abstraksi format penyimpanan snapshot transaksi di belakang StorageManager.
+ * Journal dan logika compaction tetap di StorageManager; backend hanya
+ * bertanggung jawab membaca dan menulis snapshot penuh.
+ */
+public interface StorageBackend {
+
+    /** Nama singkat backend (misal "json", "columnar") */
+    String getName();
+
+    /** Lokasi snapshot di disk */
+    Path getPath();
+
+    /**
+     * Pastikan snapshot kosong tersedia bila belum ada.
+     */
+    void ensureExists() throws IOException;
+
+    /**
+     * Mengirim transaksi snapshot satu per satu ke sink.
+     *
+     * @return Jumlah transaksi yang diterima sink
+     */
+    long stream(TransactionSink sink, LoadProgressListener progress) throws IOException;
+
+    /**
+     * Menulis ulang snapshot penuh dari sumber streaming; transaksi tidak ditahan
+     * seluruhnya di memori. Snapshot lama tetap utuh bila sumber atau penulisan gagal.
+     */
+    void save(TransactionSource source) throws IOException;
+
+    /**
+     * Menulis ulang snapshot penuh dari daftar yang sudah ada di memori.
+     */
+    default void save(List<Transaction> transactions) throws IOException {
+        save(sink -> transactions.forEach(sink::accept));
+    }
+
+    /**
+     * Seluruh isi snapshot sebagai list; hanya untuk data kecil (misal pengujian).
+     * Jalur produksi memakai {@link #stream(TransactionSink, LoadProgressListener)}.
+     */
+    default List<Transaction> load() throws IOException {
+        List<Transaction> transactions = new ArrayList<>();
+        stream(transactions::add, LoadProgressListener.NONE);
+        return transactions;
+    }
+
+    /**
+     * Mengirim transaksi dalam rentang bulan [from, to] (batas null = terbuka).
+     * Implementasi default memindai seluruh snapshot lalu menyaring.
+     */
+    default long stream(YearMonth from, YearMonth to, TransactionSink sink, LoadProgressListener progress)
+            throws IOException {
+        long[] delivered = {0};
+        stream(tx -> {
+            YearMonth month = YearMonth.from(tx.getDate());
+            if ((from != null && month.isBefore(from)) || (to != null && month.isAfter(to))) {
+                return true;
+            }
+            delivered[0]++;
+            return sink.accept(tx);
+        }, progress);
+        return delivered[0];
+    }
+
+    /**
+     * True bila backend sanggup memuat sebagian rentang tanpa membaca seluruh data,
+     * sehingga pemanggil boleh menunda pemuatan bulan-bulan lama.
+     */
+    default boolean supportsPartialLoad() {
+        return false;
+    }
+
+    /**
+     * Melipat isi journal ke snapshot. Implementasi default menulis ulang snapshot penuh
+     * sambil membaca snapshot lama (streaming, tanpa list perantara); backend berpartisi
+     * cukup menulis bulan yang berubah.
+     */
+    default void compact(TransactionJournal.Overlay overlay) throws IOException {
+        save(sink -> {
+            stream(tx -> {
+                Transaction resolved = overlay.resolve(tx);
+                return resolved == null || sink.accept(resolved);
+            }, LoadProgressListener.NONE);
+            overlay.emitRemaining(sink);
+        });
+    }
+}
@@ -0,0 +1,73 @@
+package com.financetracker.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Konversi snapshot antar format penyimpanan (JSON &lt;-&gt; kolumnar).
+ *
+ * Penggunaan baris perintah:
+ * <pre>
+ * java -cp financetracker.jar com.financetracker.storage.StorageConverter data/transactions.json data/transactions.col
+ * </pre>
+ * Format ditentukan dari nama file: {@code .json}, {@code .col}, atau
+ * {@code manifest.json} untuk penyimpanan berpartisi per bulan.
+ */
+public class StorageConverter {
+
+    private static final Logger logger = Logger.getLogger(StorageConverter.class.getName());
+
+    private StorageConverter() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Menyalin seluruh isi snapshot sumber ke snapshot tujuan secara streaming: setiap
+     * transaksi langsung diteruskan ke penulis tujuan tanpa dikumpulkan di memori.
+     *
+     * @return Jumlah transaksi yang dikonversi
+     */
+    public static long convert(StorageBackend source, StorageBackend target) throws IOException {
+        long[] count = {0};
+        target.save(sink -> count[0] = source.stream(sink, LoadProgressListener.NONE));
+        return count[0];
+    }
+
+    /**
+     * Memilih backend berdasarkan ekstensi file.
+     */
+    public static StorageBackend backendFor(Path file) {
+        String name = file.getFileName().toString().toLowerCase();
+        if (name.equals(PartitionedStorageBackend.MANIFEST_FILE)) {
+            Path root = file.toAbsolutePath().getParent();
+            return new PartitionedStorageBackend(root);
+        }
+        if (name.endsWith(".col")) {
+            return new ColumnarStorageBackend(file);
+        }
+        if (name.endsWith(".json")) {
+            return new JsonStorageBackend(file);
+        }
+        throw new IllegalArgumentException("Format file tidak dikenal: " + file);
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            logger.severe("Penggunaan: StorageConverter <sumber> <tujuan>  (.json | .col | manifest.json)");
+            System.exit(1);
+        }
+        try {
+            StorageBackend source = backendFor(Paths.get(args[0]));
+            StorageBackend target = backendFor(Paths.get(args[1]));
+            long count = convert(source, target);
+            logger.log(Level.INFO, "{0} transaksi dikonversi: {1} -> {2}",
+                    new Object[] {count, source.getName(), target.getName()});
+        } catch (IOException | IllegalArgumentException e) {
+            logger.log(Level.SEVERE, "Konversi gagal", e);
+            System.exit(1);
+        }
+    }
+}
@@ -1,17 +1,12 @@
 package com.financetracker.storage;
 
 import com.financetracker.model.Transaction;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.reflect.TypeToken;
+import com.google.gson.JsonParseException;
 
 import java.io.*;
-import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
@@ -31,26 +26,71 @@ public class StorageManager {
 
     private static final StorageManager INSTANCE = new StorageManager();
 
-    private final Gson gson;
+    private final StorageBackend backend;
+    private final TransactionJournal journal;
+    private final WriteBehindPersister persister;
+    private final NotificationLogAppender notificationLog;
+    /** Menyerialkan akses journal antara thread penulis, compaction, dan pemuatan */
+    private final Object journalLock = new Object();
 
     // 3. Konstanta File & Direktori
     private static final String DATA_DIR = "data";
     private static final String TRANSACTIONS_FILE = DATA_DIR + "/transactions.json";
+    private static final String COLUMNAR_FILE = DATA_DIR + "/transactions.col";
     private static final String NOTIFICATIONS_FILE = DATA_DIR + "/notifications.log";
     private static final String BUDGET_FILE = DATA_DIR + "/budget.txt";
+    private static final String JOURNAL_FILE = DATA_DIR + "/transactions.journal";
     private static final String DEFAULT_BUDGET = "2000000";
 
+    /** Journal dilipat ke snapshot setelah melewati ukuran ini (1 MiB) */
+    private static final long JOURNAL_COMPACTION_THRESHOLD = 1024L * 1024L;
 
-    private static final DateTimeFormatter LOG_TIMESTAMP_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    /** System property untuk memilih format snapshot: "json" (default), "columnar" atau "partitioned" */
+    public static final String BACKEND_PROPERTY = "financetracker.storage";
+
+    /** System property mode durabilitas: "async" (default), "group" atau "sync" */
+    public static final String DURABILITY_PROPERTY = "financetracker.durability";
+    /** System property jeda tenang sebelum batch ditulis (ms) */
+    public static final String FLUSH_INTERVAL_PROPERTY = "financetracker.flushIntervalMs";
+    /** System property batas maksimum sebuah mutasi menunggu di antrian (ms) */
+    public static final String MAX_DELAY_PROPERTY = "financetracker.maxDelayMs";
+    private static final long DEFAULT_FLUSH_INTERVAL_MS = 200;
+    private static final long DEFAULT_MAX_DELAY_MS = 1000;
+
+    /** System property rotasi log notifikasi: "size" (default), "daily" atau "none" */
+    public static final String LOG_ROTATION_PROPERTY = "financetracker.notificationLog.rotation";
+    /** System property ukuran maksimum log notifikasi sebelum dirotasi (byte) */
+    public static final String LOG_MAX_BYTES_PROPERTY = "financetracker.notificationLog.maxBytes";
+    /** System property kebijakan flush log notifikasi: "write" (default) atau "fsync" */
+    public static final String LOG_FLUSH_PROPERTY = "financetracker.notificationLog.flush";
+    /** System property jeda pengumpulan batch log notifikasi (ms) */
+    public static final String LOG_FLUSH_INTERVAL_PROPERTY = "financetracker.notificationLog.flushIntervalMs";
+    private static final long DEFAULT_LOG_MAX_BYTES = 1024L * 1024L;
+    private static final int LOG_MAX_BACKUPS = 5;
+    private static final int LOG_BUFFER_CAPACITY = 1024;
+    private static final long DEFAULT_LOG_FLUSH_INTERVAL_MS = 100;
 
     // Constructor Private
     private StorageManager() {
-        gson = new GsonBuilder()
-                .registerTypeAdapter(LocalDate.class, new LocalDateAdapter())
-                .setPrettyPrinting()
-                .create();
+        backend = createBackend(System.getProperty(BACKEND_PROPERTY, "json"));
+        journal = new TransactionJournal(Paths.get(JOURNAL_FILE));
+        persister = new WriteBehindPersister(this::writeBatch,
+                DurabilityMode.parse(System.getProperty(DURABILITY_PROPERTY)),
+                Long.getLong(FLUSH_INTERVAL_PROPERTY, DEFAULT_FLUSH_INTERVAL_MS),
+                Long.getLong(MAX_DELAY_PROPERTY, DEFAULT_MAX_DELAY_MS));
+        notificationLog = new NotificationLogAppender(Paths.get(NOTIFICATIONS_FILE), LOG_BUFFER_CAPACITY,
+                NotificationLogAppender.RotationPolicy.parse(System.getProperty(LOG_ROTATION_PROPERTY),
+                        Long.getLong(LOG_MAX_BYTES_PROPERTY, DEFAULT_LOG_MAX_BYTES), LOG_MAX_BACKUPS),
+                NotificationLogAppender.FlushPolicy.parse(System.getProperty(LOG_FLUSH_PROPERTY)),
+                Long.getLong(LOG_FLUSH_INTERVAL_PROPERTY, DEFAULT_LOG_FLUSH_INTERVAL_MS));
 
         ensureStorage();
+
+        // Pastikan mutasi dan notifikasi yang masih di antrian tertulis saat aplikasi ditutup
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            persister.close();
+            notificationLog.close();
+        }, "storage-shutdown"));
     }
 
     /**
@@ -60,6 +100,23 @@ public class StorageManager {
         return INSTANCE;
     }
 
+    private static StorageBackend createBackend(String name) {
+        if ("columnar".equalsIgnoreCase(name)) {
+            return new ColumnarStorageBackend(Paths.get(COLUMNAR_FILE));
+        }
+        if ("partitioned".equalsIgnoreCase(name)) {
+            return new PartitionedStorageBackend(Paths.get(DATA_DIR));
+        }
+        return new JsonStorageBackend(Paths.get(TRANSACTIONS_FILE));
+    }
+
+    /**
+     * Backend snapshot yang sedang aktif.
+     */
+    public StorageBackend getBackend() {
+        return backend;
+    }
+
     /**
      * Pastikan folder dan file penting ada.
      */
@@ -72,10 +129,8 @@ public class StorageManager {
             }
 
             // Cek file transaksi
-            Path transPath = Paths.get(TRANSACTIONS_FILE);
-            if (!Files.exists(transPath)) {
-                Files.write(transPath, "[]".getBytes(StandardCharsets.UTF_8));
-            }
+            migrateLegacySnapshot();
+            backend.ensureExists();
 
             // Cek file budget
             Path budgetPath = Paths.get(BUDGET_FILE);
@@ -95,60 +150,276 @@ public class StorageManager {
         }
     }
 
+    /**
+     * Backend non-JSON yang belum punya snapshot sedangkan {@code data/transactions.json} ada:
+     * isi JSON dikonversi sekali ke format baru agar data lama tidak terabaikan diam-diam.
+     * File JSON dibiarkan sebagai cadangan; journal tetap berlaku di atas snapshot baru.
+     */
+    private void migrateLegacySnapshot() throws IOException {
+        Path legacy = Paths.get(TRANSACTIONS_FILE);
+        if (backend instanceof JsonStorageBackend || Files.exists(backend.getPath()) || !Files.exists(legacy)) {
+            return;
+        }
+        long count = StorageConverter.convert(new JsonStorageBackend(legacy), backend);
+        logger.log(Level.INFO, "{0} transaksi dari {1} dimigrasikan ke format {2}",
+                new Object[] {count, legacy, backend.getName()});
+    }
+
     // ============================================================
     //                  TRANSACTION STORAGE
     // ============================================================
 
-    public void saveTransactions(List<Transaction> transactions) {
-        try (Writer writer = new FileWriter(TRANSACTIONS_FILE, StandardCharsets.UTF_8)) {
-            gson.toJson(transactions, writer);
-        } catch (IOException e) {
-            logger.log(Level.SEVERE, "Gagal menyimpan transaksi", e);
-        }
+    /**
+     * True bila backend aktif bisa memuat bulan lama belakangan (lazy loading).
+     */
+    public boolean supportsPartialLoad() {
+        return backend.supportsPartialLoad();
     }
 
-    public List<Transaction> loadTransactions() {
-        try (Reader reader = new FileReader(TRANSACTIONS_FILE, StandardCharsets.UTF_8)) {
-            Type listType = new TypeToken<ArrayList<Transaction>>() {}.getType();
-            List<Transaction> transactions = gson.fromJson(reader, listType);
-            return (transactions != null) ? transactions : new ArrayList<>();
-        } catch (IOException e) {
+    /**
+     * Memuat seluruh transaksi satu per satu (snapshot + journal) ke sink tanpa list perantara.
+     * Cocok untuk membangun indeks / agregat sambil parsing.
+     *
+     * @param sink     Penerima transaksi; kembalikan false untuk berhenti
+     * @param progress Listener progres pembacaan snapshot
+     * @return Jumlah transaksi yang diterima sink
+     */
+    public long streamTransactions(TransactionSink sink, LoadProgressListener progress) {
+        return streamTransactions(null, null, sink, progress);
+    }
+
+    /**
+     * Memuat transaksi dalam rentang bulan [from, to] saja (batas null = terbuka) ke sink.
+     * Pada backend berpartisi hanya file bulan terkait yang dibaca. Kegagalan baca dicatat
+     * ke log; sink hanya menerima transaksi yang sempat terbaca.
+     *
+     * @return Jumlah transaksi yang diterima sink
+     */
+    public long streamTransactions(YearMonth from, YearMonth to, TransactionSink sink,
+                                   LoadProgressListener progress) {
+        try {
+            long count = streamSnapshotAndJournal(from, to, sink, progress, false);
+            if (from == null && to == null) {
+                // Compaction hanya bila pemuatan lengkap, agar snapshot tidak tertimpa data parsial
+                synchronized (journalLock) {
+                    compactIfNeeded();
+                }
+            }
+            return count;
+        } catch (IOException | JsonParseException e) {
             logger.log(Level.SEVERE, "Gagal memuat transaksi", e);
-            return new ArrayList<>();
+            return 0;
+        }
+    }
+
+    /**
+     * Seperti {@link #streamTransactions(TransactionSink, LoadProgressListener)} untuk rentang
+     * bulan [from, to], tetapi kegagalan baca diteruskan ke pemanggil (misal ekspor,
+     * yang tidak boleh menghasilkan file terpotong tanpa pemberitahuan).
+     */
+    public long streamTransactions(YearMonth from, YearMonth to, TransactionSink sink) throws IOException {
+        try {
+            return streamSnapshotAndJournal(from, to, sink, LoadProgressListener.NONE, true);
+        } catch (JsonParseException e) {
+            throw new IOException("Data transaksi rusak", e);
+        }
+    }
+
+    /**
+     * @param requireFlushed true bila pembacaan harus mencakup semua mutasi di memori (ekspor):
+     *                       gagal bila masih ada mutasi tertunda yang belum bisa ditulis. Pemuatan
+     *                       tidak membutuhkannya karena mutasi tertunda sudah ada di memori.
+     */
+    private long streamSnapshotAndJournal(YearMonth from, YearMonth to, TransactionSink sink,
+                                          LoadProgressListener progress, boolean requireFlushed)
+            throws IOException {
+        if (!flush() && requireFlushed) {
+            throw new IOException("Sebagian mutasi transaksi belum tersimpan; data di disk belum lengkap");
+        }
+        synchronized (journalLock) {
+            return streamLocked(from, to, sink, progress);
         }
     }
 
+    private long streamLocked(YearMonth from, YearMonth to, TransactionSink sink,
+                              LoadProgressListener progress) throws IOException {
+        TransactionJournal.Overlay overlay = journal.readOverlay();
+        long[] delivered = {0};
+        boolean[] stopped = {false};
+
+        backend.stream(from, to, tx -> {
+            Transaction resolved = overlay.resolve(tx);
+            if (resolved == null) return true;
+            delivered[0]++;
+            stopped[0] = !sink.accept(resolved);
+            return !stopped[0];
+        }, progress);
+
+        if (!stopped[0]) {
+            overlay.emitRemaining(from, to, tx -> {
+                delivered[0]++;
+                return sink.accept(tx);
+            });
+        }
+        return delivered[0];
+    }
+
     // ============================================================
-    //                  NOTIFICATION LOGGING
+    //                  TRANSACTION JOURNAL
     // ============================================================
 
-    public void logNotification(String message) {
-        // Menggunakan formatter static
-        String timestamp = LocalDateTime.now().format(LOG_TIMESTAMP_FORMAT);
-        String logEntry = String.format("[%s] %s%n", timestamp, message);
+    /**
+     * Mencatat satu transaksi baru ke journal (append, O(1)).
+     * Penulisan ke disk mengikuti mode durabilitas (default: di belakang layar).
+     *
+     * @return false bila mode SYNC/GROUP_COMMIT gagal menulis mutasi ke disk
+     */
+    public boolean appendTransaction(Transaction transaction) {
+        return submit(TransactionJournal.Entry.add(transaction));
+    }
 
+    /**
+     * Mencatat penghapusan transaksi ke journal (append, O(1)).
+     *
+     * @return false bila mode SYNC/GROUP_COMMIT gagal menulis mutasi ke disk
+     */
+    public boolean appendDeletion(Transaction transaction) {
+        return submit(TransactionJournal.Entry.delete(transaction));
+    }
+
+    private boolean submit(TransactionJournal.Entry entry) {
         try {
-            Files.write(Paths.get(NOTIFICATIONS_FILE),
-                    logEntry.getBytes(StandardCharsets.UTF_8),
-                    StandardOpenOption.CREATE,
-                    StandardOpenOption.APPEND);
+            persister.submit(entry);
+            return true;
         } catch (IOException e) {
-            logger.log(Level.SEVERE, "Gagal menulis log notifikasi", e);
+            logger.log(Level.SEVERE, "Gagal menyimpan mutasi transaksi", e);
+            return false;
+        }
+    }
+
+    /**
+     * Mencatat banyak transaksi baru sebagai satu batch journal (satu penulisan, satu fsync).
+     * Dipakai impor massal; pemanggil menunggu sampai batch tersimpan.
+     *
+     * @return false bila penulisan gagal (tidak ada transaksi yang dianggap tersimpan)
+     */
+    public boolean appendTransactions(List<Transaction> transactions) {
+        List<TransactionJournal.Entry> batch = new ArrayList<>(transactions.size());
+        for (Transaction transaction : transactions) {
+            batch.add(TransactionJournal.Entry.add(transaction));
+        }
+        return appendBatch(batch);
+    }
+
+    /**
+     * Mencatat penghapusan banyak transaksi sebagai satu batch journal (satu penulisan, satu fsync).
+     *
+     * @return false bila penulisan gagal (tidak ada penghapusan yang dianggap tersimpan)
+     */
+    public boolean appendDeletions(List<Transaction> transactions) {
+        List<TransactionJournal.Entry> batch = new ArrayList<>(transactions.size());
+        for (Transaction transaction : transactions) {
+            batch.add(TransactionJournal.Entry.delete(transaction));
+        }
+        return appendBatch(batch);
+    }
+
+    private boolean appendBatch(List<TransactionJournal.Entry> batch) {
+        // Mutasi yang masih antri ditulis dulu agar urutan journal tetap terjaga
+        if (!flush()) {
+            return false;
+        }
+        try {
+            writeBatch(batch, true);
+            return true;
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Gagal menyimpan batch transaksi", e);
+            return false;
+        }
+    }
+
+    /**
+     * Menulis semua mutasi yang masih di antrian dan menunggu sampai selesai.
+     *
+     * @return false bila masih ada mutasi yang gagal ditulis (mode ASYNC: tetap diantrikan dan dicoba lagi)
+     */
+    public boolean flush() {
+        try {
+            persister.flush();
+            return true;
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Sebagian mutasi transaksi gagal disimpan", e);
+            return false;
+        }
+    }
+
+    public DurabilityMode getDurabilityMode() {
+        return persister.getMode();
+    }
+
+    /**
+     * Dipanggil oleh thread penulis untuk setiap batch mutasi.
+     */
+    private void writeBatch(List<TransactionJournal.Entry> batch, boolean force) throws IOException {
+        synchronized (journalLock) {
+            journal.append(batch, force);
+            // Batch sudah tersimpan di journal; kegagalan pemadatan tidak menggagalkannya
+            try {
+                compactIfNeeded();
+            } catch (IOException | JsonParseException e) {
+                logger.log(Level.SEVERE, "Gagal memadatkan journal", e);
+            }
+        }
+    }
+
+    /**
+     * Melipat journal ke snapshot sekarang juga, tanpa melihat ambang batas.
+     */
+    public void compactJournal() {
+        flush();
+        synchronized (journalLock) {
+            try {
+                compact();
+            } catch (IOException | JsonParseException e) {
+                logger.log(Level.SEVERE, "Gagal memadatkan journal", e);
+            }
+        }
+    }
+
+    private void compactIfNeeded() throws IOException {
+        if (journal.size() >= JOURNAL_COMPACTION_THRESHOLD) {
+            compact();
         }
     }
 
+    /**
+     * Snapshot ditulis dulu, baru journal dikosongkan. Jika proses mati di
+     * antaranya, replay journal ke snapshot baru tetap menghasilkan data yang sama.
+     */
+    private void compact() throws IOException {
+        backend.compact(journal.readOverlay());
+        journal.truncate();
+        logger.info("Journal transaksi dipadatkan ke snapshot.");
+    }
+
+    // ============================================================
+    //                  NOTIFICATION LOGGING
+    // ============================================================
+
+    /**
+     * Mengantrikan pesan ke {@link NotificationLogAppender}; pemanggil tidak menunggu disk.
+     */
+    public void logNotification(String message) {
+        notificationLog.append(message);
+    }
+
     // ============================================================
     //                  BUDGET PERSISTENCE
     // ============================================================
 
     public void saveMonthlyBudget(double amount) {
         try {
-            Files.write(
-                    Paths.get(BUDGET_FILE),
-                    String.valueOf(amount).getBytes(StandardCharsets.UTF_8),
-                    StandardOpenOption.CREATE,
-                    StandardOpenOption.TRUNCATE_EXISTING
-            );
+            AtomicFileWriter.write(Paths.get(BUDGET_FILE), String.valueOf(amount).getBytes(StandardCharsets.UTF_8));
         } catch (IOException e) {
             logger.log(Level.SEVERE, "Gagal menyimpan budget", e);
         }
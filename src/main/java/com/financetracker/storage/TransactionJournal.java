@@ -0,0 +1,303 @@
+package com.financetracker.storage;
+
+import com.financetracker.model.DescriptionDictionary;
+import com.financetracker.model.Transaction;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Write-ahead journal untuk transaksi.
+ *
+ * Setiap penambahan / penghapusan ditulis sebagai satu baris JSON ringkas
+ * (JSON Lines) di akhir file, sehingga biaya satu mutasi tidak lagi
+ * bergantung pada jumlah seluruh transaksi.
+ *
+ * Format baris:
+ * <pre>
+ * {"op":"ADD","tx":{...}}
+ * {"op":"DEL","id":"...","date":"yyyy-MM-dd"}
+ * </pre>
+ * Tanggal pada DEL dipakai untuk mengetahui partisi bulan mana yang berubah;
+ * baris DEL lama tanpa tanggal tetap didukung.
+ *
+ * Replay bersifat idempoten (ADD = put berdasarkan id, DEL = remove),
+ * sehingga journal yang sudah dilipat ke snapshot aman untuk diputar ulang.
+ */
+public class TransactionJournal {
+
+    private static final Logger logger = Logger.getLogger(TransactionJournal.class.getName());
+
+    static final String OP_ADD = "ADD";
+    static final String OP_DELETE = "DEL";
+
+    private final Path file;
+    private final Gson gson;
+
+    public TransactionJournal(Path file) {
+        this.file = file;
+        this.gson = new GsonBuilder()
+                .registerTypeAdapter(LocalDate.class, new LocalDateAdapter())
+                .create();
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    // ============================================================
+    //                      APPEND
+    // ============================================================
+
+    public void appendAdd(Transaction transaction) throws IOException {
+        append(List.of(Entry.add(transaction)));
+    }
+
+    public void appendDelete(Transaction transaction) throws IOException {
+        append(List.of(Entry.delete(transaction)));
+    }
+
+    public void append(List<Entry> entries) throws IOException {
+        append(entries, false);
+    }
+
+    /**
+     * Menulis beberapa entri sekaligus dengan satu kali buka-tulis file.
+     *
+     * @param force true untuk fsync ({@link FileChannel#force}) sebelum kembali,
+     *              sehingga seluruh batch tahan terhadap crash / mati listrik
+     */
+    public void append(List<Entry> entries, boolean force) throws IOException {
+        if (entries.isEmpty()) return;
+
+        StringBuilder lines = new StringBuilder(entries.size() * 160);
+        for (Entry entry : entries) {
+            lines.append(toLine(entry)).append('\n');
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            if (force) {
+                channel.force(false);
+            }
+        }
+    }
+
+    private String toLine(Entry entry) {
+        JsonObject record = new JsonObject();
+        if (entry.isAdd()) {
+            record.addProperty("op", OP_ADD);
+            record.add("tx", gson.toJsonTree(entry.getTransaction()));
+        } else {
+            record.addProperty("op", OP_DELETE);
+            record.addProperty("id", entry.getId());
+            record.add("date", gson.toJsonTree(entry.getTransaction().getDate()));
+        }
+        return gson.toJson(record);
+    }
+
+    // ============================================================
+    //                      REPLAY & MAINTENANCE
+    // ============================================================
+
+    /**
+     * Menerapkan seluruh isi journal di atas snapshot.
+     * Urutan snapshot dipertahankan, transaksi baru ditambahkan di akhir.
+     */
+    public List<Transaction> replay(List<Transaction> snapshot) throws IOException {
+        Overlay overlay = readOverlay();
+        List<Transaction> result = new ArrayList<>(snapshot.size());
+        for (Transaction tx : snapshot) {
+            Transaction resolved = overlay.resolve(tx);
+            if (resolved != null) result.add(resolved);
+        }
+        overlay.emitRemaining(t -> result.add(t));
+        return result;
+    }
+
+    /**
+     * Membaca journal menjadi overlay: perubahan terakhir per id.
+     * Baris rusak (misal tulisan terakhir terpotong saat crash) dilewati.
+     */
+    public Overlay readOverlay() throws IOException {
+        Overlay overlay = new Overlay();
+        if (!Files.exists(file)) {
+            return overlay;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) continue;
+                applyLine(line, lineNumber, overlay);
+            }
+        }
+        return overlay;
+    }
+
+    private void applyLine(String line, int lineNumber, Overlay overlay) {
+        try {
+            JsonObject record = gson.fromJson(line, JsonObject.class);
+            String op = record.get("op").getAsString();
+            if (OP_ADD.equals(op)) {
+                Transaction tx = gson.fromJson(record.get("tx"), Transaction.class);
+                overlay.recordAdd(DescriptionDictionary.getInstance().intern(tx));
+            } else if (OP_DELETE.equals(op)) {
+                LocalDate date = record.has("date") ? gson.fromJson(record.get("date"), LocalDate.class) : null;
+                overlay.recordDelete(record.get("id").getAsString(), date);
+            } else {
+                logger.log(Level.WARNING, "Operasi journal tidak dikenal di baris {0}", lineNumber);
+            }
+        } catch (JsonParseException | IllegalStateException | NullPointerException e) {
+            logger.log(Level.WARNING, "Baris journal rusak dilewati (baris " + lineNumber + ")", e);
+        }
+    }
+
+    /**
+     * Ukuran journal dalam byte (0 jika belum ada).
+     */
+    public long size() throws IOException {
+        return Files.exists(file) ? Files.size(file) : 0L;
+    }
+
+    /**
+     * Mengosongkan journal setelah isinya dilipat ke snapshot.
+     */
+    public void truncate() throws IOException {
+        Files.write(file, new byte[0],
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    // ============================================================
+    //                      ENTRY
+    // ============================================================
+
+    /**
+     * Satu mutasi yang akan ditulis ke journal.
+     */
+    public static final class Entry {
+        private final boolean add;
+        private final Transaction transaction;
+
+        private Entry(boolean add, Transaction transaction) {
+            this.add = add;
+            this.transaction = transaction;
+        }
+
+        public static Entry add(Transaction transaction) {
+            return new Entry(true, transaction);
+        }
+
+        public static Entry delete(Transaction transaction) {
+            return new Entry(false, transaction);
+        }
+
+        public boolean isAdd() { return add; }
+        public String getId() { return transaction.getId(); }
+        public Transaction getTransaction() { return transaction; }
+    }
+
+    // ============================================================
+    //                      OVERLAY
+    // ============================================================
+
+    /**
+     * Hasil baca journal yang bisa diterapkan ke snapshot secara streaming,
+     * tanpa perlu menahan seluruh snapshot di memori.
+     */
+    public static final class Overlay {
+        /** Perubahan terakhir per id; nilai null = tombstone */
+        private final Map<String, Transaction> changes = new LinkedHashMap<>();
+        private final Set<YearMonth> touchedMonths = new TreeSet<>();
+        private boolean monthsKnown = true;
+
+        private Overlay() {
+        }
+
+        private void recordAdd(Transaction tx) {
+            changes.put(tx.getId(), tx);
+            touchedMonths.add(YearMonth.from(tx.getDate()));
+        }
+
+        private void recordDelete(String id, LocalDate date) {
+            changes.put(id, null);
+            if (date != null) {
+                touchedMonths.add(YearMonth.from(date));
+            } else {
+                monthsKnown = false;
+            }
+        }
+
+        public boolean isEmpty() {
+            return changes.isEmpty();
+        }
+
+        /**
+         * Bulan-bulan yang disentuh journal, atau {@code null} bila ada
+         * penghapusan lama tanpa tanggal (semua bulan harus dianggap berubah).
+         */
+        public Set<YearMonth> getTouchedMonths() {
+            return monthsKnown ? Collections.unmodifiableSet(touchedMonths) : null;
+        }
+
+        /**
+         * Versi akhir dari transaksi snapshot, atau {@code null} jika sudah dihapus.
+         * Id yang sudah diselesaikan tidak akan dikirim lagi oleh {@link #emitRemaining}.
+         */
+        public Transaction resolve(Transaction fromSnapshot) {
+            if (!changes.containsKey(fromSnapshot.getId())) {
+                return fromSnapshot;
+            }
+            return changes.remove(fromSnapshot.getId());
+        }
+
+        /**
+         * Mengirim transaksi journal yang tidak ada di snapshot, sesuai urutan journal.
+         */
+        public boolean emitRemaining(TransactionSink sink) {
+            return emitRemaining(null, null, sink);
+        }
+
+        /**
+         * Seperti {@link #emitRemaining(TransactionSink)}, dibatasi ke rentang bulan
+         * (batas {@code null} berarti terbuka).
+         */
+        public boolean emitRemaining(YearMonth from, YearMonth to, TransactionSink sink) {
+            for (Transaction tx : changes.values()) {
+                if (tx == null) continue;
+                YearMonth month = YearMonth.from(tx.getDate());
+                if ((from != null && month.isBefore(from)) || (to != null && month.isAfter(to))) continue;
+                if (!sink.accept(tx)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
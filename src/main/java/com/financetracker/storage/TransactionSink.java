@@ -0,0 +1,12 @@
+package com.financetracker.storage;
+
+import com.financetracker.model.Transaction;
+
+/**
+ * Penerima transaksi untuk pemuatan streaming.
+ * Dipanggil satu kali per transaksi; kembalikan {@code false} untuk berhenti lebih awal.
+ */
+@FunctionalInterface
+public interface TransactionSink {
+    boolean accept(Transaction transaction);
+}
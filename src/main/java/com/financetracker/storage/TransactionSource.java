@@ -0,0 +1,43 @@
+package com.financetracker.storage;
+
+import com.financetracker.model.Transaction;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Sumber transaksi untuk penulisan snapshot streaming: mengirim seluruh isinya ke sink
+ * satu per satu, sehingga backend tujuan tidak perlu menahan semua transaksi di memori.
+ */
+@FunctionalInterface
+public interface TransactionSource {
+
+    void emit(TransactionSink sink) throws IOException;
+
+    /**
+     * Penulis satu transaksi yang boleh melempar IOException.
+     */
+    @FunctionalInterface
+    interface RowWriter {
+        void write(Transaction transaction) throws IOException;
+    }
+
+    /**
+     * Mengirim seluruh transaksi ke penulis. {@link TransactionSink} tidak boleh melempar
+     * checked exception, jadi kegagalan tulis dibungkus lalu dibuka lagi di sini.
+     */
+    default void writeTo(RowWriter writer) throws IOException {
+        try {
+            emit(tx -> {
+                try {
+                    writer.write(tx);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return true;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.financetracker.storage;
+
+import com.financetracker.model.DescriptionDictionary;
+import com.financetracker.model.Transaction;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Pembaca streaming untuk file array JSON transaksi.
+ *
+ * Transaksi dibaca satu per satu dengan {@link JsonReader} dan langsung
+ * diteruskan ke {@link TransactionSink}, tanpa membangun parse tree atau
+ * list perantara. Memori puncak tidak bergantung pada ukuran file.
+ * Deskripsi di-intern lewat {@link DescriptionDictionary} sehingga teks yang
+ * berulang hanya disimpan sekali di memori.
+ */
+public class TransactionStreamReader {
+
+    /** Progres dilaporkan setiap sekian transaksi */
+    private static final int PROGRESS_INTERVAL = 1000;
+
+    private final TypeAdapter<Transaction> adapter;
+    private final DescriptionDictionary dictionary = DescriptionDictionary.getInstance();
+
+    public TransactionStreamReader(Gson gson) {
+        this.adapter = gson.getAdapter(Transaction.class);
+    }
+
+    /**
+     * Membaca file dan mengirim setiap transaksi ke sink.
+     *
+     * @return Jumlah transaksi yang diterima sink
+     */
+    public long read(Path file, TransactionSink sink, LoadProgressListener progress) throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        long totalBytes = Files.size(file);
+
+        try (CountingInputStream in = new CountingInputStream(new BufferedInputStream(Files.newInputStream(file)));
+             JsonReader reader = new JsonReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+
+            if (reader.peek() == JsonToken.END_DOCUMENT) {
+                return 0;
+            }
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                return 0;
+            }
+
+            long count = 0;
+            reader.beginArray();
+            while (reader.hasNext()) {
+                Transaction tx = adapter.read(reader);
+                if (tx == null) continue;
+                tx = dictionary.intern(tx);
+
+                count++;
+                if (count % PROGRESS_INTERVAL == 0) {
+                    progress.onProgress(count, in.getCount(), totalBytes);
+                }
+                if (!sink.accept(tx)) {
+                    progress.onProgress(count, in.getCount(), totalBytes);
+                    return count;
+                }
+            }
+            reader.endArray();
+
+            progress.onProgress(count, totalBytes, totalBytes);
+            return count;
+        }
+    }
+
+    /**
+     * Menghitung byte yang sudah dikonsumsi decoder untuk laporan progres.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) count++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) count += n;
+            return n;
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package com.financetracker.storage;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Persister write-behind untuk mutasi journal.
+ *
+ * - Satu thread penulis latar belakang; UI (EDT) tidak lagi menunggu disk.
+ * - Mutasi yang menumpuk digabung (coalesce) per id: hanya operasi terakhir
+ *   yang ditulis, karena replay journal bersifat "put/remove berdasarkan id".
+ * - Batch ditulis setelah tidak ada mutasi baru selama {@code flushInterval},
+ *   tetapi tidak lebih lama dari {@code maxDelay} sejak mutasi pertama.
+ * - {@link #flush()} memaksa penulisan dan menunggu sampai selesai.
+ *
+ * Kebijakan fsync mengikuti {@link DurabilityMode}: SYNC satu fsync per mutasi,
+ * GROUP_COMMIT satu fsync per batch, ASYNC hanya saat {@link #flush()} / penutupan.
+ *
+ * Kegagalan tulis tidak hanya dicatat di log: di SYNC dan GROUP_COMMIT {@link #submit}
+ * melempar {@link IOException} untuk mutasi yang batch-nya gagal, sehingga pemanggil
+ * bisa membatalkan perubahan di memori. Di ASYNC pemanggil sudah kembali lebih dulu,
+ * jadi batch yang gagal dikembalikan ke antrian (tanpa menimpa mutasi lebih baru untuk
+ * id yang sama) dan dicoba lagi dengan jeda yang berlipat; {@link #flush()} melempar
+ * {@link IOException} selama mutasinya belum berhasil ditulis.
+ */
+public class WriteBehindPersister implements AutoCloseable {
+
+    private static final Logger logger = Logger.getLogger(WriteBehindPersister.class.getName());
+
+    /**
+     * Penulis batch ke media penyimpanan (dipanggil hanya dari satu thread pada satu waktu).
+     */
+    @FunctionalInterface
+    public interface BatchWriter {
+        /**
+         * @param force true bila batch harus di-fsync sebelum kembali
+         */
+        void write(List<TransactionJournal.Entry> batch, boolean force) throws IOException;
+    }
+
+    /** Banyaknya catatan kegagalan yang disimpan; yang lebih lama dibuang */
+    private static final int MAX_FAILURES = 64;
+    /** Jeda percobaan ulang ASYNC: mulai dari nilai ini, berlipat dua sampai {@link #MAX_RETRY_DELAY_NANOS} */
+    private static final long MIN_RETRY_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long MAX_RETRY_DELAY_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    /** Batch GROUP_COMMIT yang gagal ditulis: nomor urut mutasi [fromSeq, kunci peta] dan penyebabnya */
+    private static final class Failure {
+        private final long fromSeq;
+        private final IOException cause;
+
+        Failure(long fromSeq, IOException cause) {
+            this.fromSeq = fromSeq;
+            this.cause = cause;
+        }
+    }
+
+    private final BatchWriter writer;
+    private final DurabilityMode mode;
+    private final long flushIntervalNanos;
+    private final long maxDelayNanos;
+
+    private final Object lock = new Object();
+    /** Mutasi tertunda, digabung per id transaksi */
+    private final Map<String, TransactionJournal.Entry> pending = new LinkedHashMap<>();
+    private long firstPendingAt;
+    private long lastSubmitAt;
+    private long submittedSeq;
+    private long writtenSeq;
+    /** GROUP_COMMIT: kegagalan per batch, dikunci nomor urut mutasi terakhir batch tersebut */
+    private final NavigableMap<Long, Failure> failures = new TreeMap<>();
+    /** ASYNC: jumlah percobaan tulis yang gagal dan penyebab terakhirnya */
+    private long failedAttempts;
+    private IOException lastFailure;
+    /** ASYNC: batch berikutnya tidak dicoba sebelum waktu ini (kecuali diminta flush) */
+    private long retryAt;
+    private long retryDelayNanos;
+    private boolean writing;
+    private boolean flushRequested;
+    private boolean running = true;
+
+    private final Thread worker;
+
+    public WriteBehindPersister(BatchWriter writer, DurabilityMode mode,
+                                long flushIntervalMillis, long maxDelayMillis) {
+        this.writer = writer;
+        this.mode = mode;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, flushIntervalMillis));
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(flushIntervalMillis, maxDelayMillis));
+
+        this.worker = new Thread(this::runWorker, "transaction-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    public DurabilityMode getMode() {
+        return mode;
+    }
+
+    // ============================================================
+    //                      SUBMIT & FLUSH
+    // ============================================================
+
+    /**
+     * Mengantrikan satu mutasi. Perilaku menunggu bergantung pada {@link DurabilityMode}.
+     *
+     * @throws IOException SYNC/GROUP_COMMIT: mutasi gagal ditulis ke disk
+     */
+    public void submit(TransactionJournal.Entry entry) throws IOException {
+        if (mode == DurabilityMode.SYNC) {
+            writeInline(entry);
+            return;
+        }
+
+        long seq;
+        synchronized (lock) {
+            if (!running) {
+                throw new IllegalStateException("Persister sudah ditutup.");
+            }
+            long now = System.nanoTime();
+            if (pending.isEmpty()) {
+                firstPendingAt = now;
+            }
+            lastSubmitAt = now;
+            // remove + put agar urutan mengikuti mutasi terakhir
+            pending.remove(entry.getId());
+            pending.put(entry.getId(), entry);
+            seq = ++submittedSeq;
+            lock.notifyAll();
+        }
+
+        if (mode == DurabilityMode.GROUP_COMMIT) {
+            awaitWritten(seq);
+            synchronized (lock) {
+                Map.Entry<Long, Failure> failure = failures.ceilingEntry(seq);
+                if (failure != null && failure.getValue().fromSeq <= seq) {
+                    throw new IOException("Gagal menyimpan mutasi transaksi", failure.getValue().cause);
+                }
+            }
+        }
+    }
+
+    /**
+     * Menulis semua mutasi tertunda sekarang (mengabaikan jeda percobaan ulang) dan menunggu
+     * sampai selesai.
+     *
+     * @throws IOException ASYNC: percobaan tulis gagal; mutasinya tetap di antrian dan dicoba lagi
+     */
+    public void flush() throws IOException {
+        synchronized (lock) {
+            long target = submittedSeq;
+            long failedBefore = failedAttempts;
+            if (writtenSeq < target) {
+                flushRequested = true;
+                lock.notifyAll();
+            }
+            while (writtenSeq < target && failedAttempts == failedBefore && worker.isAlive()) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Terputus sebelum mutasi transaksi tersimpan");
+                }
+            }
+            if (writtenSeq >= target) return;
+            if (failedAttempts != failedBefore) {
+                throw new IOException("Mutasi transaksi belum tersimpan; akan dicoba lagi", lastFailure);
+            }
+            throw new IOException("Thread penulis berhenti sebelum mutasi transaksi tersimpan");
+        }
+    }
+
+    /**
+     * Flush lalu hentikan thread penulis.
+     */
+    @Override
+    public void close() {
+        try {
+            flush();
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Flush saat penutupan gagal; mutasi dicoba sekali lagi", e);
+        }
+        synchronized (lock) {
+            running = false;
+            lock.notifyAll();
+        }
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void awaitWritten(long seq) throws IOException {
+        synchronized (lock) {
+            while (writtenSeq < seq && worker.isAlive()) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Terputus sebelum mutasi transaksi tersimpan");
+                }
+            }
+            if (writtenSeq < seq) {
+                throw new IOException("Thread penulis berhenti sebelum mutasi transaksi tersimpan");
+            }
+        }
+    }
+
+    /**
+     * Mode SYNC: tulis langsung, tetap berurutan terhadap batch yang sedang berjalan.
+     */
+    private void writeInline(TransactionJournal.Entry entry) throws IOException {
+        synchronized (lock) {
+            while (writing) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Terputus sebelum mutasi transaksi tersimpan");
+                }
+            }
+            writing = true;
+        }
+        try {
+            writer.write(List.of(entry), true);
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Gagal menulis mutasi transaksi", e);
+            throw e;
+        } catch (RuntimeException e) {
+            logger.log(Level.SEVERE, "Gagal menulis mutasi transaksi", e);
+            throw new IOException("Gagal menulis mutasi transaksi", e);
+        } finally {
+            synchronized (lock) {
+                writing = false;
+                lock.notifyAll();
+            }
+        }
+    }
+
+    // ============================================================
+    //                      WORKER
+    // ============================================================
+
+    private void runWorker() {
+        while (true) {
+            List<TransactionJournal.Entry> batch;
+            long batchSeq;
+            boolean force;
+            synchronized (lock) {
+                if (!awaitBatch()) return;
+                batch = new ArrayList<>(pending.values());
+                batchSeq = submittedSeq;
+                force = mode != DurabilityMode.ASYNC || flushRequested || !running;
+                pending.clear();
+                flushRequested = false;
+                writing = true;
+            }
+
+            IOException failure = null;
+            try {
+                writer.write(batch, force);
+            } catch (IOException e) {
+                failure = e;
+            } catch (RuntimeException e) {
+                failure = new IOException(e);
+            }
+            if (failure != null) {
+                logger.log(Level.SEVERE, "Gagal menulis batch transaksi (" + batch.size() + " mutasi)", failure);
+            }
+            synchronized (lock) {
+                if (failure != null && mode == DurabilityMode.ASYNC && running) {
+                    requeue(batch, failure);
+                    writing = false;
+                    lock.notifyAll();
+                    continue;
+                }
+                retryDelayNanos = 0;
+                if (failure != null) {
+                    failures.put(batchSeq, new Failure(writtenSeq + 1, failure));
+                    if (failures.size() > MAX_FAILURES) {
+                        failures.pollFirstEntry();
+                    }
+                }
+                writing = false;
+                writtenSeq = batchSeq;
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * ASYNC: batch gagal dikembalikan ke depan antrian; mutasi yang masuk setelahnya untuk
+     * id yang sama lebih baru dan tetap menang. Dipanggil dengan lock dipegang.
+     */
+    private void requeue(List<TransactionJournal.Entry> batch, IOException failure) {
+        Map<String, TransactionJournal.Entry> newer = new LinkedHashMap<>(pending);
+        pending.clear();
+        for (TransactionJournal.Entry entry : batch) {
+            if (!newer.containsKey(entry.getId())) {
+                pending.put(entry.getId(), entry);
+            }
+        }
+        pending.putAll(newer);
+        failedAttempts++;
+        lastFailure = failure;
+        retryDelayNanos = retryDelayNanos == 0
+                ? MIN_RETRY_DELAY_NANOS : Math.min(retryDelayNanos * 2, MAX_RETRY_DELAY_NANOS);
+        retryAt = System.nanoTime() + retryDelayNanos;
+    }
+
+    /**
+     * Menunggu (dengan lock dipegang) sampai batch siap ditulis.
+     *
+     * @return false jika persister ditutup dan tidak ada lagi yang perlu ditulis
+     */
+    private boolean awaitBatch() {
+        try {
+            while (pending.isEmpty() || writing) {
+                if (!running && pending.isEmpty()) return false;
+                lock.wait();
+            }
+            // Setelah kegagalan: tunggu jeda percobaan ulang kecuali diminta flush atau ditutup
+            while (running && !flushRequested && retryDelayNanos > 0) {
+                long remaining = retryAt - System.nanoTime();
+                if (remaining <= 0) break;
+                TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+            }
+            // GROUP_COMMIT langsung menulis: batching terjadi dari mutasi yang masuk selama penulisan sebelumnya
+            while (running && !flushRequested && mode == DurabilityMode.ASYNC && retryDelayNanos == 0) {
+                long now = System.nanoTime();
+                long deadline = Math.min(lastSubmitAt + flushIntervalNanos, firstPendingAt + maxDelayNanos);
+                long remaining = deadline - now;
+                if (remaining <= 0) break;
+                TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
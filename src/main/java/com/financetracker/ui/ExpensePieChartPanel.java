@@ -1,14 +1,12 @@
 package com.financetracker.ui;
 
 import com.financetracker.model.Category;
-import com.financetracker.model.Transaction;
-import com.financetracker.model.TransactionType;
+import com.financetracker.model.TransactionEncoding;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.geom.Arc2D;
 import java.util.EnumMap;
-import java.util.List;
 import java.util.Map;
 
 public class ExpensePieChartPanel extends JPanel {
@@ -28,25 +26,27 @@ public class ExpensePieChartPanel extends JPanel {
     private final Map<Category, Double> categoryTotals; 
     private double totalExpense;
 
-    public ExpensePieChartPanel(List<Transaction> transactions) {
+    /**
+     * @param expenseByCategory Total pengeluaran (sen) per kategori, diindeks {@link Category#ordinal()}
+     */
+    public ExpensePieChartPanel(long[] expenseByCategory) {
         // Inisialisasi map dengan memanggil calculateData
-        this.categoryTotals = calculateData(transactions);
+        this.categoryTotals = calculateData(expenseByCategory);
         setPreferredSize(new Dimension(500, 400));
         setBackground(Color.WHITE);
     }
 
     // Method diubah untuk mengembalikan Map, bukan void (Best Practice)
-    private Map<Category, Double> calculateData(List<Transaction> transactions) {
+    private Map<Category, Double> calculateData(long[] byCategory) {
         // Menggunakan EnumMap untuk performa (Asumsi Category adalah Enum)
         Map<Category, Double> totals = new EnumMap<>(Category.class); 
         this.totalExpense = 0;
 
-        for (Transaction t : transactions) {
-            // Menghapus kurung kurawal dan menyederhanakan logika totalExpense
-            if (t.getType() == TransactionType.EXPENSE) {
-                totals.put(t.getCategory(),
-                    totals.getOrDefault(t.getCategory(), 0.0) + t.getAmount());
-                this.totalExpense += t.getAmount();
+        for (Category category : Category.values()) {
+            long amount = byCategory[category.ordinal()];
+            if (amount != 0) {
+                totals.put(category, TransactionEncoding.fromMinorUnits(amount));
+                this.totalExpense += TransactionEncoding.fromMinorUnits(amount);
             }
         }
         return totals;
@@ -0,0 +1,60 @@
+package com.financetracker.ui;
+
+import com.financetracker.storage.LoadProgressListener;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+
+/**
+ * Jendela progres pemuatan awal transaksi, ditampilkan sebelum MainFrame dibuat.
+ *
+ * Boleh dipanggil dari thread pemuat: semua komponen dibuat dan diperbarui di EDT.
+ */
+public class LoadingWindow implements LoadProgressListener {
+
+    private JWindow window;
+    private JLabel statusLabel;
+    private JProgressBar progressBar;
+
+    public void show() {
+        SwingUtilities.invokeLater(() -> {
+            statusLabel = new JLabel("Memuat transaksi...");
+            progressBar = new JProgressBar(0, 100);
+            progressBar.setIndeterminate(true);
+
+            JPanel panel = new JPanel(new BorderLayout(8, 8));
+            panel.setBorder(BorderFactory.createCompoundBorder(
+                    BorderFactory.createLineBorder(Color.GRAY),
+                    new EmptyBorder(16, 16, 16, 16)));
+            panel.add(new JLabel("Personal Finance Tracker"), BorderLayout.NORTH);
+            panel.add(progressBar, BorderLayout.CENTER);
+            panel.add(statusLabel, BorderLayout.SOUTH);
+
+            window = new JWindow();
+            window.setContentPane(panel);
+            window.setSize(360, 110);
+            window.setLocationRelativeTo(null);
+            window.setVisible(true);
+        });
+    }
+
+    @Override
+    public void onProgress(long count, long bytesRead, long totalBytes) {
+        SwingUtilities.invokeLater(() -> {
+            if (window == null) return;
+            statusLabel.setText(String.format("Memuat transaksi... %,d", count));
+            if (totalBytes > 0) {
+                progressBar.setIndeterminate(false);
+                progressBar.setValue((int) Math.min(100, bytesRead * 100 / totalBytes));
+            }
+        });
+    }
+
+    public void close() {
+        SwingUtilities.invokeLater(() -> {
+            if (window != null) window.dispose();
+            window = null;
+        });
+    }
+}
@@ -1,6 +1,11 @@
 package com.financetracker.ui;
 
+import com.financetracker.App;
+import com.financetracker.exporter.ExportFormat;
+import com.financetracker.exporter.TransactionExporter;
 import com.financetracker.factory.TransactionFactory;
+import com.financetracker.importer.ImportResult;
+import com.financetracker.importer.TransactionImporter;
 import com.financetracker.model.Category;
 import com.financetracker.model.Transaction;
 import com.financetracker.model.TransactionType;
@@ -13,11 +18,17 @@ import com.financetracker.service.TransactionService;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import javax.swing.border.TitledBorder;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.filechooser.FileNameExtensionFilter;
 import javax.swing.table.TableColumn;
 import java.awt.*;
+import java.nio.file.Path;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
@@ -48,6 +59,8 @@ public class MainFrame extends JFrame {
     private JComboBox<Category> filterCategoryComboBox;
     private JTextField filterStartDateField;
     private JTextField filterEndDateField;
+    private JTextField searchField;
+    private Timer searchTimer;
     private JButton deleteButton;
 
     // Report & AI
@@ -55,19 +68,26 @@ public class MainFrame extends JFrame {
 
     //Date Pattern
     private static final String DATE_PATTERN = "yyyy-MM-dd";
+    private static final int MAX_IMPORT_ERRORS_SHOWN = 50;
+    /** Jeda setelah ketikan terakhir sebelum pencarian dijalankan */
+    private static final int SEARCH_DELAY_MS = 150;
     
 
     private final transient DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern(DATE_PATTERN);
 
-    public MainFrame() {
+    /**
+     * @param transactionService Service yang transaksinya sudah dimuat (lihat {@code App})
+     */
+    public MainFrame(TransactionService transactionService) {
+        this.transactionService = transactionService;
         initServices();
         initUI();
         loadInitialData();
     }
 
     private void initServices() {
-        transactionService = new TransactionService();
         reportService = new ReportService();
+        reportService.setParallelism(Integer.getInteger(ReportService.PARALLELISM_PROPERTY, 1));
         openAIService = new OpenAIService();
 
         NotificationService logger = new NotificationService();
@@ -168,6 +188,14 @@ public class MainFrame extends JFrame {
         g.gridx = 0; g.gridy = y; g.gridwidth = 3;
         panel.add(addButton, g);
 
+        // Tombol Impor
+        y++;
+        JButton importButton = new JButton("Impor CSV...");
+        importButton.addActionListener(e -> importCsv());
+
+        g.gridy = y;
+        panel.add(importButton, g);
+
         return panel;
     }
 
@@ -202,11 +230,28 @@ public class MainFrame extends JFrame {
         JButton filterButton = new JButton("Filter");
         filterButton.addActionListener(e -> filterTransactions());
 
+        // Pencarian langsung saat mengetik (debounce singkat)
+        searchField = new JTextField(14);
+        searchField.setToolTipText("Cari di deskripsi transaksi");
+        searchTimer = new Timer(SEARCH_DELAY_MS, e -> searchTransactions());
+        searchTimer.setRepeats(false);
+        searchField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) { searchTimer.restart(); }
+            @Override
+            public void removeUpdate(DocumentEvent e) { searchTimer.restart(); }
+            @Override
+            public void changedUpdate(DocumentEvent e) { searchTimer.restart(); }
+        });
+
+        JButton exportButton = new JButton("Ekspor...");
+        exportButton.addActionListener(e -> exportTransactions());
+
         deleteButton = new JButton("Hapus Terpilih");
         deleteButton.setBackground(new Color(220, 50, 50));
         deleteButton.setForeground(Color.WHITE);
         deleteButton.setEnabled(false);
-        deleteButton.addActionListener(e -> deleteTransaction());
+        deleteButton.addActionListener(e -> deleteTransactions());
 
         panel.add(new JLabel("Kategori:"));
         panel.add(filterCategoryComboBox);
@@ -218,6 +263,11 @@ public class MainFrame extends JFrame {
         panel.add(filterEndDateField);
 
         panel.add(filterButton);
+
+        panel.add(new JLabel("Cari:"));
+        panel.add(searchField);
+
+        panel.add(exportButton);
         panel.add(deleteButton);
 
         return panel;
@@ -237,6 +287,7 @@ public class MainFrame extends JFrame {
         TableColumn idCol = transactionTable.getColumnModel().getColumn(0);
         transactionTable.removeColumn(idCol);
 
+        transactionTable.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
         transactionTable.getSelectionModel().addListSelectionListener(
             e -> deleteButton.setEnabled(transactionTable.getSelectedRow() >= 0)
         );
@@ -285,7 +336,12 @@ public class MainFrame extends JFrame {
         ReportStrategy[] options = {
             new DailyReportStrategy(),
             new MonthlyReportStrategy(),
-            new YearlyReportStrategy()
+            new YearlyReportStrategy(),
+            RangeReportStrategy.lastDays(7),
+            RangeReportStrategy.lastDays(30),
+            RangeReportStrategy.lastDays(90),
+            // Rentang diambil dari isian Dari/Sampai di panel filter saat laporan dibuat
+            new RangeReportStrategy(LocalDate.now().withDayOfMonth(1), LocalDate.now())
         };
 
         reportComboBox = new JComboBox<>(options);
@@ -372,7 +428,11 @@ public class MainFrame extends JFrame {
                     date, desc, amount, type, category
             );
 
-            transactionService.addTransaction(t);
+            if (!transactionService.addTransaction(t)) {
+                JOptionPane.showMessageDialog(this, "Gagal menyimpan transaksi. Transaksi tidak ditambahkan.",
+                        "Error", JOptionPane.ERROR_MESSAGE);
+                return;
+            }
             loadInitialData();
 
             descriptionField.setText("");
@@ -387,25 +447,93 @@ public class MainFrame extends JFrame {
         }
     }
 
-    private void deleteTransaction() {
-        int row = transactionTable.getSelectedRow();
-        if (row < 0) {
+    /**
+     * Parsing berjalan di background; penyimpanan satu batch dilakukan di EDT.
+     */
+    private void importCsv() {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setFileFilter(new FileNameExtensionFilter("CSV / mutasi rekening", "csv", "txt"));
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) return;
+
+        Path file = chooser.getSelectedFile().toPath();
+        TransactionImporter importer = new TransactionImporter();
+        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+
+        SwingWorker<ImportResult, Void> worker = new SwingWorker<>() {
+            @Override
+            protected ImportResult doInBackground() throws Exception {
+                return importer.parseFile(file);
+            }
+
+            @Override
+            protected void done() {
+                setCursor(Cursor.getDefaultCursor());
+                try {
+                    ImportResult result = importer.commit(get(), transactionService);
+                    loadInitialData();
+                    showImportResult(result);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Exception ex) {
+                    Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                    JOptionPane.showMessageDialog(MainFrame.this,
+                            "Impor gagal: " + cause.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        };
+        worker.execute();
+    }
+
+    private void showImportResult(ImportResult result) {
+        StringBuilder text = new StringBuilder(result.getSummary());
+        if (!result.isCommitted()) {
+            text.append("\n\nGagal menyimpan hasil impor, tidak ada transaksi yang ditambahkan.");
+        }
+        List<ImportResult.RowError> errors = result.getErrors();
+        if (!errors.isEmpty()) {
+            text.append("\n\nBaris yang gagal:");
+            errors.stream().limit(MAX_IMPORT_ERRORS_SHOWN).forEach(err -> text.append("\n").append(err));
+            if (errors.size() > MAX_IMPORT_ERRORS_SHOWN) {
+                text.append("\n... dan ").append(errors.size() - MAX_IMPORT_ERRORS_SHOWN).append(" lainnya");
+            }
+        }
+
+        JTextArea area = new JTextArea(text.toString());
+        area.setEditable(false);
+        JScrollPane scroll = new JScrollPane(area);
+        scroll.setPreferredSize(new Dimension(600, 300));
+        JOptionPane.showMessageDialog(this, scroll, "Hasil Impor", JOptionPane.INFORMATION_MESSAGE);
+    }
+
+    /**
+     * Menghapus semua baris yang dipilih (Ctrl/Shift + klik untuk banyak baris) dalam satu batch.
+     */
+    private void deleteTransactions() {
+        int[] selected = transactionTable.getSelectedRows();
+        if (selected.length == 0) {
             JOptionPane.showMessageDialog(this, "Tidak ada transaksi yang dipilih.");
             return;
         }
 
-        int modelRow = transactionTable.convertRowIndexToModel(row);
-        String id = (String) tableModel.getValueAt(modelRow, 0);
+        List<String> ids = new ArrayList<>(selected.length);
+        for (int row : selected) {
+            ids.add(tableModel.getTransactionAt(transactionTable.convertRowIndexToModel(row)).getId());
+        }
 
         int confirm = JOptionPane.showConfirmDialog(
                 this,
-                "Yakin ingin menghapus transaksi ini?",
+                ids.size() == 1
+                        ? "Yakin ingin menghapus transaksi ini?"
+                        : "Yakin ingin menghapus " + ids.size() + " transaksi terpilih?",
                 "Konfirmasi",
                 JOptionPane.YES_NO_OPTION
         );
 
         if (confirm == JOptionPane.YES_OPTION) {
-            transactionService.deleteTransaction(id);
+            if (!transactionService.deleteTransactions(ids)) {
+                JOptionPane.showMessageDialog(this, "Gagal menyimpan penghapusan. Tidak ada transaksi yang dihapus.",
+                        "Error", JOptionPane.ERROR_MESSAGE);
+            }
             loadInitialData();
         }
     }
@@ -426,6 +554,67 @@ public class MainFrame extends JFrame {
         }
     }
 
+    private void searchTransactions() {
+        String query = searchField.getText();
+        if (query.isBlank()) {
+            refreshTable(transactionService.getAllTransactions());
+            return;
+        }
+        refreshTable(transactionService.searchTransactions(query));
+    }
+
+    /**
+     * Mengekspor transaksi sesuai filter yang sedang diisi. Bulan yang sudah dimuat dibaca
+     * dari snapshot store, bulan lama dari penyimpanan; penulisan berjalan di background.
+     */
+    private void exportTransactions() {
+        Category cat = (Category) filterCategoryComboBox.getSelectedItem();
+        LocalDate start;
+        LocalDate end;
+        try {
+            start = filterStartDateField.getText().isBlank() ? null :
+                    LocalDate.parse(filterStartDateField.getText(), dateFormatter);
+            end = filterEndDateField.getText().isBlank() ? null :
+                    LocalDate.parse(filterEndDateField.getText(), dateFormatter);
+        } catch (Exception e) {
+            JOptionPane.showMessageDialog(this, "Format tanggal salah.");
+            return;
+        }
+
+        JFileChooser chooser = new JFileChooser();
+        chooser.setSelectedFile(new java.io.File("transaksi.csv"));
+        chooser.setFileFilter(new FileNameExtensionFilter("CSV atau JSON Lines", "csv", "jsonl"));
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) return;
+
+        Path file = chooser.getSelectedFile().toPath();
+        TransactionExporter exporter = new TransactionExporter(ExportFormat.fromFileName(file), cat, start, end);
+        TransactionExporter.Source source = transactionService.exportSource(start, end);
+        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+
+        SwingWorker<Long, Void> worker = new SwingWorker<>() {
+            @Override
+            protected Long doInBackground() throws Exception {
+                return exporter.export(source, file);
+            }
+
+            @Override
+            protected void done() {
+                setCursor(Cursor.getDefaultCursor());
+                try {
+                    JOptionPane.showMessageDialog(MainFrame.this,
+                            String.format("%,d transaksi diekspor ke %s", get(), file.getFileName()));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Exception ex) {
+                    Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                    JOptionPane.showMessageDialog(MainFrame.this,
+                            "Ekspor gagal: " + cause.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        };
+        worker.execute();
+    }
+
     private void setBudget() {
         String current = String.valueOf(transactionService.getMonthlyBudget());
 
@@ -455,9 +644,14 @@ public class MainFrame extends JFrame {
 
     private void generateReport() {
         ReportStrategy strategy = (ReportStrategy) reportComboBox.getSelectedItem();
+        if (strategy instanceof RangeReportStrategy && !((RangeReportStrategy) strategy).isRolling()
+                && !applyFilterRange((RangeReportStrategy) strategy)) {
+            return;
+        }
         reportService.setStrategy(strategy);
+        transactionService.ensureLoadedFrom(strategy.getPeriodStart(LocalDate.now()));
 
-        String content = reportService.generateReport(transactionService.getAllTransactions());
+        String content = reportService.generateReport(transactionService.getStore());
 
         JTextArea area = new JTextArea(content);
         area.setEditable(false);
@@ -469,8 +663,31 @@ public class MainFrame extends JFrame {
         JOptionPane.showMessageDialog(this, scroll, strategy.getReportName(), JOptionPane.INFORMATION_MESSAGE);
     }
 
+    /**
+     * Mengisi rentang laporan dari isian tanggal panel filter.
+     *
+     * @return false bila tanggal kosong atau tidak valid (pesan sudah ditampilkan)
+     */
+    private boolean applyFilterRange(RangeReportStrategy strategy) {
+        if (filterStartDateField.getText().isBlank() || filterEndDateField.getText().isBlank()) {
+            JOptionPane.showMessageDialog(this, "Isi tanggal Dari dan Sampai di panel filter untuk laporan rentang.");
+            return false;
+        }
+        try {
+            strategy.setRange(LocalDate.parse(filterStartDateField.getText(), dateFormatter),
+                    LocalDate.parse(filterEndDateField.getText(), dateFormatter));
+            return true;
+        } catch (Exception e) {
+            JOptionPane.showMessageDialog(this, "Format tanggal salah.");
+            return false;
+        }
+    }
+
     private void openAIChatDialog() {
-        String summary = reportService.generateReport(transactionService.getAllTransactions());
+        if (reportService.getStrategy() != null) {
+            transactionService.ensureLoadedFrom(reportService.getStrategy().getPeriodStart(LocalDate.now()));
+        }
+        String summary = reportService.generateReport(transactionService.getStore());
 
         JDialog loading = new JDialog(this, "Menghubungi AI...", true);
         JProgressBar pb = new JProgressBar();
@@ -570,13 +787,59 @@ public class MainFrame extends JFrame {
     // CHART DIALOG
     // ============================================================
 
+    /**
+     * Grafik mencakup seluruh riwayat. Bila bulan lama belum dimuat (penyimpanan berpartisi),
+     * totalnya dibaca dari disk di background lalu digabung dengan total di memori.
+     */
     private void showChartDialog() {
+        YearMonth loadedFrom = transactionService.getLoadedFrom();
+        if (loadedFrom == null) {
+            openChartDialog(transactionService.sumLoadedExpenseByCategory());
+            return;
+        }
+        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+
+        SwingWorker<long[], Void> worker = new SwingWorker<>() {
+            @Override
+            protected long[] doInBackground() throws Exception {
+                return transactionService.sumStoredExpenseByCategory(loadedFrom);
+            }
+
+            @Override
+            protected void done() {
+                setCursor(Cursor.getDefaultCursor());
+                try {
+                    long[] older = get();
+                    if (!loadedFrom.equals(transactionService.getLoadedFrom())) {
+                        // Bulan lama dimuat sementara itu: hitung ulang agar tidak terhitung dua kali
+                        showChartDialog();
+                        return;
+                    }
+                    long[] totals = transactionService.sumLoadedExpenseByCategory();
+                    for (int c = 0; c < totals.length; c++) {
+                        totals[c] += older[c];
+                    }
+                    openChartDialog(totals);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Exception ex) {
+                    Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                    JOptionPane.showMessageDialog(MainFrame.this,
+                            "Gagal membaca riwayat pengeluaran: " + cause.getMessage(), "Error",
+                            JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        };
+        worker.execute();
+    }
+
+    private void openChartDialog(long[] expenseByCategory) {
         JDialog dialog = new JDialog(this, "Visualisasi Pengeluaran", true);
         dialog.setSize(600, 500);
         dialog.setLayout(new BorderLayout());
         dialog.setLocationRelativeTo(this);
 
-        ExpensePieChartPanel chartPanel = new ExpensePieChartPanel(transactionService.getAllTransactions());
+        ExpensePieChartPanel chartPanel = new ExpensePieChartPanel(expenseByCategory);
         dialog.add(chartPanel, BorderLayout.CENTER);
 
         dialog.setVisible(true);
@@ -624,6 +887,7 @@ public class MainFrame extends JFrame {
     // ============================================================
 
     public static void main(String[] args) {
-        SwingUtilities.invokeLater(() -> new MainFrame().setVisible(true));
+        // Startup yang sama dengan App: transaksi dimuat dengan jendela progres
+        App.main(args);
     }
 }
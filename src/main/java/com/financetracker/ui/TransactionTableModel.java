@@ -1,11 +1,14 @@
 package com.financetracker.ui;
 
 import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionEncoding;
+import com.financetracker.model.TransactionSnapshot;
 
 import javax.swing.table.AbstractTableModel;
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
 import java.util.List;
-import java.util.ArrayList;
 
 /**
  * Model tabel kustom untuk JTable, agar JTable bisa
@@ -13,20 +16,23 @@ import java.util.ArrayList;
  */
 public class TransactionTableModel extends AbstractTableModel {
 
-    private final transient List<Transaction> transactions;
+    private transient List<Transaction> transactions;
+    /** Sama dengan transactions bila datanya snapshot store; sel dibaca per kolom tanpa objek Transaction */
+    private transient TransactionSnapshot snapshot;
     private final String[] columnNames = {"ID", "Tanggal", "Deskripsi", "Tipe", "Kategori", "Jumlah (Rp)"};
     private static final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
     public TransactionTableModel() {
-        this.transactions = new ArrayList<>();
+        this.transactions = Collections.emptyList();
     }
 
     /**
-     * Mengatur ulang data di tabel dengan data baru.
+     * Mengatur ulang data di tabel dengan data baru. List dipakai apa adanya (tanpa disalin),
+     * jadi harus immutable, misalnya snapshot dari TransactionService atau hasil kueri.
      */
     public void setTransactions(List<Transaction> transactions) {
-        this.transactions.clear();
-        this.transactions.addAll(transactions);
+        this.transactions = transactions;
+        this.snapshot = transactions instanceof TransactionSnapshot view ? view : null;
         // Memberitahu JTable bahwa semua data telah berubah
         fireTableDataChanged();
     }
@@ -55,6 +61,9 @@ public class TransactionTableModel extends AbstractTableModel {
 
     @Override
     public Object getValueAt(int rowIndex, int columnIndex) {
+        if (snapshot != null) {
+            return getSnapshotValueAt(rowIndex, columnIndex);
+        }
         Transaction tx = transactions.get(rowIndex);
         switch (columnIndex) {
             case 0: return tx.getId();
@@ -67,6 +76,18 @@ public class TransactionTableModel extends AbstractTableModel {
         }
     }
 
+    private Object getSnapshotValueAt(int rowIndex, int columnIndex) {
+        switch (columnIndex) {
+            case 0: return snapshot.id(rowIndex);
+            case 1: return LocalDate.ofEpochDay(snapshot.epochDay(rowIndex)).format(dateFormatter);
+            case 2: return snapshot.description(rowIndex);
+            case 3: return snapshot.type(rowIndex).toString();
+            case 4: return snapshot.category(rowIndex).toString();
+            case 5: return String.format("%,.2f", TransactionEncoding.fromMinorUnits(snapshot.amountMinor(rowIndex)));
+            default: return null;
+        }
+    }
+
     @Override
     public Class<?> getColumnClass(int columnIndex) {
         // Kolom jumlah (Amount) diperlakukan sebagai String karena sudah diformat
@@ -0,0 +1,69 @@
+package com.financetracker.aggregate;
+
+import com.financetracker.model.Category;
+import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionStore;
+import com.financetracker.model.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DailyPrefixSumsTest {
+
+    @Test
+    void testRangeTotalsMatchColumnScans() {
+        Random random = new Random(25);
+        TransactionStore store = new TransactionStore();
+        Category[] categories = Category.values();
+        int first = (int) LocalDate.of(2024, 1, 1).toEpochDay();
+        for (int i = 0; i < 4000; i++) {
+            store.add(new Transaction("tx-" + i, LocalDate.ofEpochDay(first + (long) random.nextInt(500)), "Tx",
+                    1000 + random.nextInt(100_000), random.nextInt(4) == 0 ? TransactionType.INCOME : TransactionType.EXPENSE,
+                    categories[random.nextInt(categories.length)]));
+        }
+        for (int i = 0; i < 1000; i++) {
+            store.delete(random.nextInt(store.size()));
+        }
+
+        DailyPrefixSums sums = store.prefixSums();
+        assertSame(sums, store.prefixSums());
+        for (int round = 0; round < 200; round++) {
+            // Termasuk rentang yang melewati hari pertama/terakhir data
+            int from = first - 30 + random.nextInt(560);
+            int to = from + random.nextInt(200);
+            assertEquals(store.countRows(from, to), sums.count(from, to));
+            for (TransactionType type : TransactionType.values()) {
+                assertEquals(store.sumAmount(from, to, type), sums.sum(from, to, type));
+                assertArrayEquals(store.sumByCategory(from, to, type), sums.sumByCategory(from, to, type));
+            }
+        }
+        assertEquals(0, sums.count(first - 100, first - 1));
+        assertEquals(store.liveCount(), sums.count(Integer.MIN_VALUE, Integer.MAX_VALUE));
+
+        long[] rolling = sums.rolling(first + 100, first + 130, 7, TransactionType.EXPENSE);
+        for (int i = 0; i < rolling.length; i++) {
+            int day = first + 100 + i;
+            assertEquals(store.sumAmount(day - 6, day, TransactionType.EXPENSE), rolling[i]);
+        }
+    }
+
+    @Test
+    void testStoreRebuildsAfterMutation() {
+        TransactionStore store = new TransactionStore();
+        assertEquals(0, store.prefixSums().count(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        LocalDate day = LocalDate.of(2025, 5, 5);
+        int epochDay = (int) day.toEpochDay();
+        store.add(new Transaction("a", day, "Tx", 20_000, TransactionType.EXPENSE, Category.MAKANAN));
+        DailyPrefixSums before = store.prefixSums();
+        assertEquals(2_000_000, before.sum(epochDay, epochDay, Category.MAKANAN, TransactionType.EXPENSE));
+
+        store.add(new Transaction("b", day.plusDays(40), "Tx", 5_000, TransactionType.EXPENSE, Category.MAKANAN));
+        DailyPrefixSums after = store.prefixSums();
+        assertNotSame(before, after);
+        assertEquals(2_500_000, after.sum(epochDay, epochDay + 40, TransactionType.EXPENSE));
+        assertThrows(IllegalArgumentException.class, () -> after.rolling(epochDay, epochDay, 0, TransactionType.EXPENSE));
+    }
+}
@@ -0,0 +1,56 @@
+package com.financetracker.aggregate;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PeriodVersionsTest {
+
+    private static int day(int year, int month, int dayOfMonth) {
+        return (int) LocalDate.of(year, month, dayOfMonth).toEpochDay();
+    }
+
+    @Test
+    void testChangesAreScopedToTheirDays() {
+        PeriodVersions versions = new PeriodVersions();
+        versions.touch(day(2025, 3, 10));
+        long since = versions.current();
+
+        // Halaman baru di depan dan di belakang halaman pertama
+        versions.touch(day(2024, 1, 5));
+        versions.touch(day(2026, 12, 31));
+        versions.touch(day(1969, 12, 31)); // epoch day negatif
+
+        assertFalse(versions.changedSince(since, day(2025, 1, 1), day(2025, 12, 31)));
+        assertTrue(versions.changedSince(since, day(2024, 1, 5), day(2024, 1, 5)));
+        assertFalse(versions.changedSince(since, day(2024, 1, 6), day(2024, 3, 31)));
+        assertTrue(versions.changedSince(since, day(2026, 12, 1), day(2027, 1, 31)));
+        assertTrue(versions.changedSince(since, day(1969, 1, 1), day(1969, 12, 31)));
+        assertTrue(versions.changedSince(since, Integer.MIN_VALUE / 2, Integer.MAX_VALUE / 2));
+        assertFalse(versions.changedSince(versions.current(), Integer.MIN_VALUE / 2, Integer.MAX_VALUE / 2));
+    }
+
+    @Test
+    void testBulkTouchBumpsVersionOnceAndClearInvalidatesEverything() {
+        PeriodVersions versions = new PeriodVersions();
+        long before = versions.current();
+        int[] days = {day(2025, 1, 1), day(2025, 6, 15), day(2025, 6, 15), day(2023, 2, 28)};
+
+        versions.touchAll(days, days.length);
+
+        assertEquals(before + 1, versions.current());
+        assertTrue(versions.changedSince(before, day(2025, 6, 15), day(2025, 6, 15)));
+        assertFalse(versions.changedSince(before, day(2025, 6, 16), day(2025, 12, 31)));
+        versions.touchAll(days, 0);
+        assertEquals(before + 1, versions.current());
+
+        long afterBulk = versions.current();
+        versions.clear();
+        assertTrue(versions.changedSince(afterBulk, day(2030, 1, 1), day(2030, 1, 1)));
+        long afterClear = versions.current();
+        versions.touch(day(2025, 6, 15));
+        assertFalse(versions.changedSince(afterClear, day(2025, 1, 1), day(2025, 1, 1)));
+    }
+}
@@ -0,0 +1,122 @@
+package com.financetracker.aggregate;
+
+import com.financetracker.aggregate.RollupCube.Granularity;
+import com.financetracker.model.Category;
+import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionStore;
+import com.financetracker.model.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportAggregatorTest {
+
+    private static TransactionStore randomStore(long seed, int count) {
+        Random random = new Random(seed);
+        TransactionStore store = new TransactionStore();
+        Category[] categories = Category.values();
+        for (int i = 0; i < count; i++) {
+            store.add(new Transaction("tx-" + i, LocalDate.of(2023, 11, 1).plusDays(random.nextInt(600)), "Tx",
+                    1000 + random.nextInt(100_000), random.nextInt(4) == 0 ? TransactionType.INCOME : TransactionType.EXPENSE,
+                    categories[random.nextInt(categories.length)]));
+        }
+        for (int i = 0; i < count / 4; i++) {
+            store.delete(random.nextInt(store.size()));
+        }
+        return store;
+    }
+
+    private static void assertSameSummary(ReportSummary expected, ReportSummary actual) {
+        assertEquals(expected.count(), actual.count());
+        for (TransactionType type : TransactionType.values()) {
+            assertEquals(expected.sum(type), actual.sum(type), type.name());
+            assertArrayEquals(expected.sumByCategory(type), actual.sumByCategory(type));
+            for (Category category : Category.values()) {
+                assertEquals(expected.count(category, type), actual.count(category, type));
+            }
+        }
+        assertEquals(expected.bucketCount(), actual.bucketCount());
+        for (int b = 0; b < expected.bucketCount(); b++) {
+            for (TransactionType type : TransactionType.values()) {
+                assertEquals(expected.bucketSum(b, type), actual.bucketSum(b, type), "sub-periode " + b);
+            }
+        }
+    }
+
+    @Test
+    void testScanAndRollupAgreeOnAlignedAndUnalignedRanges() {
+        TransactionStore store = randomStore(22, 8000);
+        int[][] ranges = {
+                {(int) LocalDate.of(2024, 1, 1).toEpochDay(), (int) LocalDate.of(2024, 12, 31).toEpochDay()},
+                {(int) LocalDate.of(2024, 3, 1).toEpochDay(), (int) LocalDate.of(2024, 3, 31).toEpochDay()},
+                {(int) LocalDate.of(2023, 11, 17).toEpochDay(), (int) LocalDate.of(2025, 2, 9).toEpochDay()},
+                {(int) LocalDate.of(2024, 6, 15).toEpochDay(), (int) LocalDate.of(2024, 6, 15).toEpochDay()},
+        };
+        Granularity[] breakdowns = {null, Granularity.DAY, Granularity.MONTH, Granularity.YEAR};
+        for (int[] range : ranges) {
+            for (Granularity breakdown : breakdowns) {
+                ReportSummary scanned = ReportAggregator.scan(store, range[0], range[1], breakdown);
+                assertSameSummary(scanned, ReportAggregator.fromRollup(store.rollup(), range[0], range[1], breakdown));
+                assertSameSummary(scanned, ReportAggregator.summarize(store, range[0], range[1], breakdown));
+                assertEquals(store.countRows(range[0], range[1]), scanned.count());
+                assertEquals(store.sumAmount(range[0], range[1], TransactionType.EXPENSE),
+                        scanned.sum(TransactionType.EXPENSE));
+            }
+        }
+    }
+
+    @Test
+    void testMonthlyBreakdownMatchesColumnTotals() {
+        TransactionStore store = randomStore(7, 5000);
+        int from = (int) LocalDate.of(2024, 1, 1).toEpochDay();
+        int to = (int) LocalDate.of(2024, 12, 31).toEpochDay();
+        ReportSummary summary = ReportAggregator.summarize(store, from, to, Granularity.MONTH);
+
+        long[][] byMonth = store.sumByMonth(2024);
+        assertEquals(12, summary.bucketCount());
+        for (int m = 0; m < 12; m++) {
+            assertEquals(byMonth[0][m], summary.bucketSum(m, TransactionType.INCOME));
+            assertEquals(byMonth[1][m], summary.bucketSum(m, TransactionType.EXPENSE));
+        }
+    }
+
+    @Test
+    void testMergeOfSegmentSplitsEqualsWholeScan() {
+        TransactionStore store = randomStore(3, 20_000);
+        int from = (int) LocalDate.of(2024, 2, 10).toEpochDay();
+        int to = (int) LocalDate.of(2024, 11, 20).toEpochDay();
+        ReportSummary whole = ReportAggregator.scan(store, from, to, Granularity.MONTH);
+
+        ReportSummary left = new ReportSummary(from, to, Granularity.MONTH);
+        ReportSummary right = new ReportSummary(from, to, Granularity.MONTH);
+        int middle = store.segmentCount() / 2;
+        ReportAggregator.scanSegments(store, 0, middle, left, ReportAggregator.bucketTable(left));
+        ReportAggregator.scanSegments(store, middle, store.segmentCount(), right, ReportAggregator.bucketTable(right));
+        assertSameSummary(whole, left.merge(right));
+
+        assertThrows(IllegalArgumentException.class, () -> whole.merge(new ReportSummary(from, to, null)));
+        assertThrows(IllegalArgumentException.class, () -> new ReportSummary(to, from, null));
+    }
+
+    @Test
+    void testParallelScanMatchesSequentialScan() {
+        TransactionStore store = randomStore(23, ReportAggregator.PARALLEL_THRESHOLD + 10_000);
+        int from = (int) LocalDate.of(2024, 1, 1).toEpochDay();
+        int to = (int) LocalDate.of(2024, 12, 31).toEpochDay();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertSameSummary(ReportAggregator.scan(store, from, to, Granularity.MONTH),
+                    pool.submit(() -> ReportAggregator.parallelScan(store, from, to, Granularity.MONTH)).join());
+            // Hari tanpa transaksi: tidak lebih banyak baris dari potongan kubus, jadi summarize melintasi store
+            int day = (int) LocalDate.of(2020, 6, 15).toEpochDay();
+            assertSameSummary(ReportAggregator.scan(store, day, day, null),
+                    pool.submit(() -> ReportAggregator.summarize(store, day, day, null)).join());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.financetracker.aggregate;
+
+import com.financetracker.aggregate.RollupCube.Granularity;
+import com.financetracker.model.Category;
+import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionStore;
+import com.financetracker.model.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RollupCubeTest {
+
+    @Test
+    void testAddAndRemoveKeepAllLevelsExact() {
+        RollupCube cube = new RollupCube();
+        LocalDate jan5 = LocalDate.of(2025, 1, 5);
+        LocalDate jan31 = LocalDate.of(2025, 1, 31);
+        LocalDate feb1 = LocalDate.of(2025, 2, 1);
+        int food = Category.MAKANAN.ordinal();
+        int expense = TransactionType.EXPENSE.ordinal();
+
+        cube.add((int) jan5.toEpochDay(), food, expense, 10_000);
+        cube.add((int) jan31.toEpochDay(), food, expense, 5_000);
+        cube.add((int) jan31.toEpochDay(), Category.TRANSPORTASI.ordinal(), expense, 2_000);
+        cube.add((int) feb1.toEpochDay(), food, expense, 7_000);
+        cube.add((int) jan5.toEpochDay(), Category.GAJI.ordinal(), TransactionType.INCOME.ordinal(), 900_000);
+        cube.remove((int) jan5.toEpochDay(), food, expense, 10_000);
+
+        int january = Granularity.MONTH.bucketOf(jan5);
+        assertEquals(7_000, cube.sum(Granularity.MONTH, january, TransactionType.EXPENSE));
+        assertEquals(5_000, cube.sum(Granularity.MONTH, january, Category.MAKANAN, TransactionType.EXPENSE));
+        assertEquals(1, cube.count(Granularity.MONTH, january, Category.MAKANAN, TransactionType.EXPENSE));
+        assertEquals(3, cube.count(Granularity.MONTH, january));
+        assertEquals(900_000, cube.sum(Granularity.DAY, (int) jan5.toEpochDay(), TransactionType.INCOME));
+        assertEquals(0, cube.sum(Granularity.DAY, (int) jan5.toEpochDay(), TransactionType.EXPENSE));
+        assertEquals(1, cube.count(Granularity.DAY, (int) jan5.toEpochDay()));
+        assertEquals(14_000, cube.sum(Granularity.YEAR, 2025, TransactionType.EXPENSE));
+        assertEquals(0, cube.count(Granularity.YEAR, 2024));
+        assertEquals(2_000, cube.sumByCategory(Granularity.MONTH, january, TransactionType.EXPENSE)
+                [Category.TRANSPORTASI.ordinal()]);
+        assertEquals(january + 1, Granularity.MONTH.bucketOf(feb1));
+    }
+
+    @Test
+    void testStoreCubeMatchesRangeScanAfterDeletes() {
+        Random random = new Random(20);
+        TransactionStore store = new TransactionStore();
+        Category[] categories = Category.values();
+        for (int i = 0; i < 5000; i++) {
+            store.add(new Transaction("tx-" + i, LocalDate.of(2024, 1, 1).plusDays(random.nextInt(400)), "Tx",
+                    1000 + random.nextInt(100_000), random.nextInt(5) == 0 ? TransactionType.INCOME : TransactionType.EXPENSE,
+                    categories[random.nextInt(categories.length)]));
+        }
+        for (int i = 0; i < 1500; i++) {
+            store.delete(random.nextInt(store.size()));
+        }
+
+        RollupCube cube = store.rollup();
+        for (YearMonth month = YearMonth.of(2024, 1); !month.isAfter(YearMonth.of(2025, 2)); month = month.plusMonths(1)) {
+            int from = (int) month.atDay(1).toEpochDay();
+            int to = (int) month.atEndOfMonth().toEpochDay();
+            int bucket = Granularity.MONTH.bucketOf(month.atDay(1));
+            assertEquals(store.countRows(from, to), cube.count(Granularity.MONTH, bucket));
+            for (TransactionType type : TransactionType.values()) {
+                assertEquals(store.sumAmount(from, to, type), cube.sum(Granularity.MONTH, bucket, type), month + " " + type);
+                assertArrayEquals(store.sumByCategory(from, to, type), cube.sumByCategory(Granularity.MONTH, bucket, type));
+            }
+        }
+        int day = (int) LocalDate.of(2024, 6, 15).toEpochDay();
+        assertEquals(store.sumAmount(day, day, TransactionType.EXPENSE), cube.sum(Granularity.DAY, day, TransactionType.EXPENSE));
+        long[][] byMonth = store.sumByMonth(2024);
+        long yearExpense = 0;
+        for (long amount : byMonth[1]) yearExpense += amount;
+        assertEquals(yearExpense, cube.sum(Granularity.YEAR, 2024, TransactionType.EXPENSE));
+    }
+}
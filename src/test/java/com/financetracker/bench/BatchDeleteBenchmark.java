@@ -0,0 +1,84 @@
+package com.financetracker.bench;
+
+import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionStore;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Penghapusan k transaksi dari list n transaksi: cara lama (scan id + {@code iterator.remove}
+ * per transaksi) vs indeks hash id {@link TransactionStore#findRow(String)} dan satu
+ * lintasan {@code removeIf}. Juga mengukur biaya satu lookup id.
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.financetracker.bench.BatchDeleteBenchmark -Dexec.args="1000000"
+ * </pre>
+ */
+@SuppressWarnings("java:S106")
+public class BatchDeleteBenchmark {
+
+    private static final int LOOKUPS = 1_000_000;
+    private static final int[] BATCHES = {10, 100, 1000};
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        List<Transaction> source = DurabilityBenchmark.BenchData.transactions(count, 18);
+        Random random = new Random(18);
+
+        long start = System.nanoTime();
+        TransactionStore store = TransactionStore.of(source);
+        System.out.printf("%,d transaksi, bangun store + indeks %.0f ms%n", count, (System.nanoTime() - start) / 1e6);
+
+        String[] probes = new String[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            probes[i] = source.get(random.nextInt(count)).getId();
+        }
+        long checksum = 0;
+        for (int round = 0; round < 3; round++) {
+            start = System.nanoTime();
+            for (String id : probes) checksum += store.findRow(id);
+            if (round == 2) {
+                System.out.printf("findRow: %.0f ns/lookup (checksum %d)%n",
+                        (System.nanoTime() - start) / (double) LOOKUPS, checksum);
+            }
+        }
+
+        for (int k : BATCHES) {
+            List<String> ids = new ArrayList<>(k);
+            for (int i = 0; i < k; i++) {
+                ids.add(source.get(random.nextInt(count)).getId());
+            }
+
+            List<Transaction> list = new ArrayList<>(source);
+            start = System.nanoTime();
+            for (String id : ids) {
+                Iterator<Transaction> iterator = list.iterator();
+                while (iterator.hasNext()) {
+                    if (iterator.next().getId().equals(id)) iterator.remove();
+                }
+            }
+            long linear = System.nanoTime() - start;
+            int linearSize = list.size();
+
+            list = new ArrayList<>(source);
+            start = System.nanoTime();
+            Set<Transaction> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (String id : ids) {
+                int row = store.findRow(id);
+                if (row >= 0) removed.add(source.get(row));
+            }
+            list.removeIf(removed::contains);
+            long batched = System.nanoTime() - start;
+
+            System.out.printf("hapus %,5d: per id %9.1f ms, batch %7.1f ms (sisa %,d / %,d)%n",
+                    k, linear / 1e6, batched / 1e6, linearSize, list.size());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.financetracker.bench;
+
+import com.financetracker.index.RowBitmap;
+import com.financetracker.model.Category;
+import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionStore;
+import com.financetracker.model.TransactionType;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Bitmap kategori/tipe: hitung "pengeluaran MAKANAN" dan laporan per kategori satu bulan,
+ * dibandingkan dengan stream atas {@code List<Transaction>} dan scan kolom penuh.
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.financetracker.bench.BitmapIndexBenchmark -Dexec.args="1000000"
+ * </pre>
+ */
+@SuppressWarnings("java:S106")
+public class BitmapIndexBenchmark {
+
+    private static final int ROUNDS = 20;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        List<Transaction> list = DurabilityBenchmark.BenchData.transactions(count, 11);
+        TransactionStore store = TransactionStore.of(list);
+
+        LocalDate first = LocalDate.of(2022, 3, 1);
+        LocalDate last = first.withDayOfMonth(first.lengthOfMonth());
+        int fromDay = (int) first.toEpochDay();
+        int toDay = (int) last.toEpochDay();
+
+        long bestStreamCount = Long.MAX_VALUE;
+        long bestBitmapCount = Long.MAX_VALUE;
+        long bestScanMonth = Long.MAX_VALUE;
+        long bestBitmapMonth = Long.MAX_VALUE;
+        long streamCount = 0;
+        int bitmapCount = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            streamCount = list.stream()
+                    .filter(t -> t.getCategory() == Category.MAKANAN && t.getType() == TransactionType.EXPENSE)
+                    .count();
+            bestStreamCount = Math.min(bestStreamCount, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            bitmapCount = store.categoryRows(Category.MAKANAN).andCardinality(store.typeRows(TransactionType.EXPENSE));
+            bestBitmapCount = Math.min(bestBitmapCount, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            long[] scanned = store.sumByCategory(fromDay, toDay, TransactionType.EXPENSE);
+            bestScanMonth = Math.min(bestScanMonth, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            RowBitmap expenseRows = store.rowsInRange(fromDay, toDay).and(store.typeRows(TransactionType.EXPENSE));
+            long[] viaBitmap = store.sumByCategory(expenseRows);
+            bestBitmapMonth = Math.min(bestBitmapMonth, System.nanoTime() - start);
+            if (scanned[0] != viaBitmap[0]) throw new IllegalStateException("Hasil berbeda");
+        }
+
+        System.out.printf("%,d transaksi, terbaik dari %d putaran%n", count, ROUNDS);
+        System.out.printf("Hitung MAKANAN+EXPENSE  stream: %8.3f ms  popcount bitmap: %8.3f ms  (%,d / %,d)%n",
+                bestStreamCount / 1e6, bestBitmapCount / 1e6, streamCount, bitmapCount);
+        System.out.printf("Per kategori 1 bulan    scan kolom: %8.3f ms  bitmap: %8.3f ms%n",
+                bestScanMonth / 1e6, bestBitmapMonth / 1e6);
+    }
+}
@@ -0,0 +1,71 @@
+package com.financetracker.bench;
+
+import com.financetracker.index.DateIndex;
+import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionStore;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Filter rentang satu minggu: stream linear atas {@code List<Transaction>} (cara lama
+ * {@code filterTransactions}) vs {@link DateIndex}.
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.financetracker.bench.DateIndexBenchmark -Dexec.args="1000000"
+ * </pre>
+ */
+@SuppressWarnings("java:S106")
+public class DateIndexBenchmark {
+
+    private static final int ROUNDS = 20;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        List<Transaction> list = DurabilityBenchmark.BenchData.transactions(count, 7);
+        TransactionStore store = new TransactionStore();
+        List<Transaction> byRow = new ArrayList<>(count);
+        DateIndex index = new DateIndex();
+
+        int[] days = new int[count];
+        int[] rows = new int[count];
+        for (int i = 0; i < count; i++) {
+            rows[i] = store.add(list.get(i));
+            days[i] = store.epochDay(rows[i]);
+            byRow.add(list.get(i));
+        }
+        long start = System.nanoTime();
+        index.addAll(days, rows, count);
+        System.out.printf("%,d transaksi, bangun indeks %.1f ms%n", count, (System.nanoTime() - start) / 1e6);
+
+        LocalDate from = LocalDate.of(2021, 6, 1);
+        LocalDate to = from.plusDays(6);
+        int fromDay = (int) from.toEpochDay();
+        int toDay = (int) to.toEpochDay();
+
+        long bestScan = Long.MAX_VALUE;
+        long bestIndex = Long.MAX_VALUE;
+        int scanHits = 0;
+        int indexHits = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            start = System.nanoTime();
+            scanHits = list.stream()
+                    .filter(tx -> !tx.getDate().isBefore(from))
+                    .filter(tx -> !tx.getDate().isAfter(to))
+                    .toList().size();
+            bestScan = Math.min(bestScan, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            List<Transaction> result = new ArrayList<>(index.count(fromDay, toDay));
+            index.forEachInRange(fromDay, toDay, row -> result.add(byRow.get(row)));
+            indexHits = result.size();
+            bestIndex = Math.min(bestIndex, System.nanoTime() - start);
+        }
+
+        System.out.printf("Filter 1 minggu (%,d hasil), terbaik dari %d putaran%n", indexHits, ROUNDS);
+        System.out.printf("Scan linear : %9.3f ms (%,d hasil)%n", bestScan / 1e6, scanHits);
+        System.out.printf("DateIndex   : %9.3f ms%n", bestIndex / 1e6);
+    }
+}
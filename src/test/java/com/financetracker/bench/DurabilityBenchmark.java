@@ -0,0 +1,167 @@
+package com.financetracker.bench;
+
+import com.financetracker.model.Category;
+import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionType;
+import com.financetracker.storage.ColumnarStorageBackend;
+import com.financetracker.storage.DurabilityMode;
+import com.financetracker.storage.JsonStorageBackend;
+import com.financetracker.storage.StorageBackend;
+import com.financetracker.storage.TransactionJournal;
+import com.financetracker.storage.WriteBehindPersister;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark latensi dan throughput tiap tingkat durabilitas.
+ *
+ * Menjalankan:
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.financetracker.bench.DurabilityBenchmark \
+ *     -Dexec.args="200000 2000 4"
+ * </pre>
+ * Argumen: jumlah transaksi di ledger, jumlah mutasi yang diukur, jumlah thread pengirim.
+ */
+@SuppressWarnings("java:S106")
+public class DurabilityBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int ledgerSize = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int mutations = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+
+        Path dir = Files.createTempDirectory("ft-bench");
+        try {
+            List<Transaction> ledger = BenchData.transactions(ledgerSize, 42);
+
+            System.out.printf("Ledger: %,d transaksi, %,d mutasi, %d thread%n%n", ledgerSize, mutations, threads);
+            System.out.println("== Snapshot penuh (atomik: tmp + fsync + rename) ==");
+            benchmarkSnapshot(new JsonStorageBackend(dir.resolve("transactions.json")), ledger);
+            benchmarkSnapshot(new ColumnarStorageBackend(dir.resolve("transactions.col")), ledger);
+
+            System.out.println();
+            System.out.println("== Append journal per mode durabilitas ==");
+            System.out.printf("%-13s %12s %12s %12s %12s %9s%n",
+                    "mode", "p50 (us)", "p99 (us)", "max (us)", "ops/s", "fsync");
+            for (DurabilityMode mode : DurabilityMode.values()) {
+                benchmarkJournal(dir, mode, mutations, threads);
+            }
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+
+    private static void benchmarkSnapshot(StorageBackend backend, List<Transaction> ledger) throws IOException {
+        backend.save(ledger); // pemanasan
+        long start = System.nanoTime();
+        backend.save(ledger);
+        long saveNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        long loaded = backend.stream(tx -> true, (c, b, t) -> { });
+        long loadNanos = System.nanoTime() - start;
+
+        System.out.printf("%-9s simpan %8.1f ms | muat %8.1f ms | %,d byte (%d transaksi)%n",
+                backend.getName(), saveNanos / 1e6, loadNanos / 1e6, Files.size(backend.getPath()), loaded);
+    }
+
+    private static void benchmarkJournal(Path dir, DurabilityMode mode, int mutations, int threads)
+            throws Exception {
+        Path file = dir.resolve("journal-" + mode.name().toLowerCase() + ".log");
+        TransactionJournal journal = new TransactionJournal(file);
+        AtomicInteger fsyncs = new AtomicInteger();
+        WriteBehindPersister persister = new WriteBehindPersister((batch, force) -> {
+            journal.append(batch, force);
+            if (force) fsyncs.incrementAndGet();
+        }, mode, 5, 50);
+
+        List<Transaction> rows = BenchData.transactions(mutations, 7);
+        long[] latencies = new long[mutations];
+        AtomicInteger next = new AtomicInteger();
+
+        long start = System.nanoTime();
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                int i;
+                while ((i = next.getAndIncrement()) < mutations) {
+                    long s = System.nanoTime();
+                    try {
+                        persister.submit(TransactionJournal.Entry.add(rows.get(i)));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    latencies[i] = System.nanoTime() - s;
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) worker.join();
+        persister.flush();
+        long elapsed = System.nanoTime() - start;
+        persister.close();
+
+        Arrays.sort(latencies);
+        System.out.printf("%-13s %12.1f %12.1f %12.1f %,12.0f %9d%n", mode,
+                latencies[mutations / 2] / 1e3,
+                latencies[(int) (mutations * 0.99)] / 1e3,
+                latencies[mutations - 1] / 1e3,
+                mutations / (elapsed / 1e9),
+                fsyncs.get());
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(p -> {
+                try {
+                    Files.delete(p);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Data sintetis yang deterministik untuk benchmark.
+     */
+    static final class BenchData {
+        private static final String[] DESCRIPTIONS = {
+            "makan siang", "bensin", "kopi", "gaji", "listrik", "pulsa", "belanja mingguan", "parkir"
+        };
+
+        private BenchData() {
+        }
+
+        static List<Transaction> transactions(int count, long seed) {
+            java.util.Random random = new java.util.Random(seed);
+            LocalDate start = LocalDate.of(2015, 1, 1);
+            Category[] categories = Category.values();
+            List<Transaction> rows = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                boolean income = random.nextInt(10) == 0;
+                rows.add(new Transaction(
+                        new UUID(random.nextLong(), random.nextLong()).toString(),
+                        start.plusDays(random.nextInt(3650)),
+                        DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)],
+                        1000 + random.nextInt(500_000),
+                        income ? TransactionType.INCOME : TransactionType.EXPENSE,
+                        categories[random.nextInt(categories.length)]));
+            }
+            return rows;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.financetracker.bench;
+
+import com.financetracker.factory.IdGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Throughput pembuatan id: UUID acak (SecureRandom) vs {@link com.financetracker.factory.TimeOrderedIdGenerator},
+ * dengan 1..N thread yang membuat id bersamaan.
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.financetracker.bench.IdGeneratorBenchmark -Dexec.args="2000000 4"
+ * </pre>
+ */
+@SuppressWarnings("java:S106")
+public class IdGeneratorBenchmark {
+
+    public static void main(String[] args) throws InterruptedException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int maxThreads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        System.out.printf("%,d id per putaran, %d core%n", count, Runtime.getRuntime().availableProcessors());
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            // Putaran pertama sebagai pemanasan JIT
+            run(IdGenerator.randomUuid(), count, threads);
+            double random = run(IdGenerator.randomUuid(), count, threads);
+            run(IdGenerator.timeOrdered(), count, threads);
+            double ordered = run(IdGenerator.timeOrdered(), count, threads);
+            System.out.printf("%d thread: UUID acak %,6.2f juta id/detik, urut waktu %,6.2f juta id/detik%n",
+                    threads, random / 1e6, ordered / 1e6);
+        }
+    }
+
+    private static double run(IdGenerator generator, int count, int threads) throws InterruptedException {
+        int perThread = count / threads;
+        List<Thread> workers = new ArrayList<>();
+        long[] sink = new long[threads];
+        for (int t = 0; t < threads; t++) {
+            int index = t;
+            workers.add(new Thread(() -> {
+                long hash = 0;
+                for (int i = 0; i < perThread; i++) hash += generator.nextId().hashCode();
+                sink[index] = hash;
+            }));
+        }
+        long start = System.nanoTime();
+        for (Thread worker : workers) worker.start();
+        for (Thread worker : workers) worker.join();
+        long elapsed = System.nanoTime() - start;
+        return (double) perThread * threads / (elapsed / 1e9);
+    }
+}
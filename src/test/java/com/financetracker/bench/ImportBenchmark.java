@@ -0,0 +1,75 @@
+package com.financetracker.bench;
+
+import com.financetracker.importer.ImportResult;
+import com.financetracker.importer.TransactionImporter;
+import com.financetracker.model.Transaction;
+import com.financetracker.storage.TransactionJournal;
+
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark impor CSV: parsing serial vs paralel, lalu commit satu batch
+ * dibanding commit per baris (seperti jalur addTransaction).
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.financetracker.bench.ImportBenchmark -Dexec.args="100000"
+ * </pre>
+ */
+@SuppressWarnings("java:S106")
+public class ImportBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        List<Transaction> source = DurabilityBenchmark.BenchData.transactions(rows, 11);
+
+        StringBuilder csv = new StringBuilder("date,description,amount,type,category\n");
+        for (Transaction tx : source) {
+            csv.append(tx.getDate()).append(",\"").append(tx.getDescription()).append("\",")
+               .append(tx.getAmount()).append(',').append(tx.getType().name()).append(',')
+               .append(tx.getCategory().name()).append('\n');
+        }
+        String text = csv.toString();
+        System.out.printf("CSV: %,d baris, %,d karakter%n%n", rows, text.length());
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        ImportResult result = null;
+        for (int parallelism : new int[] {1, cores}) {
+            new TransactionImporter(parallelism).parse(new StringReader(text)); // pemanasan
+            long start = System.nanoTime();
+            result = new TransactionImporter(parallelism).parse(new StringReader(text));
+            long nanos = System.nanoTime() - start;
+            System.out.printf("parse  %2d thread : %8.1f ms (%,.0f baris/detik, %d error)%n",
+                    parallelism, nanos / 1e6, rows / (nanos / 1e9), result.getErrors().size());
+        }
+
+        Path dir = Files.createTempDirectory("ft-import");
+        try {
+            List<TransactionJournal.Entry> batch = new ArrayList<>();
+            for (Transaction tx : result.getTransactions()) batch.add(TransactionJournal.Entry.add(tx));
+
+            TransactionJournal single = new TransactionJournal(dir.resolve("batch.journal"));
+            long start = System.nanoTime();
+            single.append(batch, true);
+            long batchNanos = System.nanoTime() - start;
+            System.out.printf("%ncommit satu batch  : %8.1f ms%n", batchNanos / 1e6);
+
+            // Per baris: satu append + fsync per transaksi, diukur pada sampel lalu diekstrapolasi
+            int sample = Math.min(2_000, batch.size());
+            TransactionJournal perRow = new TransactionJournal(dir.resolve("row.journal"));
+            start = System.nanoTime();
+            for (int i = 0; i < sample; i++) perRow.append(List.of(batch.get(i)), true);
+            long perRowNanos = (System.nanoTime() - start) / sample * batch.size();
+            System.out.printf("commit per baris   : %8.1f ms (ekstrapolasi dari %,d baris)%n",
+                    perRowNanos / 1e6, sample);
+        } finally {
+            try (var paths = Files.walk(dir)) {
+                paths.sorted(java.util.Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.financetracker.bench;
+
+import com.financetracker.aggregate.ReportAggregator;
+import com.financetracker.aggregate.ReportSummary;
+import com.financetracker.aggregate.RollupCube;
+import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionStore;
+import com.financetracker.model.TransactionType;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Lintasan agregasi seluruh riwayat (10 tahun, rincian per bulan): {@link ReportAggregator#scan}
+ * sekuensial vs {@link ReportAggregator#parallelScan} di {@link ForkJoinPool} berukuran 1..N.
+ * Store diisi per potongan 1 juta baris ({@link TransactionStore#addAll}) agar daftar
+ * {@code Transaction} tidak ditahan seluruhnya.
+ *
+ * Hasil yang ada baru dari mesin satu core (hanya menunjukkan overhead fork/merge), karena
+ * itu laporan paralel belum aktif default ({@code financetracker.reportParallelism}).
+ * Jalankan di mesin multi-core sebelum mengubah default tersebut.
+ *
+ * <pre>
+ * MAVEN_OPTS=-Xmx4g mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.financetracker.bench.ParallelReportBenchmark -Dexec.args="10000000 8"
+ * </pre>
+ */
+@SuppressWarnings("java:S106")
+public class ParallelReportBenchmark {
+
+    private static final int ROUNDS = 10;
+    private static final int CHUNK = 1_000_000;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        int maxParallelism = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        long start = System.nanoTime();
+        TransactionStore store = new TransactionStore();
+        for (int offset = 0; offset < count; offset += CHUNK) {
+            List<Transaction> chunk = DurabilityBenchmark.BenchData.transactions(Math.min(CHUNK, count - offset), offset);
+            store.addAll(chunk);
+        }
+        System.out.printf("%,d transaksi, %d segmen, bangun store %.1f s, %d core%n", count, store.segmentCount(),
+                (System.nanoTime() - start) / 1e9, Runtime.getRuntime().availableProcessors());
+
+        int fromDay = (int) LocalDate.of(2015, 1, 1).toEpochDay();
+        int toDay = (int) LocalDate.of(2024, 12, 31).toEpochDay();
+        long sequential = Long.MAX_VALUE;
+        long expected = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            start = System.nanoTime();
+            expected = ReportAggregator.scan(store, fromDay, toDay, RollupCube.Granularity.MONTH)
+                    .sum(TransactionType.EXPENSE);
+            sequential = Math.min(sequential, System.nanoTime() - start);
+        }
+        System.out.printf("sekuensial: %.1f ms%n", sequential / 1e6);
+
+        for (int parallelism = 1; parallelism <= maxParallelism; parallelism *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            long best = Long.MAX_VALUE;
+            ReportSummary summary = null;
+            for (int round = 0; round < ROUNDS; round++) {
+                start = System.nanoTime();
+                summary = pool.submit(() -> ReportAggregator.parallelScan(store, fromDay, toDay,
+                        RollupCube.Granularity.MONTH)).join();
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            pool.shutdown();
+            if (summary.sum(TransactionType.EXPENSE) != expected) {
+                throw new IllegalStateException("Hasil paralel berbeda dari sekuensial");
+            }
+            System.out.printf("paralel %d thread: %.1f ms (%.2fx)%n", parallelism, best / 1e6, (double) sequential / best);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.financetracker.bench;
+
+import com.financetracker.aggregate.DailyPrefixSums;
+import com.financetracker.aggregate.ReportAggregator;
+import com.financetracker.model.TransactionStore;
+import com.financetracker.model.TransactionType;
+
+import java.time.LocalDate;
+
+/**
+ * Total rentang tanggal bebas: scan kolom vs potongan kubus ({@link ReportAggregator#summarize})
+ * vs {@link DailyPrefixSums} untuk rentang 7 hari sampai 10 tahun, dan tren 30 hari bergulir
+ * sepanjang satu tahun (365 titik): satu ringkasan kubus per titik vs {@link DailyPrefixSums#rolling}.
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.financetracker.bench.PrefixSumBenchmark -Dexec.args="1000000"
+ * </pre>
+ */
+@SuppressWarnings("java:S106")
+public class PrefixSumBenchmark {
+
+    private static final int ROUNDS = 30;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        TransactionStore store = TransactionStore.of(DurabilityBenchmark.BenchData.transactions(count, 25));
+
+        long start = System.nanoTime();
+        DailyPrefixSums sums = store.prefixSums();
+        System.out.printf("%,d transaksi, bangun jumlah kumulatif %.2f ms%n", count, (System.nanoTime() - start) / 1e6);
+
+        int end = (int) LocalDate.of(2024, 11, 17).toEpochDay();
+        for (int length : new int[]{7, 90, 400, 3650}) {
+            int from = end - length + 1;
+            long bestScan = Long.MAX_VALUE;
+            long bestCube = Long.MAX_VALUE;
+            long bestPrefix = Long.MAX_VALUE;
+            long scan = 0;
+            long cube = 0;
+            long prefix = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                start = System.nanoTime();
+                scan = store.sumAmount(from, end, TransactionType.EXPENSE);
+                bestScan = Math.min(bestScan, System.nanoTime() - start);
+                start = System.nanoTime();
+                cube = ReportAggregator.summarize(store, from, end, null).sum(TransactionType.EXPENSE);
+                bestCube = Math.min(bestCube, System.nanoTime() - start);
+                start = System.nanoTime();
+                prefix = sums.sum(from, end, TransactionType.EXPENSE);
+                bestPrefix = Math.min(bestPrefix, System.nanoTime() - start);
+            }
+            if (scan != cube || scan != prefix) throw new IllegalStateException("Total berbeda");
+            System.out.printf("rentang %4d hari: scan kolom %.3f ms, kubus %.1f us, jumlah kumulatif %.2f us%n",
+                    length, bestScan / 1e6, bestCube / 1e3, bestPrefix / 1e3);
+        }
+
+        int from = end - 364;
+        long bestPerPoint = Long.MAX_VALUE;
+        long bestRolling = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            start = System.nanoTime();
+            long[] naive = new long[365];
+            for (int i = 0; i < naive.length; i++) {
+                naive[i] = ReportAggregator.summarize(store, from + i - 29, from + i, null).sum(TransactionType.EXPENSE);
+            }
+            bestPerPoint = Math.min(bestPerPoint, System.nanoTime() - start);
+            start = System.nanoTime();
+            long[] rolling = sums.rolling(from, end, 30, TransactionType.EXPENSE);
+            bestRolling = Math.min(bestRolling, System.nanoTime() - start);
+            if (naive[364] != rolling[364]) throw new IllegalStateException("Tren berbeda");
+        }
+        System.out.printf("tren 30 hari bergulir x 365 titik: kubus per titik %.2f ms, jumlah kumulatif %.1f us%n",
+                bestPerPoint / 1e6, bestRolling / 1e3);
+    }
+}
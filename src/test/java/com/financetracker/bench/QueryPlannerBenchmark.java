@@ -0,0 +1,86 @@
+package com.financetracker.bench;
+
+import com.financetracker.model.Category;
+import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionStore;
+import com.financetracker.model.TransactionType;
+import com.financetracker.service.QueryPlan;
+import com.financetracker.service.QueryPlanner;
+import com.financetracker.service.TransactionQuery;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Kueri gabungan: filter + sort + limit dengan stream atas {@code List<Transaction>} vs
+ * {@link QueryPlanner} atas indeks {@link TransactionStore}.
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.financetracker.bench.QueryPlannerBenchmark -Dexec.args="1000000"
+ * </pre>
+ */
+@SuppressWarnings("java:S106")
+public class QueryPlannerBenchmark {
+
+    private static final int ROUNDS = 20;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        List<Transaction> list = DurabilityBenchmark.BenchData.transactions(count, 17);
+        TransactionStore store = TransactionStore.of(list);
+        LocalDate last = list.stream().map(Transaction::getDate).max(Comparator.naturalOrder()).orElseThrow();
+        String word = list.get(0).getDescription().split(" ")[0].toLowerCase(Locale.ROOT);
+        System.out.printf("%,d transaksi, kata uji \"%s\"%n", count, word);
+
+        LocalDate weekStart = last.minusDays(6);
+        run("7 hari terakhir, pengeluaran, 20 terbaru", list, store,
+                TransactionQuery.all().withType(TransactionType.EXPENSE).withDateRange(weekStart, last)
+                        .sortedBy(TransactionQuery.Sort.DATE_DESC).limit(20),
+                tx -> tx.getType() == TransactionType.EXPENSE && !tx.getDate().isBefore(weekStart),
+                Comparator.comparing(Transaction::getDate).reversed(), 20);
+
+        run("20 pengeluaran terbaru (tanpa rentang)", list, store,
+                TransactionQuery.all().withType(TransactionType.EXPENSE)
+                        .sortedBy(TransactionQuery.Sort.DATE_DESC).limit(20),
+                tx -> tx.getType() == TransactionType.EXPENSE,
+                Comparator.comparing(Transaction::getDate).reversed(), 20);
+
+        run("kategori HIBURAN, jumlah >= 400rb, 10 terbesar", list, store,
+                TransactionQuery.all().withCategory(Category.HIBURAN).withAmountRange(400_000.0, null)
+                        .sortedBy(TransactionQuery.Sort.AMOUNT_DESC).limit(10),
+                tx -> tx.getCategory() == Category.HIBURAN && tx.getAmount() >= 400_000,
+                Comparator.comparingDouble(Transaction::getAmount).reversed(), 10);
+
+        run("teks + kategori MAKANAN", list, store,
+                TransactionQuery.all().withText(word).withCategory(Category.MAKANAN),
+                tx -> tx.getCategory() == Category.MAKANAN
+                        && tx.getDescription().toLowerCase(Locale.ROOT).contains(word),
+                Comparator.comparing(Transaction::getDate), Integer.MAX_VALUE);
+    }
+
+    private static void run(String label, List<Transaction> list, TransactionStore store, TransactionQuery query,
+                            Predicate<Transaction> filter, Comparator<Transaction> order, int limit) {
+        long bestStream = Long.MAX_VALUE;
+        long bestPlanner = Long.MAX_VALUE;
+        int streamHits = 0;
+        int plannerHits = 0;
+        QueryPlan plan = null;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            streamHits = list.stream().filter(filter).sorted(order).limit(limit).collect(Collectors.toList()).size();
+            bestStream = Math.min(bestStream, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            plan = QueryPlanner.plan(query, store);
+            plannerHits = plan.execute().length;
+            bestPlanner = Math.min(bestPlanner, System.nanoTime() - start);
+        }
+        System.out.printf("%-46s stream %8.2f ms, planner %7.3f ms (%s, %,d / %,d hasil)%n",
+                label, bestStream / 1e6, bestPlanner / 1e6, plan.getAccess(), streamHits, plannerHits);
+    }
+}
@@ -0,0 +1,94 @@
+package com.financetracker.bench;
+
+import com.financetracker.aggregate.ReportAggregator;
+import com.financetracker.aggregate.ReportSummary;
+import com.financetracker.aggregate.RollupCube;
+import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionStore;
+import com.financetracker.model.TransactionType;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Angka laporan tahunan (total pemasukan/pengeluaran, pengeluaran per kategori, rincian per bulan):
+ * - multi-pass stream/{@code groupingBy} atas {@code List<Transaction>} (cara lama, satu lintasan per angka);
+ * - multi-pass scan kolom store ({@code sumAmount}, {@code sumByCategory}, {@code sumByMonth});
+ * - {@link ReportAggregator#scan}: satu lintasan fused;
+ * - {@link ReportAggregator#summarize}: potongan kubus rollup (tahun tidak rata dan rata).
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.financetracker.bench.ReportAggregatorBenchmark -Dexec.args="1000000"
+ * </pre>
+ */
+@SuppressWarnings("java:S106")
+public class ReportAggregatorBenchmark {
+
+    private static final int ROUNDS = 30;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        List<Transaction> list = DurabilityBenchmark.BenchData.transactions(count, 22);
+        TransactionStore store = TransactionStore.of(list);
+        int year = 2020;
+        int fromDay = (int) LocalDate.of(year, 1, 1).toEpochDay();
+        int toDay = (int) LocalDate.of(year, 12, 31).toEpochDay();
+        System.out.printf("%,d transaksi, laporan tahun %d (%,d baris)%n", count, year, store.countRows(fromDay, toDay));
+
+        long bestStreams = Long.MAX_VALUE;
+        long bestColumns = Long.MAX_VALUE;
+        long bestFused = Long.MAX_VALUE;
+        long bestCube = Long.MAX_VALUE;
+        long bestUnaligned = Long.MAX_VALUE;
+        double streamExpense = 0;
+        long fusedExpense = 0;
+        long cubeExpense = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            double income = list.stream()
+                    .filter(tx -> tx.getDate().getYear() == year && tx.getType() == TransactionType.INCOME)
+                    .mapToDouble(Transaction::getAmount).sum();
+            streamExpense = list.stream()
+                    .filter(tx -> tx.getDate().getYear() == year && tx.getType() == TransactionType.EXPENSE)
+                    .mapToDouble(Transaction::getAmount).sum();
+            Map<Object, Double> byCategory = list.stream()
+                    .filter(tx -> tx.getDate().getYear() == year && tx.getType() == TransactionType.EXPENSE)
+                    .collect(Collectors.groupingBy(Transaction::getCategory, Collectors.summingDouble(Transaction::getAmount)));
+            Map<TransactionType, Map<Integer, Double>> byMonth = list.stream()
+                    .filter(tx -> tx.getDate().getYear() == year)
+                    .collect(Collectors.groupingBy(Transaction::getType,
+                            Collectors.groupingBy(tx -> tx.getDate().getMonthValue(),
+                                    Collectors.summingDouble(Transaction::getAmount))));
+            bestStreams = Math.min(bestStreams, System.nanoTime() - start);
+            if (income < 0 || byCategory.isEmpty() || byMonth.isEmpty()) throw new IllegalStateException();
+
+            start = System.nanoTime();
+            store.sumAmount(fromDay, toDay, TransactionType.INCOME);
+            store.sumAmount(fromDay, toDay, TransactionType.EXPENSE);
+            store.sumByCategory(fromDay, toDay, TransactionType.EXPENSE);
+            store.sumByMonth(year);
+            bestColumns = Math.min(bestColumns, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            ReportSummary fused = ReportAggregator.scan(store, fromDay, toDay, RollupCube.Granularity.MONTH);
+            bestFused = Math.min(bestFused, System.nanoTime() - start);
+            fusedExpense = fused.sum(TransactionType.EXPENSE);
+
+            start = System.nanoTime();
+            ReportSummary cube = ReportAggregator.summarize(store, fromDay, toDay, RollupCube.Granularity.MONTH);
+            bestCube = Math.min(bestCube, System.nanoTime() - start);
+            cubeExpense = cube.sum(TransactionType.EXPENSE);
+
+            start = System.nanoTime();
+            ReportAggregator.summarize(store, fromDay + 17, toDay + 40, RollupCube.Granularity.MONTH);
+            bestUnaligned = Math.min(bestUnaligned, System.nanoTime() - start);
+        }
+        System.out.printf("multi-pass stream %.2f ms, multi-pass kolom %.2f ms, fused %.2f ms, kubus %.3f ms, "
+                        + "kubus rentang tidak rata %.3f ms%n",
+                bestStreams / 1e6, bestColumns / 1e6, bestFused / 1e6, bestCube / 1e6, bestUnaligned / 1e6);
+        System.out.printf("pengeluaran: stream %.0f, fused %d sen, kubus %d sen%n", streamExpense, fusedExpense, cubeExpense);
+    }
+}
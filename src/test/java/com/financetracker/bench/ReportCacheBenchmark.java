@@ -0,0 +1,82 @@
+package com.financetracker.bench;
+
+import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionStore;
+import com.financetracker.patterns.strategy.DailyReportStrategy;
+import com.financetracker.patterns.strategy.ReportStrategy;
+import com.financetracker.patterns.strategy.YearlyReportStrategy;
+import com.financetracker.service.ReportService;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cache laporan {@link ReportService}: laporan dibuat ulang setiap klik vs hit cache, dan
+ * hit setelah mutasi di luar periode (tidak membatalkan) vs di dalam periode (dibuat ulang).
+ * Riwayat 10 tahun yang berakhir hari ini.
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.financetracker.bench.ReportCacheBenchmark -Dexec.args="1000000"
+ * </pre>
+ */
+@SuppressWarnings("java:S106")
+public class ReportCacheBenchmark {
+
+    private static final int ROUNDS = 200;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        LocalDate today = LocalDate.now();
+        int shift = (int) (today.toEpochDay() - LocalDate.of(2024, 12, 31).toEpochDay());
+        List<Transaction> rows = DurabilityBenchmark.BenchData.transactions(count, 24);
+        TransactionStore store = new TransactionStore();
+        for (int offset = 0; offset < rows.size(); offset += 100_000) {
+            List<Transaction> shifted = new ArrayList<>(100_000);
+            for (Transaction tx : rows.subList(offset, Math.min(offset + 100_000, rows.size()))) {
+                shifted.add(new Transaction(tx.getId(), tx.getDate().plusDays(shift), tx.getDescription(),
+                        tx.getAmount(), tx.getType(), tx.getCategory()));
+            }
+            store.addAll(shifted);
+        }
+        System.out.printf("%,d transaksi%n", count);
+
+        for (ReportStrategy strategy : new ReportStrategy[]{new DailyReportStrategy(), new YearlyReportStrategy()}) {
+            ReportService service = new ReportService();
+            service.setStrategy(strategy);
+            long uncached = Long.MAX_VALUE;
+            long hit = Long.MAX_VALUE;
+            long hitAfterOther = Long.MAX_VALUE;
+            long miss = Long.MAX_VALUE;
+            Transaction old = rows.get(0);
+            for (int round = 0; round < ROUNDS; round++) {
+                long start = System.nanoTime();
+                strategy.generateReport(store);
+                uncached = Math.min(uncached, System.nanoTime() - start);
+
+                service.generateReport(store);
+                start = System.nanoTime();
+                service.generateReport(store);
+                hit = Math.min(hit, System.nanoTime() - start);
+
+                // Mutasi 5 tahun lalu: di luar periode laporan
+                Transaction past = new Transaction("past-" + round, today.minusYears(5), "x", 1000,
+                        old.getType(), old.getCategory());
+                store.add(past);
+                start = System.nanoTime();
+                service.generateReport(store);
+                hitAfterOther = Math.min(hitAfterOther, System.nanoTime() - start);
+
+                Transaction now = new Transaction("now-" + round, today, "x", 1000, old.getType(), old.getCategory());
+                store.add(now);
+                start = System.nanoTime();
+                service.generateReport(store);
+                miss = Math.min(miss, System.nanoTime() - start);
+            }
+            System.out.printf("%s: tanpa cache %.1f us, hit %.2f us, hit setelah mutasi di luar periode %.2f us, "
+                            + "mutasi di periode (buat ulang) %.1f us%n",
+                    strategy.getReportName(), uncached / 1e3, hit / 1e3, hitAfterOther / 1e3, miss / 1e3);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.financetracker.bench;
+
+import com.financetracker.aggregate.RollupCube;
+import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionEncoding;
+import com.financetracker.model.TransactionStore;
+import com.financetracker.model.TransactionType;
+import com.financetracker.patterns.strategy.YearlyReportStrategy;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Kubus rollup vs scan:
+ * - pengeluaran satu bulan (cek budget): scan kolom vs sel {@link RollupCube};
+ * - laporan tahunan: {@code groupingBy} per bulan atas {@code List<Transaction>} dan
+ *   scan kolom {@link TransactionStore#sumByMonth(int)} vs {@link YearlyReportStrategy} yang membaca kubus.
+ * Data berisi 10 tahun riwayat yang berakhir hari ini.
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.financetracker.bench.RollupCubeBenchmark -Dexec.args="1000000"
+ * </pre>
+ */
+@SuppressWarnings("java:S106")
+public class RollupCubeBenchmark {
+
+    private static final int ROUNDS = 50;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        // Geser tanggal agar riwayat 10 tahun berakhir tahun ini
+        LocalDate today = LocalDate.now();
+        List<Transaction> list = new ArrayList<>(count);
+        for (Transaction tx : DurabilityBenchmark.BenchData.transactions(count, 21)) {
+            LocalDate date = today.minusDays(LocalDate.of(2024, 12, 31).toEpochDay() - tx.getDate().toEpochDay());
+            list.add(new Transaction(tx.getId(), date, tx.getDescription(), tx.getAmount(), tx.getType(), tx.getCategory()));
+        }
+
+        long start = System.nanoTime();
+        TransactionStore store = TransactionStore.of(list);
+        System.out.printf("%,d transaksi, bangun store + indeks + kubus %.0f ms%n", count, (System.nanoTime() - start) / 1e6);
+
+        int fromDay = (int) today.withDayOfMonth(1).toEpochDay();
+        int toDay = (int) today.withDayOfMonth(today.lengthOfMonth()).toEpochDay();
+        int month = RollupCube.Granularity.MONTH.bucketOf(today);
+        long bestScan = Long.MAX_VALUE;
+        long bestCube = Long.MAX_VALUE;
+        long scanTotal = 0;
+        long cubeTotal = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            start = System.nanoTime();
+            scanTotal = store.sumAmount(fromDay, toDay, TransactionType.EXPENSE);
+            bestScan = Math.min(bestScan, System.nanoTime() - start);
+            start = System.nanoTime();
+            cubeTotal = store.rollup().sum(RollupCube.Granularity.MONTH, month, TransactionType.EXPENSE);
+            bestCube = Math.min(bestCube, System.nanoTime() - start);
+        }
+        System.out.printf("pengeluaran bulan ini: scan kolom %.3f ms, kubus %.1f us (Rp %,.0f / Rp %,.0f)%n",
+                bestScan / 1e6, bestCube / 1e3,
+                TransactionEncoding.fromMinorUnits(scanTotal), TransactionEncoding.fromMinorUnits(cubeTotal));
+
+        int year = today.getYear();
+        YearlyReportStrategy strategy = new YearlyReportStrategy();
+        long bestStream = Long.MAX_VALUE;
+        long bestColumns = Long.MAX_VALUE;
+        long bestReport = Long.MAX_VALUE;
+        int groups = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            start = System.nanoTime();
+            Map<TransactionType, Map<Integer, Double>> byMonth = list.stream()
+                    .filter(tx -> tx.getDate().getYear() == year)
+                    .collect(Collectors.groupingBy(Transaction::getType,
+                            Collectors.groupingBy(tx -> tx.getDate().getMonthValue(),
+                                    Collectors.summingDouble(Transaction::getAmount))));
+            groups = byMonth.size();
+            bestStream = Math.min(bestStream, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            store.sumByMonth(year);
+            bestColumns = Math.min(bestColumns, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            strategy.generateReport(store);
+            bestReport = Math.min(bestReport, System.nanoTime() - start);
+        }
+        System.out.printf("laporan tahunan %d: groupingBy %.2f ms (%d tipe), scan kolom %.2f ms, strategi+kubus %.3f ms%n",
+                year, bestStream / 1e6, groups, bestColumns / 1e6, bestReport / 1e6);
+    }
+}
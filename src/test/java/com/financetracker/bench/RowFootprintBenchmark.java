@@ -0,0 +1,48 @@
+package com.financetracker.bench;
+
+import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionStore;
+
+import java.util.List;
+
+/**
+ * Biaya heap per baris (selisih heap setelah GC) dari representasi yang benar-benar dipegang
+ * aplikasi: daftar objek {@link Transaction} vs {@link TransactionStore} lengkap (kolom segmen,
+ * kamus deskripsi, indeks tanggal/bitmap/trigram/id dan kubus rollup).
+ *
+ * Deskripsi di data sintetis berbagi instance String yang sama, jadi angka objek adalah
+ * overhead tanpa teks deskripsi; store menyimpan setiap teks unik sekali di kamusnya.
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.financetracker.bench.RowFootprintBenchmark -Dexec.args="1000000"
+ * </pre>
+ */
+@SuppressWarnings("java:S106")
+public class RowFootprintBenchmark {
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        long before = usedHeap();
+        List<Transaction> objects = DurabilityBenchmark.BenchData.transactions(count, 3);
+        long objectBytes = usedHeap() - before;
+
+        before = usedHeap();
+        TransactionStore store = TransactionStore.of(objects);
+        long storeBytes = usedHeap() - before;
+
+        System.out.printf("%,d transaksi%n", count);
+        System.out.printf("List<Transaction> : %6.1f byte/baris%n", (double) objectBytes / count);
+        System.out.printf("TransactionStore  : %6.1f byte/baris (%d segmen)%n",
+                (double) storeBytes / count, store.segmentCount());
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,75 @@
+package com.financetracker.bench;
+
+import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionSnapshot;
+import com.financetracker.model.TransactionStore;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Membagikan daftar transaksi ke pembaca: salinan {@code new ArrayList<>(list)} per panggilan
+ * vs {@link TransactionStore#snapshot()} (sebanding jumlah segmen, tanpa objek per baris),
+ * plus biaya menerbitkan versi baru setelah tambah dan hapus.
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.financetracker.bench.SnapshotBenchmark -Dexec.args="1000000"
+ * </pre>
+ */
+@SuppressWarnings("java:S106")
+public class SnapshotBenchmark {
+
+    private static final int ROUNDS = 200;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        List<Transaction> source = DurabilityBenchmark.BenchData.transactions(count + ROUNDS, 19);
+        List<Transaction> list = new ArrayList<>(source.subList(0, count));
+        TransactionStore store = TransactionStore.of(list);
+
+        long copies = 0;
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            copies += new ArrayList<>(list).size();
+        }
+        double copy = (System.nanoTime() - start) / 1e6 / ROUNDS;
+
+        // Satu mutasi + satu pembacaan, seperti aksi UI yang menambah transaksi lalu memuat ulang tabel
+        start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            list.add(source.get(count + round));
+            copies += new ArrayList<>(list).size();
+        }
+        double copyAfterAdd = (System.nanoTime() - start) / 1e6 / ROUNDS;
+
+        start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            store.add(source.get(count + round));
+            copies += store.snapshot().size();
+        }
+        double publishAfterAdd = (System.nanoTime() - start) / 1e6 / ROUNDS;
+
+        // Hapus tersebar: setiap putaran menyentuh segmen lain, jadi bitmap tombstone-nya disalin ulang
+        start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            store.delete((int) ((long) round * count / ROUNDS));
+            copies += store.snapshot().size();
+        }
+        double publishAfterDelete = (System.nanoTime() - start) / 1e6 / ROUNDS;
+
+        TransactionSnapshot snapshot = store.snapshot();
+        start = System.nanoTime();
+        for (int i = 0; i < snapshot.size(); i += 1000) {
+            copies += snapshot.get(i).getDescription().length();
+        }
+        double get = (System.nanoTime() - start) / 1e3 / (snapshot.size() / 1000 + 1);
+
+        System.out.printf("%,d transaksi, %d segmen (checksum %d)%n", count, store.segmentCount(), copies);
+        System.out.printf("baca: salinan ArrayList %.2f ms%n", copy);
+        System.out.printf("tambah 1 + baca: ArrayList + salinan %.2f ms, snapshot baru %.3f ms%n",
+                copyAfterAdd, publishAfterAdd);
+        System.out.printf("hapus 1 + baca: snapshot baru %.3f ms%n", publishAfterDelete);
+        System.out.printf("get(i) acak dari snapshot: %.2f us per baris%n", get);
+    }
+}
@@ -0,0 +1,73 @@
+package com.financetracker.bench;
+
+import com.financetracker.index.RowBitmap;
+import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionStore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Pencarian deskripsi: {@code contains} linear atas {@code List<Transaction>} vs indeks trigram
+ * {@link TransactionStore#search(String)}. Deskripsi sintetis memakai 20.000 nama merchant berbeda.
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.financetracker.bench.TextSearchBenchmark -Dexec.args="1000000"
+ * </pre>
+ */
+@SuppressWarnings("java:S106")
+public class TextSearchBenchmark {
+
+    private static final int ROUNDS = 20;
+    private static final String[] WORDS = {
+        "toko", "warung", "apotek", "bengkel", "kafe", "minimarket", "laundry", "bakso", "sate", "mie"
+    };
+    private static final String[] QUERIES = {"bakso", "kafe 123", "mart", "ap"};
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Random random = new Random(13);
+        String[] merchants = new String[20_000];
+        for (int i = 0; i < merchants.length; i++) {
+            merchants[i] = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+        }
+        List<Transaction> list = new ArrayList<>(count);
+        for (Transaction tx : DurabilityBenchmark.BenchData.transactions(count, 13)) {
+            list.add(new Transaction(tx.getId(), tx.getDate(), merchants[random.nextInt(merchants.length)],
+                    tx.getAmount(), tx.getType(), tx.getCategory()));
+        }
+
+        long start = System.nanoTime();
+        TransactionStore store = TransactionStore.of(list);
+        System.out.printf("%,d transaksi, bangun store + semua indeks %.0f ms%n", count, (System.nanoTime() - start) / 1e6);
+
+        for (String query : QUERIES) {
+            long bestScan = Long.MAX_VALUE;
+            long bestIndex = Long.MAX_VALUE;
+            int scanHits = 0;
+            int indexHits = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                start = System.nanoTime();
+                String[] words = query.toLowerCase(Locale.ROOT).split(" ");
+                scanHits = 0;
+                for (Transaction tx : list) {
+                    String text = tx.getDescription().toLowerCase(Locale.ROOT);
+                    boolean all = true;
+                    for (String word : words) all &= text.contains(word);
+                    if (all) scanHits++;
+                }
+                bestScan = Math.min(bestScan, System.nanoTime() - start);
+
+                start = System.nanoTime();
+                RowBitmap hits = store.search(query);
+                indexHits = hits.cardinality();
+                bestIndex = Math.min(bestIndex, System.nanoTime() - start);
+            }
+            System.out.printf("\"%s\": scan %8.2f ms, indeks %7.2f ms (%,d / %,d hasil)%n",
+                    query, bestScan / 1e6, bestIndex / 1e6, scanHits, indexHits);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.financetracker.bench;
+
+import com.financetracker.model.Category;
+import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionStore;
+import com.financetracker.model.TransactionType;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Membandingkan agregasi lewat {@code List<Transaction>} (stream seperti kode laporan lama)
+ * dengan scan kolom {@link TransactionStore}: total pengeluaran satu tahun dan total per kategori.
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.financetracker.bench.TransactionStoreBenchmark -Dexec.args="1000000"
+ * </pre>
+ */
+@SuppressWarnings("java:S106")
+public class TransactionStoreBenchmark {
+
+    private static final int ROUNDS = 15;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        List<Transaction> list = DurabilityBenchmark.BenchData.transactions(count, 5);
+        TransactionStore store = TransactionStore.of(list);
+
+        LocalDate from = LocalDate.of(2020, 1, 1);
+        LocalDate to = LocalDate.of(2020, 12, 31);
+        int fromDay = (int) from.toEpochDay();
+        int toDay = (int) to.toEpochDay();
+
+        long bestListSum = Long.MAX_VALUE;
+        long bestStoreSum = Long.MAX_VALUE;
+        long bestListCategory = Long.MAX_VALUE;
+        long bestStoreCategory = Long.MAX_VALUE;
+        double listTotal = 0;
+        long storeTotal = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            listTotal = list.stream()
+                    .filter(t -> t.getType() == TransactionType.EXPENSE)
+                    .filter(t -> !t.getDate().isBefore(from) && !t.getDate().isAfter(to))
+                    .mapToDouble(Transaction::getAmount)
+                    .sum();
+            bestListSum = Math.min(bestListSum, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            storeTotal = store.sumAmount(fromDay, toDay, TransactionType.EXPENSE);
+            bestStoreSum = Math.min(bestStoreSum, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            Map<Category, Double> byCategory = list.stream()
+                    .filter(t -> t.getType() == TransactionType.EXPENSE)
+                    .filter(t -> !t.getDate().isBefore(from) && !t.getDate().isAfter(to))
+                    .collect(Collectors.groupingBy(Transaction::getCategory,
+                            () -> new EnumMap<>(Category.class), Collectors.summingDouble(Transaction::getAmount)));
+            bestListCategory = Math.min(bestListCategory, System.nanoTime() - start);
+            if (byCategory.isEmpty() && count > 0) throw new IllegalStateException();
+
+            start = System.nanoTime();
+            long[] totals = store.sumByCategory(fromDay, toDay, TransactionType.EXPENSE);
+            bestStoreCategory = Math.min(bestStoreCategory, System.nanoTime() - start);
+            if (totals.length == 0) throw new IllegalStateException();
+        }
+
+        System.out.printf("%,d transaksi, terbaik dari %d putaran%n", count, ROUNDS);
+        System.out.printf("Total pengeluaran 2020  List: %7.2f ms  Store: %7.2f ms  (%,.2f / %,.2f)%n",
+                bestListSum / 1e6, bestStoreSum / 1e6, listTotal, storeTotal / 100.0);
+        System.out.printf("Per kategori 2020       List: %7.2f ms  Store: %7.2f ms%n",
+                bestListCategory / 1e6, bestStoreCategory / 1e6);
+    }
+}
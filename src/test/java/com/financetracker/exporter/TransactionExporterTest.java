@@ -0,0 +1,94 @@
+package com.financetracker.exporter;
+
+import com.financetracker.importer.ImportResult;
+import com.financetracker.importer.TransactionImporter;
+import com.financetracker.model.Category;
+import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionType;
+import com.financetracker.storage.JsonStorageBackend;
+import com.financetracker.storage.LoadProgressListener;
+import com.financetracker.storage.TransactionSink;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionExporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final List<Transaction> transactions = List.of(
+            new Transaction("a", LocalDate.of(2024, 12, 30), "Kopi, susu", 25000, TransactionType.EXPENSE, Category.MAKANAN),
+            new Transaction("b", LocalDate.of(2025, 1, 5), "Gaji \"Januari\"", 10_000_000, TransactionType.INCOME, Category.GAJI),
+            new Transaction("c", LocalDate.of(2025, 1, 20), "Bensin", 150000.5, TransactionType.EXPENSE, Category.TRANSPORTASI),
+            new Transaction("d", LocalDate.of(2025, 2, 1), "Makan", 40000, TransactionType.EXPENSE, Category.MAKANAN));
+
+    /** Sumber dari list yang juga mencatat rentang bulan yang diminta */
+    private final List<YearMonth> requested = new ArrayList<>();
+
+    private long stream(YearMonth from, YearMonth to, TransactionSink sink) {
+        requested.add(from);
+        requested.add(to);
+        for (Transaction tx : transactions) {
+            if (!sink.accept(tx)) break;
+        }
+        return transactions.size();
+    }
+
+    @Test
+    void testCsvExportRoundTripsThroughImporter() throws Exception {
+        StringWriter out = new StringWriter();
+        long count = new TransactionExporter(ExportFormat.CSV, null, null, null).export(this::stream, out);
+
+        assertEquals(4, count);
+        ImportResult reimported = new TransactionImporter(1).parse(new StringReader(out.toString()));
+        assertTrue(reimported.getErrors().isEmpty(), () -> reimported.getErrors().toString());
+        for (int i = 0; i < transactions.size(); i++) {
+            Transaction expected = transactions.get(i);
+            Transaction actual = reimported.getTransactions().get(i);
+            assertEquals(expected.getDescription(), actual.getDescription());
+            assertEquals(expected.getAmount(), actual.getAmount());
+            assertEquals(expected.getType(), actual.getType());
+            assertEquals(expected.getCategory(), actual.getCategory());
+        }
+    }
+
+    @Test
+    void testFilterAppliesToRangeAndCategory() throws Exception {
+        StringWriter out = new StringWriter();
+        long count = new TransactionExporter(ExportFormat.JSONL, Category.MAKANAN,
+                LocalDate.of(2025, 1, 1), null).export(this::stream, out);
+
+        assertEquals(1, count);
+        assertEquals(Arrays.asList(YearMonth.of(2025, 1), null), requested);
+        String[] lines = out.toString().split("\n");
+        assertEquals(1, lines.length);
+        assertTrue(lines[0].contains("\"id\":\"d\""));
+        assertTrue(lines[0].contains("\"date\":\"2025-02-01\""));
+    }
+
+    @Test
+    void testExportToFileFromBackend() throws Exception {
+        JsonStorageBackend backend = new JsonStorageBackend(tempDir.resolve("transactions.json"));
+        backend.save(transactions);
+        Path file = tempDir.resolve("export.jsonl");
+
+        long count = new TransactionExporter(ExportFormat.fromFileName(file), null, null, null)
+                .export((from, to, sink) -> backend.stream(from, to, sink,
+                        LoadProgressListener.NONE), file);
+
+        assertEquals(4, count);
+        assertEquals(4, Files.readAllLines(file).size());
+    }
+}
@@ -0,0 +1,67 @@
+package com.financetracker.factory;
+
+import com.financetracker.model.TransactionEncoding;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedIdGeneratorTest {
+
+    /** Jam yang bisa digeser maju/mundur oleh test */
+    private static final class MutableClock extends Clock {
+        final AtomicLong millis = new AtomicLong();
+
+        MutableClock(long start) { millis.set(start); }
+
+        @Override public ZoneOffset getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(java.time.ZoneId zone) { return this; }
+        @Override public Instant instant() { return Instant.ofEpochMilli(millis.get()); }
+    }
+
+    @Test
+    void testIdsIncreaseWithinAndAcrossMillisEvenWhenClockGoesBack() {
+        MutableClock clock = new MutableClock(1_735_689_600_000L);
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(clock);
+
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) ids.add(generator.nextId());
+        clock.millis.addAndGet(5);
+        ids.add(generator.nextId());
+        clock.millis.addAndGet(-60_000);
+        ids.add(generator.nextId());
+
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i - 1).compareTo(ids.get(i)) < 0, ids.get(i - 1) + " >= " + ids.get(i));
+        }
+        assertEquals(Instant.ofEpochMilli(1_735_689_600_000L), TimeOrderedIdGenerator.timestampOf(ids.get(0)));
+        assertEquals(Instant.ofEpochMilli(1_735_689_600_005L), TimeOrderedIdGenerator.timestampOf(ids.get(1001)));
+        // Kanonik, sehingga storage menyimpannya sebagai dua long
+        assertNotNull(TransactionEncoding.parseCanonicalUuid(ids.get(0)));
+    }
+
+    @Test
+    void testUniqueAcrossThreads() throws Exception {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator();
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 20_000; i++) ids.add(generator.nextId());
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) thread.join();
+
+        assertEquals(80_000, ids.size());
+    }
+}
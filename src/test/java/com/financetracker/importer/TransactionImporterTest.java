@@ -0,0 +1,92 @@
+package com.financetracker.importer;
+
+import com.financetracker.model.Category;
+import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionImporterTest {
+
+    @Test
+    void testParsesQuotedFieldsAndReportsRowErrors() throws Exception {
+        String csv = """
+                date,description,amount,type,category
+                2025-01-07,"Makan siang, kantor",50000,EXPENSE,MAKANAN
+                2025-01-08,Gaji,10000000,Pemasukan,Gaji (Pemasukan)
+                bukan-tanggal,Kopi,20000,EXPENSE,MAKANAN
+                2025-01-09,Bensin,0,EXPENSE,TRANSPORTASI
+                """;
+
+        ImportResult result = new TransactionImporter(2).parse(new StringReader(csv));
+
+        assertEquals(4, result.getRowsRead());
+        assertEquals(2, result.getTransactions().size());
+        Transaction lunch = result.getTransactions().get(0);
+        assertEquals("Makan siang, kantor", lunch.getDescription());
+        assertEquals(LocalDate.of(2025, 1, 7), lunch.getDate());
+        assertEquals(TransactionType.INCOME, result.getTransactions().get(1).getType());
+        assertEquals(Category.GAJI, result.getTransactions().get(1).getCategory());
+
+        assertEquals(2, result.getErrors().size());
+        assertEquals(4, result.getErrors().get(0).getLine());
+        assertEquals(5, result.getErrors().get(1).getLine());
+    }
+
+    @Test
+    void testBankStatementWithDebitCreditColumns() throws Exception {
+        String csv = """
+                Tanggal;Keterangan;Debit;Kredit
+                07/01/2025;TRSF E-BANKING;Rp 1.250.000,00;
+                08/01/2025;BUNGA;;12.500,50
+                """;
+
+        ImportResult result = new TransactionImporter(1).parse(new StringReader(csv));
+
+        assertTrue(result.getErrors().isEmpty(), () -> result.getErrors().toString());
+        Transaction transfer = result.getTransactions().get(0);
+        assertEquals(TransactionType.EXPENSE, transfer.getType());
+        assertEquals(1_250_000.0, transfer.getAmount());
+        assertEquals(Category.LAINNYA, transfer.getCategory());
+        assertEquals(TransactionType.INCOME, result.getTransactions().get(1).getType());
+        assertEquals(12_500.50, result.getTransactions().get(1).getAmount());
+    }
+
+    @Test
+    void testSingleSeparatorAmounts() {
+        assertEquals(1_250_000.0, CsvRowMapper.parseAmount("Rp 1.250.000,00"));
+        assertEquals(50_000.0, CsvRowMapper.parseAmount("Rp 50.000"));
+        assertEquals(150_000.0, CsvRowMapper.parseAmount("150,000"));
+        assertEquals(1_250_000.0, CsvRowMapper.parseAmount("1,250,000"));
+        assertEquals(12.50, CsvRowMapper.parseAmount("12,50"));
+        assertEquals(-150_000.50, CsvRowMapper.parseAmount("-150000.50"));
+    }
+
+    @Test
+    void testParallelChunksKeepInputOrder() throws Exception {
+        int rows = TransactionImporter.CHUNK_ROWS * 5 + 17;
+        StringBuilder csv = new StringBuilder("tanggal,deskripsi,jumlah\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append("2025-01-01,baris ").append(i).append(',').append(-(i + 1)).append('\n');
+        }
+
+        ImportResult result = new TransactionImporter(4).parse(new StringReader(csv.toString()));
+
+        assertEquals(rows, result.getTransactions().size());
+        for (int i = 0; i < rows; i++) {
+            assertEquals("baris " + i, result.getTransactions().get(i).getDescription());
+        }
+        assertEquals(TransactionType.EXPENSE, result.getTransactions().get(0).getType());
+    }
+
+    @Test
+    void testMissingRequiredColumnIsRejected() {
+        StringReader csv = new StringReader("date,amount\n2025-01-01,100\n");
+
+        assertThrows(IllegalArgumentException.class, () -> new TransactionImporter(1).parse(csv));
+    }
+}
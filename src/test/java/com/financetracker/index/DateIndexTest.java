@@ -0,0 +1,63 @@
+package com.financetracker.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DateIndexTest {
+
+    @Test
+    void testRangeMatchesLinearScanAfterAddsBatchesAndRemoves() {
+        Random random = new Random(42);
+        DateIndex index = new DateIndex();
+        List<int[]> live = new ArrayList<>();
+        int row = 0;
+
+        for (int i = 0; i < 500; i++, row++) {
+            int day = 18_000 + random.nextInt(400);
+            index.add(day, row);
+            live.add(new int[]{day, row});
+        }
+        int[] batchDays = new int[300];
+        int[] batchRows = new int[300];
+        for (int i = 0; i < 300; i++, row++) {
+            batchDays[i] = 17_900 + random.nextInt(600);
+            batchRows[i] = row;
+            live.add(new int[]{batchDays[i], row});
+        }
+        index.addAll(batchDays, batchRows, 300);
+        for (int i = 0; i < 100; i++) {
+            int[] removed = live.remove(random.nextInt(live.size()));
+            assertTrue(index.remove(removed[0], removed[1]));
+            assertFalse(index.remove(removed[0], removed[1]));
+        }
+
+        assertEquals(live.size(), index.size());
+        for (int q = 0; q < 50; q++) {
+            int from = 17_900 + random.nextInt(600);
+            int to = from + random.nextInt(60);
+            long expected = live.stream().filter(e -> e[0] >= from && e[0] <= to).count();
+            int[] rows = index.rowsInRange(from, to);
+            assertEquals(expected, rows.length);
+            assertEquals(expected, index.count(from, to));
+        }
+    }
+
+    @Test
+    void testRangeIsOrderedByDateThenRowAndBoundsAreInclusive() {
+        DateIndex index = new DateIndex();
+        index.add(20, 0);
+        index.add(10, 1);
+        index.add(20, 2);
+        index.add(15, 3);
+
+        assertArrayEquals(new int[]{1, 3, 0, 2}, index.rowsInRange(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertArrayEquals(new int[]{3, 0, 2}, index.rowsInRange(15, 20));
+        assertArrayEquals(new int[0], index.rowsInRange(16, 19));
+        assertEquals(0, index.count(30, 10));
+    }
+}
@@ -0,0 +1,64 @@
+package com.financetracker.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdIndexTest {
+
+    @Test
+    void testMatchesHashMapUnderRandomPutsAndRemoves() {
+        Random random = new Random(11);
+        IdIndex index = new IdIndex();
+        Map<UUID, Integer> expected = new HashMap<>();
+        UUID[] ids = new UUID[20_000];
+        for (int row = 0; row < ids.length; row++) {
+            ids[row] = new UUID(random.nextLong(), random.nextLong());
+            index.put(ids[row].getMostSignificantBits(), ids[row].getLeastSignificantBits(), row);
+            expected.put(ids[row], row);
+        }
+        // Hapus separuh secara acak agar backward shift teruji di banyak cluster
+        for (int row = 0; row < ids.length; row++) {
+            if (random.nextBoolean()) {
+                assertTrue(index.remove(ids[row].getMostSignificantBits(), ids[row].getLeastSignificantBits(), row));
+                expected.remove(ids[row]);
+            }
+        }
+
+        assertEquals(expected.size(), index.size());
+        for (int row = 0; row < ids.length; row++) {
+            int found = index.get(ids[row].getMostSignificantBits(), ids[row].getLeastSignificantBits());
+            assertEquals(expected.getOrDefault(ids[row], -1).intValue(), found);
+        }
+        assertEquals(-1, index.get(1L, 2L));
+    }
+
+    @Test
+    void testRemoveOnlyWhenRowMatchesAndLegacyIds() {
+        IdIndex index = new IdIndex();
+        index.put(5L, 6L, 1);
+        index.put(5L, 6L, 7);
+
+        assertEquals(1, index.size());
+        assertFalse(index.remove(5L, 6L, 1));
+        assertEquals(7, index.get(5L, 6L));
+        assertTrue(index.remove(5L, 6L, 7));
+        assertEquals(-1, index.get(5L, 6L));
+
+        index.put("TX-001", 3);
+        assertEquals(3, index.get("TX-001"));
+        assertFalse(index.remove("TX-001", 4));
+        assertTrue(index.remove("TX-001", 3));
+        assertEquals(-1, index.get("TX-001"));
+
+        index.put(1L, 1L, 0);
+        index.clear();
+        assertEquals(0, index.size());
+        assertEquals(-1, index.get(1L, 1L));
+    }
+}
@@ -0,0 +1,81 @@
+package com.financetracker.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RowBitmapTest {
+
+    /** Isi acak: chunk 0 padat (container bitmap), chunk 1 jarang (container array), chunk 3 sedang */
+    private static void fill(Random random, RowBitmap bitmap, BitSet expected, double dense) {
+        for (int row = 0; row < 4 * 65536; row++) {
+            int chunk = row >>> 16;
+            double p = chunk == 0 ? dense : chunk == 1 ? 0.01 : chunk == 3 ? 0.06 : 0;
+            if (random.nextDouble() < p) {
+                bitmap.add(row);
+                expected.set(row);
+            }
+        }
+    }
+
+    private static void assertSame(BitSet expected, RowBitmap actual) {
+        assertEquals(expected.cardinality(), actual.cardinality());
+        assertArrayEquals(expected.stream().toArray(), actual.toArray());
+    }
+
+    @Test
+    void testSetOperationsMatchBitSet() {
+        Random random = new Random(7);
+        RowBitmap a = new RowBitmap();
+        RowBitmap b = new RowBitmap();
+        BitSet expectedA = new BitSet();
+        BitSet expectedB = new BitSet();
+        fill(random, a, expectedA, 0.5);
+        fill(random, b, expectedB, 0.2);
+
+        BitSet and = (BitSet) expectedA.clone();
+        and.and(expectedB);
+        BitSet or = (BitSet) expectedA.clone();
+        or.or(expectedB);
+        BitSet andNot = (BitSet) expectedA.clone();
+        andNot.andNot(expectedB);
+
+        assertSame(and, a.and(b));
+        assertEquals(and.cardinality(), a.andCardinality(b));
+        assertSame(or, a.or(b));
+        assertSame(andNot, a.andNot(b));
+        // Operand tidak berubah
+        assertSame(expectedA, a);
+        assertSame(expectedB, b);
+    }
+
+    @Test
+    void testRemoveConvertsBackAndDropsEmptyContainers() {
+        RowBitmap bitmap = new RowBitmap();
+        BitSet expected = new BitSet();
+        for (int row = 0; row < 10_000; row++) {
+            bitmap.add(row);
+            expected.set(row);
+        }
+        assertFalse(bitmap.add(5));
+        bitmap.add(200_000);
+        expected.set(200_000);
+
+        for (int row = 0; row < 10_000; row += 2) {
+            assertTrue(bitmap.remove(row));
+            expected.clear(row);
+        }
+        assertFalse(bitmap.remove(0));
+        assertSame(expected, bitmap);
+        assertTrue(bitmap.contains(9_999));
+        assertFalse(bitmap.contains(9_998));
+
+        assertTrue(bitmap.remove(200_000));
+        expected.clear(200_000);
+        assertSame(expected, bitmap);
+        assertSame(expected, RowBitmap.of(new int[]{9_999, 1, 3}, 3).or(bitmap));
+    }
+}
@@ -0,0 +1,44 @@
+package com.financetracker.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextIndexTest {
+
+    private static TextIndex sample() {
+        TextIndex index = new TextIndex();
+        index.add(0, "Makan siang kantin", 0);
+        index.add(1, "Bensin Pertamax", 1);
+        index.add(0, "Makan siang kantin", 2);
+        index.add(2, "Kopi  susu", 3);
+        index.add(3, "Makan malam", 4);
+        return index;
+    }
+
+    @Test
+    void testSubstringWordsAndCaseInsensitive() {
+        TextIndex index = sample();
+
+        assertArrayEquals(new int[]{0, 2, 4}, index.search("MAKAN").toArray());
+        assertArrayEquals(new int[]{0, 2}, index.search("kan siang").toArray());
+        assertArrayEquals(new int[]{1}, index.search("tamax").toArray());
+        assertArrayEquals(new int[]{3}, index.search("kopi susu").toArray());
+        // Kata pendek tetap diverifikasi terhadap teks
+        assertArrayEquals(new int[]{0, 2, 4}, index.search("ka").toArray());
+        assertArrayEquals(new int[]{3}, index.search("pi").toArray());
+        assertTrue(index.search("xyz").isEmpty());
+        assertTrue(index.search("   ").isEmpty());
+    }
+
+    @Test
+    void testRemovedRowsDisappear() {
+        TextIndex index = sample();
+        index.remove(0, 0);
+        index.remove(3, 4);
+
+        assertArrayEquals(new int[]{2}, index.search("makan").toArray());
+        index.remove(0, 2);
+        assertTrue(index.search("makan").isEmpty());
+    }
+}
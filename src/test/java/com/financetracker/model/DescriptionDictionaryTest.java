@@ -0,0 +1,81 @@
+package com.financetracker.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DescriptionDictionaryTest {
+
+    @Test
+    void testEncodeInternAndDecode() {
+        DescriptionDictionary dictionary = new DescriptionDictionary();
+
+        int lunch = dictionary.encode("Makan siang");
+        int fuel = dictionary.encode("Bensin");
+        assertEquals(lunch, dictionary.encode(new String("Makan siang")));
+        assertNotEquals(lunch, fuel);
+        assertEquals(2, dictionary.size());
+
+        String canonical = dictionary.decode(lunch);
+        assertSame(canonical, dictionary.intern(new String("Makan siang")));
+        assertEquals(DescriptionDictionary.NULL_ID, dictionary.encode(null));
+        assertNull(dictionary.decode(DescriptionDictionary.NULL_ID));
+        assertEquals(DescriptionDictionary.NULL_ID, dictionary.lookup("Belum pernah"));
+    }
+
+    @Test
+    void testConcurrentInternAssignsOneIdPerText() throws Exception {
+        DescriptionDictionary dictionary = new DescriptionDictionary();
+        int texts = 3 * 4096 + 7; // beberapa potongan kamus
+        int threads = 4;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<int[]>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(pool.submit(() -> {
+                    int[] ids = new int[texts];
+                    for (int i = 0; i < texts; i++) {
+                        ids[i] = dictionary.encode(new String("Merchant " + i));
+                    }
+                    return ids;
+                }));
+            }
+            int[] first = results.get(0).get();
+            for (Future<int[]> result : results) {
+                assertArrayEquals(first, result.get());
+            }
+            assertEquals(texts, dictionary.size());
+            for (int i = 0; i < texts; i++) {
+                assertEquals("Merchant " + i, dictionary.decode(first[i]));
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> dictionary.decode(texts));
+    }
+
+    @Test
+    void testStoreGroupsByDescriptionId() {
+        DescriptionDictionary dictionary = new DescriptionDictionary();
+        TransactionStore store = new TransactionStore(dictionary);
+        LocalDate date = LocalDate.of(2025, 5, 10);
+        store.add(new Transaction("a", date, "Bensin", 30000, TransactionType.EXPENSE, Category.TRANSPORTASI));
+        store.add(new Transaction("b", date, "Makan siang", 25000, TransactionType.EXPENSE, Category.MAKANAN));
+        store.add(new Transaction("c", date, new String("Bensin"), 50000, TransactionType.EXPENSE, Category.TRANSPORTASI));
+
+        assertEquals(store.descriptionId(0), store.descriptionId(2));
+        assertEquals("Bensin", store.description(2));
+
+        int day = (int) date.toEpochDay();
+        long[] totals = store.sumByDescription(day, day, TransactionType.EXPENSE);
+        assertEquals(8_000_000L, totals[dictionary.lookup("Bensin")]);
+        assertEquals(2_500_000L, totals[dictionary.lookup("Makan siang")]);
+    }
+}
@@ -0,0 +1,35 @@
+package com.financetracker.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionEncodingTest {
+
+    @Test
+    void testOnlyCanonicalUuidIsPacked() {
+        String id = UUID.randomUUID().toString();
+
+        assertEquals(id, TransactionEncoding.parseCanonicalUuid(id).toString());
+        assertNull(TransactionEncoding.parseCanonicalUuid(id.toUpperCase()));
+        assertNull(TransactionEncoding.parseCanonicalUuid("TX-001"));
+        assertNull(TransactionEncoding.parseCanonicalUuid(null));
+    }
+
+    @Test
+    void testMinorUnitsAvoidDoubleDrift() {
+        long total = 0;
+        double naive = 0;
+        for (int i = 0; i < 1000; i++) {
+            total += TransactionEncoding.toMinorUnits(0.1);
+            naive += 0.1;
+        }
+
+        assertEquals(10_000L, total);
+        assertEquals(4_550_025L, TransactionEncoding.toMinorUnits(45500.25));
+        assertEquals(100.0, TransactionEncoding.fromMinorUnits(total));
+        assertNotEquals(100.0, naive);
+    }
+}
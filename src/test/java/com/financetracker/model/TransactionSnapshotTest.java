@@ -0,0 +1,113 @@
+package com.financetracker.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionSnapshotTest {
+
+    private static List<Transaction> batch(int from, int count) {
+        List<Transaction> list = new ArrayList<>(count);
+        for (int i = from; i < from + count; i++) {
+            list.add(new Transaction("tx-" + i, LocalDate.of(2025, 1, 1).plusDays(i % 365), "Tx " + i,
+                    1000 + i, TransactionType.EXPENSE, Category.MAKANAN));
+        }
+        return list;
+    }
+
+    private static void assertSameRows(List<Transaction> expected, TransactionSnapshot snapshot) {
+        assertEquals(expected.size(), snapshot.size());
+        assertEquals(expected, snapshot);
+        assertEquals(expected, new ArrayList<>(snapshot));
+        for (int i = 0; i < expected.size(); i += 97) {
+            Transaction view = snapshot.get(i);
+            assertEquals(expected.get(i).getDate(), view.getDate());
+            assertEquals(expected.get(i).getDescription(), view.getDescription());
+            assertEquals(expected.get(i).getAmount(), view.getAmount());
+
+            // Pengakses per kolom membaca nilai yang sama tanpa membangun Transaction
+            assertEquals(expected.get(i).getId(), snapshot.id(i));
+            assertEquals(expected.get(i).getDate().toEpochDay(), snapshot.epochDay(i));
+            assertEquals(expected.get(i).getDescription(), snapshot.description(i));
+            assertEquals(expected.get(i).getType(), snapshot.type(i));
+            assertEquals(expected.get(i).getCategory(), snapshot.category(i));
+            assertEquals(TransactionEncoding.toMinorUnits(expected.get(i).getAmount()), snapshot.amountMinor(i));
+        }
+    }
+
+    @Test
+    void testMatchesLiveRowsUnderRandomMutations() {
+        Random random = new Random(19);
+        TransactionStore store = new TransactionStore();
+        List<Transaction> expected = new ArrayList<>();
+        int next = 0;
+        for (int step = 0; step < 300; step++) {
+            int op = random.nextInt(4);
+            if (op == 0) {
+                Transaction tx = batch(next++, 1).get(0);
+                store.add(tx);
+                expected.add(tx);
+            } else if (op == 1) {
+                List<Transaction> added = batch(next, random.nextInt(3000));
+                next += added.size();
+                store.addAll(added);
+                expected.addAll(added);
+            } else if (op == 2) {
+                int modulo = 2 + random.nextInt(20);
+                for (Transaction tx : expected) {
+                    if (tx.getAmount() % modulo == 0) store.delete(store.findRow(tx.getId()));
+                }
+                expected.removeIf(tx -> tx.getAmount() % modulo == 0);
+            } else {
+                store.compactIfNeeded();
+            }
+            if (step % 50 == 0) {
+                assertSameRows(expected, store.snapshot());
+            }
+        }
+
+        TransactionSnapshot last = store.snapshot();
+        assertSameRows(expected, last);
+        assertThrows(IndexOutOfBoundsException.class, () -> last.get(expected.size()));
+        assertThrows(IndexOutOfBoundsException.class, () -> last.amountMinor(expected.size()));
+    }
+
+    @Test
+    void testOldVersionsStayUnchangedAndAreReadOnly() {
+        TransactionStore store = new TransactionStore();
+        List<Transaction> rows = batch(0, 5000);
+        store.addAll(rows);
+        TransactionSnapshot first = store.snapshot();
+        assertSame(first, store.snapshot());
+
+        store.add(batch(5000, 1).get(0));
+        TransactionSnapshot second = store.snapshot();
+        store.delete(store.findRow("tx-10"));
+        TransactionSnapshot third = store.snapshot();
+        for (int i = 0; i < 2000; i++) {
+            store.delete(store.findRow("tx-" + (1000 + i)));
+        }
+        store.compact();
+
+        assertSameRows(rows, first);
+        assertEquals(5001, second.size());
+        assertEquals(5000, third.size());
+        assertEquals("tx-10", second.get(10).getId());
+        assertEquals("tx-11", third.get(10).getId());
+        assertEquals("tx-5000", third.get(4999).getId());
+        assertTrue(first.version() < second.version() && second.version() < third.version());
+        assertEquals(3000, store.snapshot().size());
+
+        // Nomor baris store yang dibaca bersama snapshot tetap menunjuk baris yang sama setelah pemadatan
+        assertEquals("tx-1500", third.atRow(1500).getId());
+        assertThrows(IndexOutOfBoundsException.class, () -> second.atRow(5001));
+
+        assertThrows(UnsupportedOperationException.class, () -> third.add(batch(9, 1).get(0)));
+        assertThrows(UnsupportedOperationException.class, () -> third.remove(0));
+    }
+}
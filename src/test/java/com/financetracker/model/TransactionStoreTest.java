@@ -0,0 +1,162 @@
+package com.financetracker.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionStoreTest {
+
+    private static int day(int year, int month, int dayOfMonth) {
+        return (int) LocalDate.of(year, month, dayOfMonth).toEpochDay();
+    }
+
+    private static Transaction tx(String id, LocalDate date, double amount, TransactionType type, Category category) {
+        return new Transaction(id, date, "Tx " + id, amount, type, category);
+    }
+
+    @Test
+    void testGrowsAcrossSegmentsAndKeepsRowNumbers() {
+        TransactionStore store = new TransactionStore();
+        int rows = TransactionStore.SEGMENT_SIZE * 2 + 5;
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            String id = UUID.randomUUID().toString();
+            ids.add(id);
+            assertEquals(i, store.add(tx(id, LocalDate.of(2025, 1, 1).plusDays(i % 31), 1000 + i,
+                    TransactionType.EXPENSE, Category.MAKANAN)));
+        }
+
+        assertEquals(3, store.segmentCount());
+        assertEquals(rows, store.liveCount());
+        int last = rows - 1;
+        assertEquals(ids.get(last), store.id(last));
+        assertEquals((1000 + last) * 100L, store.amountMinor(last));
+        assertEquals(last, store.findRow(ids.get(last)));
+    }
+
+    @Test
+    void testSumsSkipTombstonesAndOtherRanges() {
+        TransactionStore store = new TransactionStore();
+        store.add(tx("a", LocalDate.of(2025, 1, 5), 100.50, TransactionType.EXPENSE, Category.MAKANAN));
+        store.add(tx("b", LocalDate.of(2025, 1, 6), 200, TransactionType.EXPENSE, Category.TRANSPORTASI));
+        store.add(tx("c", LocalDate.of(2025, 1, 7), 5000, TransactionType.INCOME, Category.GAJI));
+        store.add(tx("d", LocalDate.of(2025, 2, 1), 300, TransactionType.EXPENSE, Category.MAKANAN));
+        store.add(tx("e", LocalDate.of(2025, 1, 9), 400, TransactionType.EXPENSE, Category.MAKANAN));
+
+        assertTrue(store.delete(store.findRow("e")));
+        assertFalse(store.delete(store.findRow("a") + 4));
+
+        int from = day(2025, 1, 1);
+        int to = day(2025, 1, 31);
+        assertEquals(30_050L, store.sumAmount(from, to, TransactionType.EXPENSE));
+        assertEquals(500_000L, store.sumAmount(from, to, TransactionType.INCOME));
+        assertEquals(3, store.countRows(from, to));
+
+        long[] byCategory = store.sumByCategory(from, to, TransactionType.EXPENSE);
+        assertEquals(10_050L, byCategory[Category.MAKANAN.ordinal()]);
+        assertEquals(20_000L, byCategory[Category.TRANSPORTASI.ordinal()]);
+
+        long[][] byMonth = store.sumByMonth(2025);
+        assertEquals(500_000L, byMonth[0][0]);
+        assertEquals(30_050L, byMonth[1][0]);
+        assertEquals(30_000L, byMonth[1][1]);
+
+        assertEquals(List.of("a", "b", "c", "d"), store.toTransactions().stream().map(Transaction::getId).toList());
+        assertEquals(-1, store.findRow("e"));
+    }
+
+    @Test
+    void testIndexesFollowAddsAndDeletes() {
+        TransactionStore store = new TransactionStore();
+        store.add(tx("a", LocalDate.of(2025, 3, 2), 100, TransactionType.EXPENSE, Category.MAKANAN));
+        store.add(tx("b", LocalDate.of(2025, 3, 1), 200, TransactionType.EXPENSE, Category.MAKANAN));
+        store.addAll(List.of(
+                tx("c", LocalDate.of(2025, 2, 28), 300, TransactionType.EXPENSE, Category.TRANSPORTASI),
+                tx("d", LocalDate.of(2025, 3, 5), 5000, TransactionType.INCOME, Category.GAJI)));
+        store.delete(store.findRow("a"));
+
+        int from = day(2025, 3, 1);
+        int to = day(2025, 3, 31);
+        assertEquals(2, store.countRows(from, to));
+        assertEquals(1, store.categoryRows(Category.MAKANAN).cardinality());
+        assertEquals(1, store.rowsInRange(from, to).andCardinality(store.typeRows(TransactionType.EXPENSE)));
+
+        long[] byCategory = store.sumByCategory(store.typeRows(TransactionType.EXPENSE));
+        assertEquals(20_000L, byCategory[Category.MAKANAN.ordinal()]);
+        assertEquals(30_000L, byCategory[Category.TRANSPORTASI.ordinal()]);
+        assertArrayEquals(new int[]{2, 1, 3},
+                store.rowsByDate(store.typeRows(TransactionType.EXPENSE).or(store.typeRows(TransactionType.INCOME))));
+    }
+
+    @Test
+    void testFindRowUsesIdIndexForUuidAndLegacyIds() {
+        TransactionStore store = new TransactionStore();
+        String uuid = UUID.randomUUID().toString();
+        store.add(tx("legacy-1", LocalDate.of(2025, 1, 1), 100, TransactionType.EXPENSE, Category.MAKANAN));
+        store.add(tx(uuid, LocalDate.of(2025, 1, 2), 200, TransactionType.EXPENSE, Category.MAKANAN));
+
+        assertEquals(0, store.findRow("legacy-1"));
+        assertEquals(1, store.findRow(uuid));
+        assertEquals(-1, store.findRow(uuid.toUpperCase()));
+        assertEquals(-1, store.findRow(null));
+
+        store.delete(1);
+        store.delete(0);
+        assertEquals(-1, store.findRow(uuid));
+        assertEquals(-1, store.findRow("legacy-1"));
+
+        store.clear();
+        store.add(tx(uuid, LocalDate.of(2025, 1, 3), 300, TransactionType.EXPENSE, Category.MAKANAN));
+        assertEquals(0, store.findRow(uuid));
+    }
+
+    @Test
+    void testCompactReleasesTombstonesAndRebuildsIndexes() {
+        TransactionStore store = new TransactionStore();
+        int rows = TransactionStore.SEGMENT_SIZE * 3;
+        List<Transaction> added = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            String id = i % 10 == 0 ? "legacy-" + i : UUID.randomUUID().toString();
+            added.add(tx(id, LocalDate.of(2025, 1, 1).plusDays(i % 60), 1000 + i,
+                    i % 3 == 0 ? TransactionType.INCOME : TransactionType.EXPENSE,
+                    i % 2 == 0 ? Category.MAKANAN : Category.TRANSPORTASI));
+        }
+        store.addAll(added);
+        for (int row = 0; row < rows; row += 2) {
+            store.delete(row);
+        }
+        int from = day(2025, 1, 1);
+        int to = day(2025, 1, 31);
+        long expense = store.sumAmount(from, to, TransactionType.EXPENSE);
+        int inRange = store.countRows(from, to);
+        long version = store.versions().current();
+
+        assertTrue(store.compactIfNeeded());
+
+        assertEquals(rows / 2, store.size());
+        assertEquals(rows / 2, store.liveCount());
+        assertEquals(2, store.segmentCount());
+        assertEquals(version, store.versions().current());
+        assertEquals(expense, store.sumAmount(from, to, TransactionType.EXPENSE));
+        assertEquals(inRange, store.countRows(from, to));
+        assertEquals(rows / 2, store.categoryRows(Category.TRANSPORTASI).cardinality());
+        assertTrue(store.categoryRows(Category.MAKANAN).isEmpty());
+        assertEquals(rows / 2, store.search("tx").cardinality());
+        for (int i = 1; i < rows; i += 2) {
+            int row = store.findRow(added.get(i).getId());
+            assertEquals(i / 2, row);
+            assertEquals(added.get(i).getAmount(), store.toTransaction(row).getAmount());
+        }
+        assertEquals(-1, store.findRow(added.get(0).getId()));
+        assertEquals(-1, store.findRow(added.get(10).getId()));
+
+        assertFalse(store.compact());
+        store.delete(0);
+        assertFalse(store.compactIfNeeded(), "Tombstone sedikit tidak memicu pemadatan");
+    }
+}
@@ -62,4 +62,28 @@ class ReportStrategyTest {
         assertTrue(report.contains("Laporan Tahunan"));
         assertFalse(report.isEmpty());
     }
+
+    @Test
+    void testRangeReportStrategy() {
+        ReportStrategy strategy = new RangeReportStrategy(LocalDate.now().minusDays(3), LocalDate.now().plusMonths(2));
+        String report = strategy.generateReport(transactions);
+
+        assertTrue(report.contains("Laporan Rentang Tanggal"));
+        assertTrue(report.contains("Rp 6,000,000.00") || report.contains("Rp 6.000.000,00")); // Gaji + bonus
+        assertTrue(report.contains(Category.MAKANAN.toString()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RangeReportStrategy(LocalDate.now(), LocalDate.now().minusDays(1)));
+    }
+
+    @Test
+    void testRollingReportStrategy() {
+        RangeReportStrategy strategy = RangeReportStrategy.lastDays(7);
+        String report = strategy.generateReport(transactions);
+
+        assertTrue(report.contains("Laporan 7 Hari Terakhir"));
+        assertTrue(report.contains("Tren Pengeluaran 7 Hari Bergulir"));
+        assertFalse(report.contains("Rp 6,000,000.00") || report.contains("Rp 6.000.000,00")); // Bonus bulan depan di luar jendela
+        assertEquals(LocalDate.now().minusDays(12), strategy.getPeriodStart(LocalDate.now()));
+        assertThrows(IllegalStateException.class, () -> strategy.setRange(LocalDate.now(), LocalDate.now()));
+    }
 }
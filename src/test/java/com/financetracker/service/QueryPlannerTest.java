@@ -0,0 +1,129 @@
+package com.financetracker.service;
+
+import com.financetracker.model.Category;
+import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionStore;
+import com.financetracker.model.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryPlannerTest {
+
+    private static final String[] MERCHANTS = {"Warung Bakso", "Kafe Kopi", "Apotek Sehat", "Bengkel Motor", "Toko Buku"};
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+    private static List<Transaction> sample(int count) {
+        Random random = new Random(42);
+        Category[] categories = Category.values();
+        List<Transaction> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(new Transaction("tx-" + i, START.plusDays(random.nextInt(730)),
+                    MERCHANTS[random.nextInt(MERCHANTS.length)] + " " + random.nextInt(50),
+                    1000 + random.nextInt(500_000), random.nextInt(4) == 0 ? TransactionType.INCOME : TransactionType.EXPENSE,
+                    categories[random.nextInt(categories.length)]));
+        }
+        return list;
+    }
+
+    /** Baris store sama dengan indeks list karena store dibangun berurutan tanpa penghapusan */
+    private static int[] bruteForce(List<Transaction> list, Predicate<Transaction> filter,
+                                    Comparator<Integer> order) {
+        return IntStream.range(0, list.size()).filter(i -> filter.test(list.get(i))).boxed()
+                .sorted(order).mapToInt(Integer::intValue).toArray();
+    }
+
+    private static Comparator<Integer> byDate(List<Transaction> list) {
+        return Comparator.<Integer, LocalDate>comparing(i -> list.get(i).getDate()).thenComparing(i -> i);
+    }
+
+    @Test
+    void testPicksMostSelectiveAccessPath() {
+        TransactionStore store = TransactionStore.of(sample(5000));
+
+        TransactionQuery narrowDates = TransactionQuery.all()
+                .withType(TransactionType.EXPENSE)
+                .withDateRange(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 7));
+        assertEquals(QueryPlan.Access.DATE_INDEX, QueryPlanner.plan(narrowDates, store).getAccess());
+
+        TransactionQuery text = TransactionQuery.all()
+                .withText("bakso 7")
+                .withDateRange(START, LocalDate.of(2025, 12, 31));
+        assertEquals(QueryPlan.Access.TEXT_INDEX, QueryPlanner.plan(text, store).getAccess());
+
+        TransactionQuery category = TransactionQuery.all()
+                .withCategory(Category.MAKANAN)
+                .withDateRange(START, LocalDate.of(2025, 6, 30));
+        assertEquals(QueryPlan.Access.CATEGORY_BITMAP, QueryPlanner.plan(category, store).getAccess());
+
+        assertEquals(QueryPlan.Access.FULL_SCAN, QueryPlanner.plan(TransactionQuery.all(), store).getAccess());
+    }
+
+    @Test
+    void testResultsMatchBruteForce() {
+        List<Transaction> list = sample(5000);
+        TransactionStore store = TransactionStore.of(list);
+        LocalDate from = LocalDate.of(2024, 5, 1);
+        LocalDate to = LocalDate.of(2024, 10, 31);
+
+        TransactionQuery query = TransactionQuery.all()
+                .withType(TransactionType.EXPENSE)
+                .withCategories(Category.MAKANAN, Category.HIBURAN)
+                .withDateRange(from, to)
+                .withAmountRange(50_000.0, 300_000.0);
+        int[] expected = bruteForce(list, tx -> tx.getType() == TransactionType.EXPENSE
+                && (tx.getCategory() == Category.MAKANAN || tx.getCategory() == Category.HIBURAN)
+                && !tx.getDate().isBefore(from) && !tx.getDate().isAfter(to)
+                && tx.getAmount() >= 50_000 && tx.getAmount() <= 300_000, byDate(list));
+        assertTrue(expected.length > 0);
+        assertArrayEquals(expected, QueryPlanner.plan(query, store).execute());
+
+        TransactionQuery text = TransactionQuery.all().withText("kopi").withCategory(Category.MAKANAN);
+        int[] expectedText = bruteForce(list, tx -> tx.getDescription().toLowerCase().contains("kopi")
+                && tx.getCategory() == Category.MAKANAN, byDate(list));
+        assertArrayEquals(expectedText, QueryPlanner.plan(text, store).execute());
+    }
+
+    @Test
+    void testSortLimitAndOffset() {
+        List<Transaction> list = sample(2000);
+        TransactionStore store = TransactionStore.of(list);
+        Predicate<Transaction> expense = tx -> tx.getType() == TransactionType.EXPENSE;
+
+        int[] newest = bruteForce(list, expense, byDate(list).reversed());
+        TransactionQuery latest = TransactionQuery.all().withType(TransactionType.EXPENSE)
+                .sortedBy(TransactionQuery.Sort.DATE_DESC).offset(5).limit(10);
+        assertArrayEquals(Arrays.copyOfRange(newest, 5, 15), QueryPlanner.plan(latest, store).execute());
+
+        Comparator<Integer> byAmount = Comparator.<Integer>comparingDouble(i -> list.get(i).getAmount())
+                .thenComparing(i -> i);
+        int[] largest = bruteForce(list, expense, byAmount.reversed());
+        TransactionQuery top = TransactionQuery.all().withType(TransactionType.EXPENSE)
+                .sortedBy(TransactionQuery.Sort.AMOUNT_DESC).limit(3);
+        assertArrayEquals(Arrays.copyOf(largest, 3), QueryPlanner.plan(top, store).execute());
+
+        TransactionQuery pastEnd = TransactionQuery.all().offset(5000).limit(10);
+        assertEquals(0, QueryPlanner.plan(pastEnd, store).execute().length);
+    }
+
+    @Test
+    void testExplainNamesAccessPath() {
+        TransactionStore store = TransactionStore.of(sample(1000));
+        QueryPlan plan = QueryPlanner.plan(TransactionQuery.all()
+                .withDateRange(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 3))
+                .sortedBy(TransactionQuery.Sort.DATE_DESC).limit(5), store);
+
+        String explain = plan.explain();
+        assertTrue(explain.contains("Akses   : DATE_INDEX"), explain);
+        assertTrue(explain.contains("berhenti setelah 5 baris"), explain);
+    }
+}
@@ -0,0 +1,93 @@
+package com.financetracker.service;
+
+import com.financetracker.model.Category;
+import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionStore;
+import com.financetracker.model.TransactionType;
+import com.financetracker.patterns.strategy.ReportStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportServiceTest {
+
+    private static final LocalDate MARCH_1 = LocalDate.of(2024, 3, 1);
+
+    /** Laporan periode tetap Maret 2024 yang menghitung berapa kali benar-benar dibuat */
+    private static final class CountingStrategy implements ReportStrategy {
+        private int runs;
+
+        @Override
+        public String getReportName() {
+            return "Uji";
+        }
+
+        @Override
+        public String generateReport(TransactionStore store) {
+            runs++;
+            return "baris=" + store.countRows((int) MARCH_1.toEpochDay(), (int) MARCH_1.plusMonths(1).minusDays(1).toEpochDay());
+        }
+
+        @Override
+        public LocalDate getPeriodStart(LocalDate today) {
+            return MARCH_1;
+        }
+
+        @Override
+        public LocalDate getPeriodEnd(LocalDate today) {
+            return MARCH_1.withDayOfMonth(31);
+        }
+    }
+
+    private static Transaction tx(String id, LocalDate date) {
+        return new Transaction(id, date, "Tx", 10_000, TransactionType.EXPENSE, Category.MAKANAN);
+    }
+
+    @Test
+    void testCachedUntilMutationTouchesThePeriod() {
+        TransactionStore store = new TransactionStore();
+        store.add(tx("a", MARCH_1.plusDays(3)));
+        CountingStrategy strategy = new CountingStrategy();
+        ReportService service = new ReportService();
+        service.setStrategy(strategy);
+
+        assertEquals("baris=1", service.generateReport(store));
+        assertEquals("baris=1", service.generateReport(store));
+        assertEquals(1, strategy.runs);
+
+        // Mutasi di luar periode tidak membatalkan cache
+        store.add(tx("b", LocalDate.of(2024, 4, 2)));
+        store.delete(store.findRow("b"));
+        assertEquals("baris=1", service.generateReport(store));
+        assertEquals(1, strategy.runs);
+
+        store.add(tx("c", MARCH_1.plusDays(20)));
+        assertEquals("baris=2", service.generateReport(store));
+        assertEquals(2, strategy.runs);
+
+        store.delete(store.findRow("a"));
+        assertEquals("baris=1", service.generateReport(store));
+        store.clear();
+        assertEquals("baris=0", service.generateReport(store));
+        assertEquals(4, strategy.runs);
+    }
+
+    @Test
+    void testCacheIsBoundedPerStore() {
+        CountingStrategy strategy = new CountingStrategy();
+        ReportService service = new ReportService();
+        service.setStrategy(strategy);
+        TransactionStore first = new TransactionStore();
+        service.generateReport(first);
+        for (int i = 0; i < ReportService.MAX_CACHED_REPORTS; i++) {
+            service.generateReport(new TransactionStore());
+        }
+        assertEquals(ReportService.MAX_CACHED_REPORTS + 1, strategy.runs);
+
+        // Entri store pertama sudah tergusur (LRU), jadi laporannya dibuat ulang
+        service.generateReport(first);
+        assertEquals(ReportService.MAX_CACHED_REPORTS + 2, strategy.runs);
+    }
+}
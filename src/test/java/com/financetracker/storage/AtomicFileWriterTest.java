@@ -0,0 +1,42 @@
+package com.financetracker.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AtomicFileWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testReplacesFileWithoutLeavingTemp() throws Exception {
+        Path file = tempDir.resolve("budget.json");
+        Files.writeString(file, "lama");
+
+        AtomicFileWriter.write(file, "baru".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("baru", Files.readString(file));
+        assertFalse(Files.exists(tempDir.resolve("budget.json.tmp")));
+    }
+
+    @Test
+    void testFailedWriteKeepsOldFile() throws Exception {
+        Path file = tempDir.resolve("budget.json");
+        Files.writeString(file, "lama");
+
+        assertThrows(IOException.class, () -> AtomicFileWriter.write(file, out -> {
+            out.write("setengah".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("disk penuh");
+        }));
+
+        assertEquals("lama", Files.readString(file));
+        assertFalse(Files.exists(tempDir.resolve("budget.json.tmp")));
+    }
+}
@@ -0,0 +1,149 @@
+package com.financetracker.storage;
+
+import com.financetracker.model.Category;
+import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarStorageBackendTest {
+
+    @TempDir
+    Path tempDir;
+
+    private List<Transaction> sample(int count) {
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String id = (i % 2 == 0) ? UUID.randomUUID().toString() : "legacy-" + i;
+            transactions.add(new Transaction(id, LocalDate.of(2024, 1, 1).plusDays(i),
+                    "Belanja bulanan ke-" + i, 1500.5 + i,
+                    i % 3 == 0 ? TransactionType.INCOME : TransactionType.EXPENSE,
+                    Category.values()[i % Category.values().length]));
+        }
+        return transactions;
+    }
+
+    private void assertSameTransactions(List<Transaction> expected, List<Transaction> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Transaction e = expected.get(i);
+            Transaction a = actual.get(i);
+            assertEquals(e.getId(), a.getId());
+            assertEquals(e.getDate(), a.getDate());
+            assertEquals(e.getDescription(), a.getDescription());
+            assertEquals(e.getAmount(), a.getAmount());
+            assertEquals(e.getType(), a.getType());
+            assertEquals(e.getCategory(), a.getCategory());
+        }
+    }
+
+    @Test
+    void testRoundTripAcrossSeveralBlocks() throws Exception {
+        ColumnarStorageBackend backend = new ColumnarStorageBackend(tempDir.resolve("tx.col"), 16);
+        List<Transaction> transactions = sample(50);
+
+        backend.save(transactions);
+
+        assertSameTransactions(transactions, backend.load());
+    }
+
+    @Test
+    void testRepeatedDescriptionsAreStoredOncePerBlock() throws Exception {
+        Path file = tempDir.resolve("tx.col");
+        ColumnarStorageBackend backend = new ColumnarStorageBackend(file, 64);
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            transactions.add(new Transaction(UUID.randomUUID().toString(), LocalDate.of(2024, 3, 1),
+                    i % 2 == 0 ? "Makan siang kantin" : "Bensin motor", 20000, TransactionType.EXPENSE,
+                    Category.MAKANAN));
+        }
+        backend.save(transactions);
+
+        // Header + satu blok: 64 baris tetap lebar + kamus 2 entri, tanpa 64 salinan teks
+        long textBytes = "Makan siang kantin".length() + "Bensin motor".length();
+        assertEquals(ColumnarStorageBackend.HEADER_BYTES + ColumnarStorageBackend.BLOCK_HEADER_BYTES
+                + 64 * 35 + 4 + 3 * 4 + textBytes, Files.size(file));
+
+        List<Transaction> loaded = backend.load();
+        assertSameTransactions(transactions, loaded);
+        assertSame(loaded.get(0).getDescription(), loaded.get(2).getDescription());
+
+        backend.forEachBlock(block -> {
+            assertEquals(block.descriptionCode(0), block.descriptionCode(2));
+            assertNotEquals(block.descriptionCode(0), block.descriptionCode(1));
+            return true;
+        });
+    }
+
+    @Test
+    void testEmptyFile() throws Exception {
+        ColumnarStorageBackend backend = new ColumnarStorageBackend(tempDir.resolve("tx.col"));
+        backend.ensureExists();
+
+        assertTrue(backend.load().isEmpty());
+    }
+
+    @Test
+    void testCorruptedBlockIsDetected() throws Exception {
+        Path file = tempDir.resolve("tx.col");
+        ColumnarStorageBackend backend = new ColumnarStorageBackend(file, 16);
+        backend.save(sample(40));
+
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            long position = raf.length() - 3;
+            raf.seek(position);
+            int b = raf.read();
+            raf.seek(position);
+            raf.write(b ^ 0xFF);
+        }
+
+        IOException e = assertThrows(IOException.class, backend::load);
+        assertTrue(e.getMessage().contains("Checksum"));
+    }
+
+    @Test
+    void testConvertJsonToColumnarAndBack() throws Exception {
+        JsonStorageBackend json = new JsonStorageBackend(tempDir.resolve("tx.json"));
+        ColumnarStorageBackend columnar = new ColumnarStorageBackend(tempDir.resolve("tx.col"));
+        JsonStorageBackend back = new JsonStorageBackend(tempDir.resolve("back.json"));
+        List<Transaction> transactions = sample(30);
+        json.save(transactions);
+
+        assertEquals(30, StorageConverter.convert(json, columnar));
+        assertEquals(30, StorageConverter.convert(columnar, back));
+
+        assertSameTransactions(transactions, back.load());
+    }
+
+    @Test
+    void testConvertStreamsIntoPartitionsAndFailedSaveKeepsOldSnapshot() throws Exception {
+        ColumnarStorageBackend columnar = new ColumnarStorageBackend(tempDir.resolve("tx.col"), 16);
+        PartitionedStorageBackend partitioned = new PartitionedStorageBackend(tempDir.resolve("parts"));
+        List<Transaction> transactions = sample(70);
+        columnar.save(transactions);
+
+        assertEquals(70, StorageConverter.convert(columnar, partitioned));
+        assertEquals(3, partitioned.getPartitions().size());
+        assertEquals(70, partitioned.load().size());
+
+        // Sumber gagal di tengah jalan: snapshot lama tetap utuh, tanpa file sementara tersisa
+        IOException failure = new IOException("disk penuh");
+        assertThrows(IOException.class, () -> columnar.save(sink -> {
+            sample(20).forEach(sink::accept);
+            throw failure;
+        }));
+        assertSameTransactions(transactions, columnar.load());
+        assertFalse(Files.exists(tempDir.resolve("tx.col.tmp")));
+    }
+}
@@ -0,0 +1,100 @@
+package com.financetracker.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationLogAppenderTest {
+
+    @TempDir
+    Path tempDir;
+
+    /** Jam yang bisa dimajukan dari test */
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) { this.now = now; }
+
+        void set(Instant instant) { this.now = instant; }
+
+        @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(ZoneId zone) { return this; }
+        @Override public Instant instant() { return now; }
+    }
+
+    @Test
+    void testMessagesAreWrittenWithTimestampOnFlush() throws Exception {
+        Path log = tempDir.resolve("notifications.log");
+        MutableClock clock = new MutableClock(Instant.parse("2025-01-07T10:15:30Z"));
+        try (NotificationLogAppender appender = new NotificationLogAppender(log, 16,
+                NotificationLogAppender.RotationPolicy.none(), NotificationLogAppender.FlushPolicy.WRITE, 0, clock)) {
+            appender.append("Budget terlampaui");
+            appender.append("Sisa budget 10%");
+            appender.flush();
+
+            assertEquals(List.of("[2025-01-07T10:15:30] Budget terlampaui", "[2025-01-07T10:15:30] Sisa budget 10%"),
+                    Files.readAllLines(log));
+        }
+    }
+
+    @Test
+    void testSizeRotationKeepsMaxBackups() throws Exception {
+        Path log = tempDir.resolve("notifications.log");
+        try (NotificationLogAppender appender = new NotificationLogAppender(log, 16,
+                NotificationLogAppender.RotationPolicy.bySize(40, 2), NotificationLogAppender.FlushPolicy.WRITE, 0)) {
+            for (int i = 0; i < 5; i++) {
+                appender.append("pesan " + i);
+                appender.flush();
+            }
+        }
+
+        assertTrue(Files.readString(log).contains("pesan 4"));
+        assertTrue(Files.readString(tempDir.resolve("notifications.log.1")).contains("pesan 3"));
+        assertTrue(Files.exists(tempDir.resolve("notifications.log.2")));
+        assertFalse(Files.exists(tempDir.resolve("notifications.log.3")));
+    }
+
+    @Test
+    void testDailyRotationNamesFileByDate() throws Exception {
+        Path log = tempDir.resolve("notifications.log");
+        MutableClock clock = new MutableClock(Instant.parse("2025-01-07T23:59:00Z"));
+        try (NotificationLogAppender appender = new NotificationLogAppender(log, 16,
+                NotificationLogAppender.RotationPolicy.daily(7), NotificationLogAppender.FlushPolicy.FSYNC, 0, clock)) {
+            appender.append("kemarin");
+            appender.flush();
+            clock.set(Instant.parse("2025-01-08T00:01:00Z"));
+            appender.append("hari ini");
+            appender.flush();
+        }
+
+        assertTrue(Files.readString(tempDir.resolve("notifications.log.2025-01-07")).contains("kemarin"));
+        assertTrue(Files.readString(log).contains("hari ini"));
+        assertFalse(Files.readString(log).contains("kemarin"));
+    }
+
+    @Test
+    void testFullBufferDropsOldestAndRecordsCount() throws Exception {
+        Path log = tempDir.resolve("notifications.log");
+        try (NotificationLogAppender appender = new NotificationLogAppender(log, 4,
+                NotificationLogAppender.RotationPolicy.none(), NotificationLogAppender.FlushPolicy.WRITE, 10_000)) {
+            for (int i = 0; i < 10; i++) {
+                appender.append("pesan " + i);
+            }
+            appender.flush();
+        }
+
+        String content = Files.readString(log);
+        assertTrue(content.contains("6 notifikasi dibuang"));
+        assertFalse(content.contains("pesan 5"));
+        assertTrue(content.contains("pesan 9"));
+    }
+}
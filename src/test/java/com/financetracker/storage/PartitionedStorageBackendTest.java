@@ -0,0 +1,109 @@
+package com.financetracker.storage;
+
+import com.financetracker.model.Category;
+import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PartitionedStorageBackendTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Transaction tx(String id, LocalDate date) {
+        return new Transaction(id, date, "Tx " + id, 10000, TransactionType.EXPENSE, Category.MAKANAN);
+    }
+
+    private List<Transaction> sample() {
+        List<Transaction> transactions = new ArrayList<>();
+        transactions.add(tx("a", LocalDate.of(2024, 11, 3)));
+        transactions.add(tx("b", LocalDate.of(2024, 12, 5)));
+        transactions.add(tx("c", LocalDate.of(2025, 1, 7)));
+        transactions.add(tx("d", LocalDate.of(2025, 1, 9)));
+        return transactions;
+    }
+
+    @Test
+    void testSaveWritesOnePartitionPerMonth() throws Exception {
+        PartitionedStorageBackend backend = new PartitionedStorageBackend(tempDir);
+        backend.save(sample());
+
+        assertTrue(Files.exists(tempDir.resolve("2024/11.json")));
+        assertTrue(Files.exists(tempDir.resolve("2025/01.json")));
+        assertTrue(Files.exists(tempDir.resolve("manifest.json")));
+        assertEquals(List.of(YearMonth.of(2024, 11), YearMonth.of(2024, 12), YearMonth.of(2025, 1)),
+                backend.getPartitions());
+        assertEquals(4, backend.load().size());
+    }
+
+    @Test
+    void testStreamRangeReadsOnlyRequestedMonths() throws Exception {
+        PartitionedStorageBackend backend = new PartitionedStorageBackend(tempDir);
+        backend.save(sample());
+
+        List<Transaction> recent = new ArrayList<>();
+        backend.stream(YearMonth.of(2024, 12), null, recent::add, LoadProgressListener.NONE);
+
+        assertEquals(List.of("b", "c", "d"), recent.stream().map(Transaction::getId).toList());
+    }
+
+    @Test
+    void testOnlyDirtyPartitionIsRewritten() throws Exception {
+        PartitionedStorageBackend backend = new PartitionedStorageBackend(tempDir);
+        List<Transaction> transactions = sample();
+        backend.save(transactions);
+
+        FileTime old = FileTime.fromMillis(0);
+        Path november = tempDir.resolve("2024/11.json");
+        Path january = tempDir.resolve("2025/01.json");
+        Files.setLastModifiedTime(november, old);
+        Files.setLastModifiedTime(january, old);
+
+        transactions.add(tx("e", LocalDate.of(2025, 1, 20)));
+        backend.save(transactions);
+
+        assertEquals(old, Files.getLastModifiedTime(november));
+        assertNotEquals(old, Files.getLastModifiedTime(january));
+    }
+
+    @Test
+    void testCompactTouchesOnlyJournalMonths() throws Exception {
+        PartitionedStorageBackend backend = new PartitionedStorageBackend(tempDir);
+        List<Transaction> transactions = sample();
+        backend.save(transactions);
+        Path november = tempDir.resolve("2024/11.json");
+        FileTime old = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(november, old);
+
+        TransactionJournal journal = new TransactionJournal(tempDir.resolve("tx.journal"));
+        journal.appendDelete(transactions.get(1));
+        journal.appendAdd(tx("f", LocalDate.of(2025, 2, 1)));
+        backend.compact(journal.readOverlay());
+
+        assertEquals(old, Files.getLastModifiedTime(november));
+        assertFalse(Files.exists(tempDir.resolve("2024/12.json")));
+        assertEquals(List.of("a", "c", "d", "f"), backend.load().stream().map(Transaction::getId).toList());
+    }
+
+    @Test
+    void testManifestIsRebuiltWhenMissing() throws Exception {
+        new PartitionedStorageBackend(tempDir).save(sample());
+        Files.delete(tempDir.resolve("manifest.json"));
+
+        PartitionedStorageBackend reopened = new PartitionedStorageBackend(tempDir);
+
+        assertEquals(3, reopened.getPartitions().size());
+        assertEquals(4, reopened.load().size());
+    }
+}
@@ -0,0 +1,78 @@
+package com.financetracker.storage;
+
+import com.financetracker.model.Category;
+import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Transaction tx(String id) {
+        return new Transaction(id, LocalDate.of(2025, 12, 1), "Makan " + id, 25000,
+                TransactionType.EXPENSE, Category.MAKANAN);
+    }
+
+    @Test
+    void testReplayAppliesAddAndDeleteOnSnapshot() throws Exception {
+        TransactionJournal journal = new TransactionJournal(tempDir.resolve("tx.journal"));
+        journal.appendAdd(tx("3"));
+        journal.appendDelete(tx("1"));
+        journal.appendAdd(tx("4"));
+
+        List<Transaction> result = journal.replay(List.of(tx("1"), tx("2")));
+
+        assertEquals(List.of("2", "3", "4"), result.stream().map(Transaction::getId).toList());
+        assertEquals(LocalDate.of(2025, 12, 1), result.get(1).getDate());
+    }
+
+    @Test
+    void testReplayIsIdempotentAfterCompaction() throws Exception {
+        TransactionJournal journal = new TransactionJournal(tempDir.resolve("tx.journal"));
+        journal.appendAdd(tx("1"));
+        journal.appendAdd(tx("2"));
+
+        List<Transaction> snapshot = journal.replay(List.of());
+        // Snapshot sudah memuat isi journal, tapi journal belum dikosongkan
+        List<Transaction> again = journal.replay(snapshot);
+
+        assertEquals(2, again.size());
+    }
+
+    @Test
+    void testTornLastLineIsSkipped() throws Exception {
+        Path file = tempDir.resolve("tx.journal");
+        TransactionJournal journal = new TransactionJournal(file);
+        journal.appendAdd(tx("1"));
+        Files.write(file, "{\"op\":\"ADD\",\"tx\":{\"id\":".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        List<Transaction> result = journal.replay(List.of());
+
+        assertEquals(1, result.size());
+    }
+
+    @Test
+    void testTruncateEmptiesJournal() throws Exception {
+        TransactionJournal journal = new TransactionJournal(tempDir.resolve("tx.journal"));
+        journal.appendAdd(tx("1"));
+        assertTrue(journal.size() > 0);
+
+        journal.truncate();
+
+        assertEquals(0, journal.size());
+        assertTrue(journal.replay(List.of()).isEmpty());
+    }
+}
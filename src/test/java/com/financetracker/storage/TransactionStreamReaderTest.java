@@ -0,0 +1,92 @@
+package com.financetracker.storage;
+
+import com.financetracker.model.Category;
+import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionType;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionStreamReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Gson gson;
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        gson = new GsonBuilder()
+                .registerTypeAdapter(LocalDate.class, new LocalDateAdapter())
+                .setPrettyPrinting()
+                .create();
+        file = tempDir.resolve("transactions.json");
+
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            transactions.add(new Transaction(String.valueOf(i), LocalDate.of(2025, 1, 1).plusDays(i % 365),
+                    "Tx " + i, 1000 + i, TransactionType.EXPENSE, Category.LAINNYA));
+        }
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            gson.toJson(transactions, writer);
+        }
+    }
+
+    @Test
+    void testReadsAllTransactionsInOrder() throws Exception {
+        List<Transaction> result = new ArrayList<>();
+        long count = new TransactionStreamReader(gson).read(file, result::add, LoadProgressListener.NONE);
+
+        assertEquals(2500, count);
+        assertEquals("0", result.get(0).getId());
+        assertEquals("2499", result.get(2499).getId());
+        assertEquals(LocalDate.of(2025, 1, 2), result.get(1).getDate());
+    }
+
+    @Test
+    void testSinkCanStopEarly() throws Exception {
+        List<Transaction> result = new ArrayList<>();
+        long count = new TransactionStreamReader(gson).read(file, tx -> {
+            result.add(tx);
+            return result.size() < 10;
+        }, LoadProgressListener.NONE);
+
+        assertEquals(10, count);
+        assertEquals(10, result.size());
+    }
+
+    @Test
+    void testProgressIsReported() throws Exception {
+        List<long[]> reports = new ArrayList<>();
+        new TransactionStreamReader(gson).read(file, tx -> true,
+                (count, bytesRead, totalBytes) -> reports.add(new long[] {count, bytesRead, totalBytes}));
+
+        assertEquals(3, reports.size());
+        long[] last = reports.get(reports.size() - 1);
+        assertEquals(2500, last[0]);
+        assertEquals(last[2], last[1]);
+    }
+
+    @Test
+    void testEmptyArrayAndMissingFile() throws Exception {
+        Path empty = tempDir.resolve("empty.json");
+        Files.writeString(empty, "[]");
+        TransactionStreamReader reader = new TransactionStreamReader(gson);
+
+        assertEquals(0, reader.read(empty, tx -> true, LoadProgressListener.NONE));
+        assertEquals(0, reader.read(tempDir.resolve("missing.json"), tx -> true, LoadProgressListener.NONE));
+    }
+}
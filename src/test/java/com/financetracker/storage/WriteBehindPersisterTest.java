@@ -0,0 +1,145 @@
+package com.financetracker.storage;
+
+import com.financetracker.model.Category;
+import com.financetracker.model.Transaction;
+import com.financetracker.model.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteBehindPersisterTest {
+
+    private final List<List<TransactionJournal.Entry>> batches = Collections.synchronizedList(new ArrayList<>());
+    private final List<Boolean> forced = Collections.synchronizedList(new ArrayList<>());
+
+    private Transaction tx(String id) {
+        return new Transaction(id, LocalDate.of(2025, 12, 1), "Bensin", 30000,
+                TransactionType.EXPENSE, Category.TRANSPORTASI);
+    }
+
+    private WriteBehindPersister persister(DurabilityMode mode, long intervalMs, long maxDelayMs) {
+        return new WriteBehindPersister((batch, force) -> {
+            batches.add(new ArrayList<>(batch));
+            forced.add(force);
+        }, mode, intervalMs, maxDelayMs);
+    }
+
+    @Test
+    void testAsyncBurstIsWrittenAsOneBatch() throws IOException {
+        WriteBehindPersister persister = persister(DurabilityMode.ASYNC, 60_000, 60_000);
+        for (int i = 0; i < 100; i++) {
+            persister.submit(TransactionJournal.Entry.add(tx(String.valueOf(i))));
+        }
+        assertTrue(batches.isEmpty(), "Belum boleh ditulis sebelum interval flush");
+
+        persister.flush();
+
+        assertEquals(1, batches.size());
+        assertEquals(100, batches.get(0).size());
+        assertTrue(forced.get(0), "flush() eksplisit harus di-fsync");
+        persister.close();
+    }
+
+    @Test
+    void testMutationsOnSameIdAreCoalesced() throws IOException {
+        WriteBehindPersister persister = persister(DurabilityMode.ASYNC, 60_000, 60_000);
+        persister.submit(TransactionJournal.Entry.add(tx("1")));
+        persister.submit(TransactionJournal.Entry.add(tx("2")));
+        persister.submit(TransactionJournal.Entry.delete(tx("1")));
+
+        persister.flush();
+
+        List<TransactionJournal.Entry> batch = batches.get(0);
+        assertEquals(2, batch.size());
+        assertEquals("2", batch.get(0).getId());
+        assertFalse(batch.get(1).isAdd());
+        persister.close();
+    }
+
+    @Test
+    void testMaxDelayBoundsWaitingTime() throws Exception {
+        WriteBehindPersister persister = persister(DurabilityMode.ASYNC, 10, 50);
+        persister.submit(TransactionJournal.Entry.add(tx("1")));
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (batches.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertEquals(1, batches.size());
+        assertFalse(forced.get(0), "Batch ASYNC biasa tidak di-fsync");
+        persister.close();
+    }
+
+    @Test
+    void testGroupCommitAndSyncReturnAfterWrite() throws IOException {
+        WriteBehindPersister group = persister(DurabilityMode.GROUP_COMMIT, 60_000, 60_000);
+        group.submit(TransactionJournal.Entry.add(tx("1")));
+        assertEquals(1, batches.size());
+        assertTrue(forced.get(0));
+        group.close();
+
+        WriteBehindPersister sync = persister(DurabilityMode.SYNC, 60_000, 60_000);
+        sync.submit(TransactionJournal.Entry.add(tx("2")));
+        assertEquals(2, batches.size());
+        assertTrue(forced.get(1));
+        sync.close();
+    }
+
+    @Test
+    void testFailedWriteIsSurfacedToCaller() throws IOException {
+        WriteBehindPersister.BatchWriter failing = (batch, force) -> {
+            throw new IOException("disk penuh");
+        };
+
+        WriteBehindPersister group = new WriteBehindPersister(failing, DurabilityMode.GROUP_COMMIT, 60_000, 60_000);
+        assertThrows(IOException.class, () -> group.submit(TransactionJournal.Entry.add(tx("1"))));
+        group.close();
+
+        WriteBehindPersister sync = new WriteBehindPersister(failing, DurabilityMode.SYNC, 60_000, 60_000);
+        assertThrows(IOException.class, () -> sync.submit(TransactionJournal.Entry.add(tx("2"))));
+        sync.close();
+    }
+
+    @Test
+    void testAsyncFailedBatchIsRequeuedAndRetried() throws IOException {
+        AtomicBoolean diskFull = new AtomicBoolean(true);
+        WriteBehindPersister async = new WriteBehindPersister((batch, force) -> {
+            if (diskFull.get()) throw new IOException("disk penuh");
+            batches.add(new ArrayList<>(batch));
+        }, DurabilityMode.ASYNC, 60_000, 60_000);
+
+        async.submit(TransactionJournal.Entry.add(tx("1")));
+        async.submit(TransactionJournal.Entry.add(tx("2")));
+        IOException failure = assertThrows(IOException.class, async::flush);
+        assertEquals("disk penuh", failure.getCause().getMessage());
+
+        // Mutasi lebih baru untuk id yang sama tidak boleh tertimpa batch yang dikembalikan
+        async.submit(TransactionJournal.Entry.delete(tx("1")));
+        assertThrows(IOException.class, async::flush, "Selama disk gagal, flush tetap melapor");
+
+        diskFull.set(false);
+        async.flush();
+        assertEquals(1, batches.size());
+        List<TransactionJournal.Entry> batch = batches.get(0);
+        assertEquals(2, batch.size());
+        assertEquals("2", batch.get(0).getId());
+        assertEquals("1", batch.get(1).getId());
+        assertFalse(batch.get(1).isAdd());
+        async.close();
+    }
+
+    @Test
+    void testParseDurabilityMode() {
+        assertEquals(DurabilityMode.ASYNC, DurabilityMode.parse(null));
+        assertEquals(DurabilityMode.SYNC, DurabilityMode.parse("SYNC"));
+        assertEquals(DurabilityMode.GROUP_COMMIT, DurabilityMode.parse("group-commit"));
+    }
+}